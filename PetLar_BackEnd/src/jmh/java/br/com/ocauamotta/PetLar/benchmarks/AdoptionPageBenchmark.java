@@ -0,0 +1,99 @@
+package br.com.ocauamotta.PetLar.benchmarks;
+
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSummaryDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.mappers.DateMapper;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
+import br.com.ocauamotta.PetLar.repositories.IAdoptionRepository;
+import br.com.ocauamotta.PetLar.services.AdoptionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Mede a finalização de uma página de adoções ({@code AdoptionService.buildAdoptionResponsePage}):
+ * validação das referências e conversão dos caminhos de imagem em URLs públicas. O enriquecimento
+ * com animais e usuários é feito pelo pipeline de agregação do repositório.
+ * <p>
+ * O repositório é substituído por um mock que apenas devolve a página já projetada, isolando
+ * o custo da aplicação do custo do banco. Os mocks não registram invocações, evitando
+ * o acúmulo de memória ao longo das iterações.
+ * <p>
+ * Executar com {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=AdoptionPageBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AdoptionPageBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private AdoptionService service;
+    private User adopter;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        adopter = BenchmarkFixtures.user("adopter");
+        pageable = PageRequest.of(0, pageSize);
+
+        List<AdoptionResponseDto> adoptions = new ArrayList<>();
+
+        IntStream.range(0, pageSize).forEach(i -> {
+            User owner = BenchmarkFixtures.user("owner-" + i);
+            Animal animal = BenchmarkFixtures.animal("animal-" + i, owner.getId());
+            Adoption adoption = BenchmarkFixtures.adoption("adoption-" + i, animal.getId(), owner.getId(), adopter.getId());
+            adoptions.add(projected(adoption, animal, owner));
+        });
+
+        Page<AdoptionResponseDto> page = new PageImpl<>(adoptions, pageable, pageSize);
+
+        IAdoptionRepository adoptionRepository = mock(IAdoptionRepository.class, withSettings().stubOnly());
+        when(adoptionRepository.findResponsesByAdopterId(anyString(), any(Pageable.class))).thenReturn(page);
+
+        service = new AdoptionService();
+        ReflectionTestUtils.setField(service, "adoptionRepository", adoptionRepository);
+    }
+
+    @Benchmark
+    public Page<AdoptionResponseDto> buildAdoptionResponsePage() {
+        return service.getAdoptionsRequestedByMe(pageable, adopter);
+    }
+
+    /**
+     * Monta o registro no formato devolvido pelo pipeline, com os caminhos de imagem como armazenados.
+     */
+    private AdoptionResponseDto projected(Adoption adoption, Animal animal, User owner) {
+        return new AdoptionResponseDto(
+                adoption.getId(),
+                adoption.getStatus(),
+                new AnimalSummaryDto(animal.getId(), animal.getName(), animal.getBirthDate(), animal.getWeight(),
+                        animal.getType(), animal.getSex(), animal.getSize(), animal.getImagePath(),
+                        animal.getThumbnailPath(), animal.getMediumPath(), animal.getDescription()),
+                new UserSummaryDto(owner.getId(), owner.getName()),
+                new UserSummaryDto(adopter.getId(), adopter.getName()),
+                adoption.getReason(),
+                DateMapper.toText(adoption.getCreatedAt()),
+                DateMapper.toText(adoption.getUpdatedAt())
+        );
+    }
+}
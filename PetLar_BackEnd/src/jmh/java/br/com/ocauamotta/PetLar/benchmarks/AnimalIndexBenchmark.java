@@ -0,0 +1,103 @@
+package br.com.ocauamotta.PetLar.benchmarks;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSearchFilterDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepositoryCustom.SearchResult;
+import br.com.ocauamotta.PetLar.services.AnimalIndexService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Mede a busca de animais disponíveis no índice em memória ({@code AnimalIndexService.search}):
+ * filtro por várias características, intervalos de peso e nascimento e busca textual, sempre com
+ * a contagem por espécie, sexo e porte e a primeira página de 20 resultados.
+ * <p>
+ * O índice é construído uma vez a partir de um repositório simulado com animais de características
+ * variadas. A comparação com a mesma busca no MongoDB está em {@code AnimalSearchBenchmarkIT}.
+ * <p>
+ * Executar com {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=AnimalIndexBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnimalIndexBenchmark {
+
+    private static final String[] DESCRIPTIONS = {
+            "Animal docil e vacinado", "Brincalhão, castrado e companheiro", "Calmo, ideal para apartamento",
+            "Resgatado na rua, muito carinhoso", "Vacinado, castrado e vermifugado"
+    };
+
+    @Param({"10000", "100000"})
+    private int animals;
+
+    private AnimalIndexService index;
+    private Pageable pageable;
+
+    private final AnimalSearchFilterDto facets = filter(null, "gato", "femea", "pequeno", null, null, null);
+    private final AnimalSearchFilterDto ranges = filter(null, "cachorro", null, null, 1000, 5000, LocalDate.of(2022, 6, 1));
+    private final AnimalSearchFilterDto text = filter("castrado", null, "macho", null, null, null, null);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pageable = PageRequest.of(0, 20);
+
+        IAnimalRepository repository = mock(IAnimalRepository.class, withSettings().stubOnly());
+        when(repository.streamByStatus(any(AdoptionStatus.class), any(Sort.class)))
+                .thenAnswer(invocation -> IntStream.range(0, animals).mapToObj(this::animal));
+
+        index = new AnimalIndexService();
+        ReflectionTestUtils.setField(index, "repository", repository);
+        index.rebuild();
+    }
+
+    @Benchmark
+    public SearchResult facetFilter() {
+        return index.search(facets, pageable);
+    }
+
+    @Benchmark
+    public SearchResult rangeFilter() {
+        return index.search(ranges, pageable);
+    }
+
+    @Benchmark
+    public SearchResult textSearch() {
+        return index.search(text, pageable);
+    }
+
+    private Animal animal(int i) {
+        Animal animal = BenchmarkFixtures.animal(String.valueOf(i), "author-" + i % 100);
+        animal.setName("Animal " + i);
+        animal.setType(AnimalType.values()[i % AnimalType.values().length]);
+        animal.setSex(AnimalSex.values()[i % AnimalSex.values().length]);
+        animal.setSize(AnimalSize.values()[i % AnimalSize.values().length]);
+        animal.setBirthDate(LocalDate.of(2015 + i % 11, 1 + i % 12, 1));
+        animal.setWeight(500 + i % 30_000);
+        animal.setDescription(DESCRIPTIONS[i % DESCRIPTIONS.length]);
+        animal.setStatus(AdoptionStatus.DISPONIVEL);
+        return animal;
+    }
+
+    private static AnimalSearchFilterDto filter(String q, String type, String sex, String size,
+                                                Integer minWeight, Integer maxWeight, LocalDate bornFrom) {
+        return new AnimalSearchFilterDto(q, null, type, sex, size, minWeight, maxWeight, bornFrom, null);
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.ocauamotta.PetLar.benchmarks;
+
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.mappers.AnimalMapper;
+import br.com.ocauamotta.PetLar.models.Animal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a montagem do {@code $set} de uma atualização parcial de {@code Animal} via Reflection
+ * (a varredura de campos da implementação anterior de {@code AnimalService.updateAnimalFields})
+ * com os acessores pré-resolvidos de {@code AnimalMapper.toUpdate}.
+ * <p>
+ * Os dois caminhos produzem o mesmo {@code Update}, o que é conferido na preparação, para que a
+ * diferença medida seja apenas a forma de leitura dos campos.
+ * <p>
+ * Executar com {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=AnimalMergeBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnimalMergeBenchmark {
+
+    private Animal updated;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        updated = Animal.builder()
+                .name("Rex")
+                .birthDate(LocalDate.of(2025, 10, 10))
+                .weight(1200)
+                .type(AnimalType.CACHORRO)
+                .sex(AnimalSex.MACHO)
+                .size(AnimalSize.MEDIO)
+                .description("Animal docil")
+                .updatedAt(Instant.parse("2025-10-15T15:05:10Z"))
+                .build();
+
+        if (!reflection().getUpdateObject().equals(accessors().getUpdateObject())) {
+            throw new IllegalStateException("Os caminhos comparados não produzem a mesma atualização.");
+        }
+    }
+
+    @Benchmark
+    public Update reflection() {
+        Update update = new Update();
+        for (Field field : updated.getClass().getDeclaredFields()) {
+            if (field.getName().equalsIgnoreCase("id") || field.getName().equals("version")) continue;
+            field.setAccessible(true);
+
+            try {
+                Object newValue = field.get(updated);
+                if (newValue == null) continue;
+
+                update.set(field.getName(), newValue);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException("Erro ao tentar atualizar o campo " + field.getName());
+            }
+        }
+        return update;
+    }
+
+    @Benchmark
+    public Update accessors() {
+        return AnimalMapper.toUpdate(updated);
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.ocauamotta.PetLar.benchmarks;
+
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Entidades de exemplo compartilhadas entre os benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    static final Instant TIME = Instant.parse("2025-10-15T15:05:10.000000015Z");
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(String id) {
+        return User.builder()
+                .id(id)
+                .email("user" + id + "@teste.com")
+                .password("secretPassword")
+                .name("Usuário " + id)
+                .createdAt(TIME)
+                .updatedAt(TIME)
+                .build();
+    }
+
+    static Animal animal(String id, String authorId) {
+        return Animal.builder()
+                .id(id)
+                .name("Rex " + id)
+                .birthDate(LocalDate.of(2025, 10, 10))
+                .weight(1200)
+                .type(AnimalType.CACHORRO)
+                .sex(AnimalSex.MACHO)
+                .size(AnimalSize.PEQUENO)
+                .status(AdoptionStatus.PENDENTE)
+                .authorId(authorId)
+                .imagePath("uploads/animals/rex-" + id + ".jpg")
+                .thumbnailPath("uploads/animals/rex-" + id + "_thumb.jpg")
+                .mediumPath("uploads/animals/rex-" + id + "_medium.jpg")
+                .description("Animal docil")
+                .version(1L)
+                .createdAt(TIME)
+                .updatedAt(TIME)
+                .build();
+    }
+
+    static Adoption adoption(String id, String animalId, String animalOwnerId, String adopterId) {
+        return Adoption.builder()
+                .id(id)
+                .status(AdoptionStatus.PENDENTE)
+                .animalId(animalId)
+                .animalOwnerId(animalOwnerId)
+                .adopterId(adopterId)
+                .reason("Tenho espaço e tempo para cuidar do animal.")
+                .version(0L)
+                .createdAt(TIME)
+                .updatedAt(TIME)
+                .build();
+    }
+}
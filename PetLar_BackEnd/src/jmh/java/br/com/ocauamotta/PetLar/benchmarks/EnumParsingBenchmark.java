@@ -0,0 +1,51 @@
+package br.com.ocauamotta.PetLar.benchmarks;
+
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a conversão dos parâmetros de filtro e dos campos de requisição nos enums do domínio.
+ * <p>
+ * Os rótulos são informados com capitalização variada, como chegam nas requisições,
+ * e correspondem ao último valor de cada enum, o pior caso da busca sequencial.
+ * <p>
+ * Executar com {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=EnumParsingBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnumParsingBenchmark {
+
+    private String status = "Aprovado";
+    private String type = "outro";
+    private String sex = "Femea";
+    private String size = "GRANDE";
+
+    @Benchmark
+    public AdoptionStatus adoptionStatus() {
+        return AdoptionStatus.fromString(status);
+    }
+
+    @Benchmark
+    public AnimalType animalType() {
+        return AnimalType.fromString(type);
+    }
+
+    @Benchmark
+    public AnimalSex animalSex() {
+        return AnimalSex.fromString(sex);
+    }
+
+    @Benchmark
+    public AnimalSize animalSize() {
+        return AnimalSize.fromString(size);
+    }
+}
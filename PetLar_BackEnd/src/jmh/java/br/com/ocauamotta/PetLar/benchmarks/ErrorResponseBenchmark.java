@@ -0,0 +1,35 @@
+package br.com.ocauamotta.PetLar.benchmarks;
+
+import br.com.ocauamotta.PetLar.dtos.ErrorResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a construção das respostas de erro, criadas a cada requisição rejeitada.
+ * <p>
+ * Executar com {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ErrorResponseBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrorResponseBenchmark {
+
+    private final Map<String, String> errors = Map.of(
+            "name", "O nome é obrigatório",
+            "weight", "O peso deve ser maior que zero");
+
+    @Benchmark
+    public ErrorResponse simple() {
+        return new ErrorResponse("/api/animals/1", 404, "Nenhum registro encontrado com ID - 1");
+    }
+
+    @Benchmark
+    public ErrorResponse withValidationErrors() {
+        return new ErrorResponse("/api/animals", 400, "Parâmetros de entrada inválidos", errors);
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.ocauamotta.PetLar.benchmarks;
+
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.mappers.AdoptionMapper;
+import br.com.ocauamotta.PetLar.mappers.AnimalMapper;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a conversão de entidades em DTOs de resposta, executada para cada item das listagens.
+ * <p>
+ * Executar com {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=MapperBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+    private Animal animal;
+    private Adoption adoption;
+    private User animalOwner;
+    private User adopter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        animalOwner = BenchmarkFixtures.user("1");
+        adopter = BenchmarkFixtures.user("2");
+        animal = BenchmarkFixtures.animal("10", animalOwner.getId());
+        adoption = BenchmarkFixtures.adoption("20", animal.getId(), animalOwner.getId(), adopter.getId());
+    }
+
+    @Benchmark
+    public AnimalResponseDto animalToDTO() {
+        return AnimalMapper.toDTO(animal, animalOwner);
+    }
+
+    @Benchmark
+    public AdoptionResponseDto adoptionToDTO() {
+        return AdoptionMapper.toDTO(adoption, animal, animalOwner, adopter);
+    }
+}
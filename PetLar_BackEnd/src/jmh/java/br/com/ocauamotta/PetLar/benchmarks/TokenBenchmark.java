@@ -0,0 +1,46 @@
+package br.com.ocauamotta.PetLar.benchmarks;
+
+import br.com.ocauamotta.PetLar.models.User;
+import br.com.ocauamotta.PetLar.services.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a emissão e a validação de tokens JWT; a validação ocorre em toda requisição autenticada.
+ * <p>
+ * Executar com {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=TokenBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenBenchmark {
+
+    private TokenService tokenService;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", "benchmark-secret");
+        tokenService.init();
+
+        user = BenchmarkFixtures.user("1");
+        token = tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String getSubject() {
+        return tokenService.getSubject(token);
+    }
+}
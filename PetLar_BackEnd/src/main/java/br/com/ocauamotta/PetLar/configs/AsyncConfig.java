@@ -0,0 +1,78 @@
+package br.com.ocauamotta.PetLar.configs;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuração do processamento assíncrono da aplicação.
+ * <p>
+ * Define executores dedicados e limitados para tarefas em segundo plano, evitando que
+ * trabalhos pesados (como o processamento de imagens) concorram com as threads das requisições.
+ * <p>
+ * Com {@code spring.threads.virtual.enabled=true}, o Spring Boot passa a atender as requisições do
+ * Tomcat e as tarefas do executor padrão em virtual threads; os executores definidos aqui seguem
+ * o mesmo modo.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Tempo máximo de espera pelas tarefas em andamento durante o desligamento, em milissegundos.
+     */
+    private static final long TASK_TERMINATION_TIMEOUT = 30_000;
+
+    @Value("${api.images.executor.core-size:2}")
+    private int imageCoreSize;
+
+    @Value("${api.images.executor.max-size:4}")
+    private int imageMaxSize;
+
+    @Value("${api.images.executor.queue-capacity:100}")
+    private int imageQueueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Executor utilizado na geração das variações de imagem dos animais.
+     * <p>
+     * O pool e a fila são limitados: quando ambos estão cheios, a tarefa é executada
+     * na própria thread que a submeteu, aplicando contrapressão ao upload em vez de
+     * acumular imagens decodificadas em memória.
+     *
+     * <p>
+     * No modo de virtual threads, cada tarefa recebe sua própria virtual thread e o limite de
+     * concorrência ({@code max-size}) é mantido: ao atingi-lo, quem submete a tarefa aguarda
+     * uma vaga, aplicando a mesma contrapressão sem ocupar uma thread de plataforma.
+     *
+     * @return O {@code Executor} de processamento de imagens.
+     */
+    @Bean(name = "imageExecutor")
+    public Executor imageExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("image-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(imageMaxSize);
+            executor.setTaskTerminationTimeout(TASK_TERMINATION_TIMEOUT);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageCoreSize);
+        executor.setMaxPoolSize(imageMaxSize);
+        executor.setQueueCapacity(imageQueueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
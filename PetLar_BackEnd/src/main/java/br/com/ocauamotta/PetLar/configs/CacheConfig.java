@@ -0,0 +1,83 @@
+package br.com.ocauamotta.PetLar.configs;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+
+/**
+ * Configuração dos caches em memória da aplicação.
+ * <p>
+ * Cada cache é limitado por quantidade de entradas e por tempo de vida, e registra
+ * estatísticas de acertos e falhas, coletadas em {@code /actuator/prometheus} ({@code cache_gets_total})
+ * para apoiar o dimensionamento.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache de {@code AnimalResponseDto} indexado pelo ID do animal.
+     */
+    public static final String ANIMALS_CACHE = "animals";
+
+    /**
+     * Cache das primeiras páginas da listagem pública de animais, indexado por filtro e paginação.
+     */
+    public static final String ANIMAL_PAGES_CACHE = "animalPages";
+
+    @Value("${api.cache.animals.max-size:10000}")
+    private long animalsMaxSize;
+
+    @Value("${api.cache.animals.ttl:10m}")
+    private Duration animalsTtl;
+
+    @Value("${api.cache.animal-pages.max-size:1000}")
+    private long animalPagesMaxSize;
+
+    @Value("${api.cache.animal-pages.ttl:30s}")
+    private Duration animalPagesTtl;
+
+    @Value("${api.cache.animal-pages.max-page:3}")
+    private int animalPagesMaxPage;
+
+    /**
+     * Cria o {@code CacheManager} baseado no Caffeine com a configuração individual de cada cache.
+     *
+     * @return O {@code CacheManager} da aplicação.
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(ANIMALS_CACHE, Caffeine.newBuilder()
+                .maximumSize(animalsMaxSize)
+                .expireAfterWrite(animalsTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(ANIMAL_PAGES_CACHE, Caffeine.newBuilder()
+                .maximumSize(animalPagesMaxSize)
+                .expireAfterWrite(animalPagesTtl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    /**
+     * Indica se a página solicitada deve ser mantida no cache {@code animalPages}.
+     * <p>
+     * Apenas as primeiras páginas concentram o tráfego anônimo; páginas profundas são raras
+     * e ocupariam o cache sem retorno.
+     *
+     * @param pageable A paginação solicitada.
+     * @return {@code true} se a página estiver dentro do limite configurado.
+     */
+    public boolean isCacheablePage(Pageable pageable) {
+        return pageable.isPaged() && pageable.getPageNumber() < animalPagesMaxPage;
+    }
+}
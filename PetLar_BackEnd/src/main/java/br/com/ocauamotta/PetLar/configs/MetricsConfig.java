@@ -0,0 +1,84 @@
+package br.com.ocauamotta.PetLar.configs;
+
+import br.com.ocauamotta.PetLar.services.ImageStorageService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+/**
+ * Configuração das métricas de negócio expostas pelo Actuator.
+ * <p>
+ * As métricas HTTP ({@code http.server.requests}, por rota e método de cada controller) e os tempos
+ * dos comandos do MongoDB ({@code mongodb.driver.commands}, por coleção e comando) são registrados
+ * automaticamente pelo Spring Boot; esta classe acrescenta as métricas próprias da aplicação.
+ * Todas ficam disponíveis para coleta em {@code /actuator/prometheus}, na porta de gerenciamento.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Registra os medidores do diretório de uploads: o espaço ocupado e a quantidade de imagens.
+     * <p>
+     * Os valores são calculados no momento da coleta, listando o diretório público de imagens.
+     *
+     * @return O {@code MeterBinder} com os medidores do diretório de uploads.
+     */
+    @Bean
+    public MeterBinder uploadDirectoryMetrics() {
+        Path uploadDir = Paths.get(ImageStorageService.UPLOAD_DIR);
+
+        return registry -> {
+            Gauge.builder("petlar.uploads.size", uploadDir, MetricsConfig::directorySize)
+                    .description("Espaço ocupado pelas imagens enviadas")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("petlar.uploads.files", uploadDir, MetricsConfig::fileCount)
+                    .description("Quantidade de imagens armazenadas")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Soma o tamanho dos arquivos do diretório, retornando zero enquanto ele não existir.
+     */
+    static double directorySize(Path dir) {
+        if (!Files.isDirectory(dir)) return 0;
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.mapToLong(MetricsConfig::sizeOf).sum();
+        } catch (IOException ex) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Conta os arquivos do diretório, retornando zero enquanto ele não existir.
+     */
+    static double fileCount(Path dir) {
+        if (!Files.isDirectory(dir)) return 0;
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        } catch (IOException ex) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Retorna o tamanho de um arquivo, ignorando arquivos removidos durante a listagem.
+     */
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+}
@@ -1,14 +1,87 @@
 package br.com.ocauamotta.PetLar.configs;
 
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
 /**
  * Configuração de inicialização do Spring Data MongoDB.
  * Habilita o scanning de interfaces que estendem {@code MongoRepository}
- * no pacote de repositórios da aplicação.
+ * no pacote de repositórios da aplicação. Os repositórios reativos são registrados
+ * separadamente por {@code ReactiveMongoConfig}.
  */
 @Configuration
-@EnableMongoRepositories(basePackages = "br.com.ocauamotta.PetLar.repositories")
+@EnableMongoRepositories(basePackages = "br.com.ocauamotta.PetLar.repositories",
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ReactiveMongoRepository.class))
 public class MongoConfig {
-}
\ No newline at end of file
+
+    /**
+     * Entidades cujos índices declarados ({@code @Indexed}, {@code @CompoundIndex}) devem existir no banco.
+     */
+    private static final List<Class<?>> INDEXED_ENTITIES = List.of(Animal.class, Adoption.class, User.class);
+
+    /**
+     * Entidades que possuem campo {@code @Version}.
+     */
+    private static final List<Class<?>> VERSIONED_ENTITIES = List.of(Animal.class, Adoption.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mappingContext;
+
+    /**
+     * Garante a criação dos índices declarados nas entidades durante a inicialização.
+     * <p>
+     * Os índices são resolvidos a partir das anotações de mapeamento, de modo que cada consulta
+     * derivada dos repositórios seja atendida por um índice em vez de uma varredura completa
+     * da coleção (COLLSCAN), independentemente da propriedade {@code auto-index-creation}.
+     * A criação é idempotente: índices já existentes não são recriados.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void initIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entity);
+            resolver.resolveIndexFor(entity).forEach(indexOps::createIndex);
+        }
+    }
+
+    /**
+     * Inicializa o campo {@code version} em documentos gravados antes da adoção do controle
+     * de concorrência otimista.
+     * <p>
+     * Sem esse campo, o Spring Data trataria o documento lido como novo e um {@code save}
+     * tentaria inseri-lo novamente. A operação é idempotente e só afeta documentos sem versão.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void initVersions() {
+        for (Class<?> entity : VERSIONED_ENTITIES) {
+            mongoTemplate.updateMulti(
+                    query(where("version").exists(false)),
+                    new Update().set("version", 0L),
+                    entity);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.ocauamotta.PetLar.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+/**
+ * Configuração dos repositórios reativos do Spring Data MongoDB.
+ * <p>
+ * Ativa apenas no perfil {@code reactive}, que disponibiliza as leituras não bloqueantes de animais
+ * e adoções em paralelo às rotas tradicionais, permitindo comparar as duas implementações sob a mesma carga.
+ */
+@Configuration
+@Profile("reactive")
+@EnableReactiveMongoRepositories(basePackages = "br.com.ocauamotta.PetLar.repositories.reactive")
+public class ReactiveMongoConfig {
+}
@@ -3,7 +3,9 @@ package br.com.ocauamotta.PetLar.configs;
 import br.com.ocauamotta.PetLar.filters.SecurityFilter;
 import br.com.ocauamotta.PetLar.handlers.CustomAccessDeniedHandler;
 import br.com.ocauamotta.PetLar.handlers.CustomAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -39,6 +41,8 @@ public class SecurityConfig {
      * <li>Desabilita o CSRF (Cross-Site Request Forgery).</li>
      * <li>Define a política de criação de sessão como {@code SessionCreationPolicy.STATELESS}.</li>
      * <li>Permite acesso público ao endpoint de login e de cadastro.</li>
+     * <li>Permite a coleta de {@code health} e {@code prometheus}, servidos apenas na porta de gerenciamento.</li>
+     * <li>Libera os despachos assíncronos (como as respostas {@code Mono}), cuja requisição original já foi autorizada.</li>
      * <li>Exige autenticação para todas as outras requisições.</li>
      * <li>Define handlers customizados {@code CustomAuthenticationEntryPoint} e {@code CustomAccessDeniedHandler}
      * para tratar falhas de autenticação 401 Unauthorized e autorização 403 Forbidden.</li>
@@ -61,21 +65,31 @@ public class SecurityConfig {
         String apiDocs = "/v3/api-docs/**";
         String swaggerUi = "/swagger-ui/**";
         String findAllAnimals = apiPrefix + "/animals";
+        String scrollAnimals = apiPrefix + "/animals/scroll";
+        String searchAnimals = apiPrefix + "/animals/search";
+        String nearbyAnimals = apiPrefix + "/animals/nearby";
         String findAnimalById = apiPrefix + "/animals/{id}";
         String findMyAnimals = apiPrefix + "/animals/my";
-        String publicImages = "public/animals/**";
+        String exportAnimals = apiPrefix + "/animals/export";
+        String reactiveAnimals = apiPrefix + "/reactive/animals";
+        String reactiveAnimalById = apiPrefix + "/reactive/animals/{id}";
+        String publicImages = "/public/animals/**";
 
         return http.csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(req -> {
+                    req.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     req.requestMatchers(loginPath).permitAll();
                     req.requestMatchers(registerPath).permitAll();
-                    req.requestMatchers(HttpMethod.GET, findMyAnimals).authenticated();
+                    req.requestMatchers(HttpMethod.GET, findMyAnimals, exportAnimals).authenticated();
+                    req.requestMatchers(HttpMethod.GET, scrollAnimals, searchAnimals, nearbyAnimals).permitAll();
                     req.requestMatchers(HttpMethod.GET, findAnimalById).permitAll();
                     req.requestMatchers(HttpMethod.GET, findAllAnimals).permitAll();
+                    req.requestMatchers(HttpMethod.GET, reactiveAnimals, reactiveAnimalById).permitAll();
                     req.requestMatchers(publicImages).permitAll();
                     req.requestMatchers(apiDocs).permitAll();
                     req.requestMatchers(swaggerUi).permitAll();
+                    req.requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll();
                     req.anyRequest().authenticated();
                 })
                 .exceptionHandling(ex -> ex
@@ -1,21 +1,60 @@
 package br.com.ocauamotta.PetLar.configs;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.PathResourceResolver;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
+/**
+ * Configuração da entrega das imagens enviadas pelos usuários em {@code /public/animals/**}.
+ * <p>
+ * Cada imagem é gravada com um nome único ({@code UUID}) e nunca é alterada depois de publicada;
+ * uma nova imagem sempre gera um novo nome. Por isso os arquivos são servidos como recursos
+ * imutáveis, com cache de longa duração no navegador e em proxies, {@code ETag} forte e
+ * {@code Last-Modified} para requisições condicionais (304), e suporte a requisições parciais
+ * ({@code Range}), tratado nativamente pelo {@code ResourceHttpRequestHandler}.
+ */
 @Configuration
 public class StaticResourceConfig implements WebMvcConfigurer {
 
+    /**
+     * Tempo de cache das imagens públicas.
+     */
+    private static final Duration IMAGE_CACHE_PERIOD = Duration.ofDays(365);
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         Path uploadDir = Paths.get("uploads/animals");
         String uploadPath = uploadDir.toFile().getAbsolutePath();
 
         registry.addResourceHandler("/public/animals/**")
-                .addResourceLocations("file:" + uploadPath + "/");
+                .addResourceLocations("file:" + uploadPath + "/")
+                .setCacheControl(CacheControl.maxAge(IMAGE_CACHE_PERIOD).cachePublic().immutable())
+                .setUseLastModified(true)
+                .setEtagGenerator(StaticResourceConfig::generateEtag)
+                .resourceChain(true)
+                .addResolver(new PathResourceResolver());
+    }
+
+    /**
+     * Gera um {@code ETag} forte a partir do nome único do arquivo e de sua data de modificação,
+     * sem a necessidade de ler o conteúdo da imagem.
+     *
+     * @param resource O recurso a ser servido.
+     * @return O valor do {@code ETag}, ou {@code null} se os metadados do arquivo não puderem ser lidos.
+     */
+    private static String generateEtag(Resource resource) {
+        try {
+            return resource.getFilename() + "-" + Long.toHexString(resource.lastModified());
+        } catch (IOException ex) {
+            return null;
+        }
     }
 }
@@ -4,22 +4,30 @@ import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionRequestDto;
 import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
 import br.com.ocauamotta.PetLar.dtos.Adoption.EditReasonDto;
 import br.com.ocauamotta.PetLar.dtos.ErrorResponse;
+import br.com.ocauamotta.PetLar.enums.FileFormat;
 import br.com.ocauamotta.PetLar.models.User;
 import br.com.ocauamotta.PetLar.services.AdoptionService;
+import br.com.ocauamotta.PetLar.services.AdoptionStreamService;
+import br.com.ocauamotta.PetLar.services.ExportService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Controller que gerencia os endpoints relacionados ao processo de adoção de animais.
@@ -34,6 +42,12 @@ public class AdoptionController {
     @Autowired
     private AdoptionService service;
 
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private AdoptionStreamService streamService;
+
     /**
      * Cria uma nova solicitação de adoção para um animal.
      * <p>
@@ -187,6 +201,185 @@ public class AdoptionController {
         return ResponseEntity.ok(service.getRequestsForMyAnimals(pageable, user));
     }
 
+    /**
+     * Abre uma conexão de eventos (Server-Sent Events) com as alterações das solicitações de adoção
+     * feitas pelo usuário autenticado ou aos seus animais.
+     *
+     * @param lastEventId O ID do último evento recebido, enviado pelo cliente ao reconectar.
+     * @param user O usuário autenticado obtido do contexto de segurança.
+     * @return O {@code SseEmitter} da conexão.
+     */
+    @Operation(
+            summary = "Acompanhar as solicitações de adoção em tempo real",
+            description = "Abre uma conexão Server-Sent Events que recebe um evento \"adoption\", com o estado atual " +
+                    "da solicitação, sempre que uma adoção do usuário (como adotante ou autor do animal) é criada, " +
+                    "aceita, recusada, cancelada ou tem a justificativa alterada. Comentários de heartbeat mantêm a " +
+                    "conexão aberta. Ao reconectar com o cabeçalho Last-Event-ID, os eventos perdidos são reenviados; " +
+                    "se não estiverem mais disponíveis, é enviado um evento \"resync\", indicando que a listagem deve " +
+                    "ser recarregada.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Conexão aberta",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = AdoptionResponseDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Last-Event-ID inválido",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/adoptions/me/stream",
+                                                                "status": 400,
+                                                                "message": "Last-Event-ID inválido: abc"
+                                                            }
+                                                            """
+                                            )
+                                    })),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/adoptions/me/stream",
+                                                                "status": 500,
+                                                                "message": "Ocorreu um erro no servidor."
+                                                            }
+                                                            """
+                                            )
+                                    }))
+            }
+    )
+    @GetMapping(value = "/me/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMyAdoptions(@Parameter(description = "ID do último evento recebido, enviado pelo navegador ao reconectar")
+                                        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                        @AuthenticationPrincipal User user) {
+        return streamService.subscribe(user.getId(), lastEventId);
+    }
+
+    /**
+     * Exporta todas as solicitações de adoção feitas pelo usuário autenticado em um arquivo NDJSON ou CSV.
+     *
+     * @param format Formato do arquivo.
+     * @param user O usuário autenticado obtido do contexto de segurança.
+     * @param response A resposta HTTP, na qual o arquivo é escrito.
+     * @return A {@code WebAsyncTask} que escreve o arquivo diretamente no fluxo de saída, registro a registro.
+     */
+    @Operation(
+            summary = "Exportar as solicitações de adoção do usuário",
+            description = "Gera um arquivo NDJSON ou CSV com todas as solicitações de adoção do usuário autenticado, " +
+                    "lidas por um único cursor e enviadas à medida que são processadas.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Arquivo gerado com sucesso",
+                            content = {
+                                    @Content(mediaType = "application/x-ndjson"),
+                                    @Content(mediaType = "text/csv")
+                            }),
+                    @ApiResponse(responseCode = "400", description = "Formato inválido",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/adoptions/me/requests/export",
+                                                                "status": 400,
+                                                                "message": "Formato inválido: xlsx"
+                                                            }
+                                                            """
+                                            )
+                                    })),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/adoptions/me/requests/export",
+                                                                "status": 500,
+                                                                "message": "Ocorreu um erro no servidor."
+                                                            }
+                                                            """
+                                            )
+                                    }))
+            }
+    )
+    @GetMapping(value = "/me/requests/export")
+    public WebAsyncTask<Void> exportAdoptionsRequestedByMe(@Parameter(description = "Formato do arquivo: ndjson ou csv")
+                                                           @RequestParam(required = false, defaultValue = "ndjson") String format,
+                                                           @AuthenticationPrincipal User user,
+                                                           HttpServletResponse response) {
+        FileFormat fileFormat = FileFormat.fromString(format);
+        return exportService.download(fileFormat, "adoption-requests",
+                exportService.exportAdoptionsRequestedBy(fileFormat, user), response);
+    }
+
+    /**
+     * Exporta todas as solicitações de adoção feitas aos animais do usuário autenticado em um arquivo NDJSON ou CSV.
+     *
+     * @param format Formato do arquivo.
+     * @param user O usuário autenticado obtido do contexto de segurança.
+     * @param response A resposta HTTP, na qual o arquivo é escrito.
+     * @return A {@code WebAsyncTask} que escreve o arquivo diretamente no fluxo de saída, registro a registro.
+     */
+    @Operation(
+            summary = "Exportar as solicitações de adoção feitas aos animais do usuário",
+            description = "Gera um arquivo NDJSON ou CSV com todas as solicitações de adoção realizadas aos animais do usuário, " +
+                    "lidas por um único cursor e enviadas à medida que são processadas.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Arquivo gerado com sucesso",
+                            content = {
+                                    @Content(mediaType = "application/x-ndjson"),
+                                    @Content(mediaType = "text/csv")
+                            }),
+                    @ApiResponse(responseCode = "400", description = "Formato inválido",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/adoptions/me/animals/export",
+                                                                "status": 400,
+                                                                "message": "Formato inválido: xlsx"
+                                                            }
+                                                            """
+                                            )
+                                    })),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/adoptions/me/animals/export",
+                                                                "status": 500,
+                                                                "message": "Ocorreu um erro no servidor."
+                                                            }
+                                                            """
+                                            )
+                                    }))
+            }
+    )
+    @GetMapping(value = "/me/animals/export")
+    public WebAsyncTask<Void> exportRequestsForMyAnimals(@Parameter(description = "Formato do arquivo: ndjson ou csv")
+                                                         @RequestParam(required = false, defaultValue = "ndjson") String format,
+                                                         @AuthenticationPrincipal User user,
+                                                         HttpServletResponse response) {
+        FileFormat fileFormat = FileFormat.fromString(format);
+        return exportService.download(fileFormat, "adoptions-received",
+                exportService.exportRequestsForAnimalsOf(fileFormat, user), response);
+    }
+
     /**
      * Cancela uma solicitação de adoção específica.
      * <p>
@@ -1,10 +1,17 @@
 package br.com.ocauamotta.PetLar.controllers;
 
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalImportResponseDto;
 import br.com.ocauamotta.PetLar.dtos.Animal.AnimalRequestDto;
 import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSearchFilterDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSearchResponseDto;
 import br.com.ocauamotta.PetLar.dtos.ErrorResponse;
+import br.com.ocauamotta.PetLar.dtos.SliceResponseDto;
+import br.com.ocauamotta.PetLar.enums.FileFormat;
 import br.com.ocauamotta.PetLar.models.User;
+import br.com.ocauamotta.PetLar.services.AnimalImportService;
 import br.com.ocauamotta.PetLar.services.AnimalService;
+import br.com.ocauamotta.PetLar.services.ExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,17 +20,23 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 /**
  * Controller responsável pelos endpoints de gerenciamento de animais.
  * Permite realizar operações de CRUD e filtragem de registros.
@@ -36,6 +49,12 @@ public class AnimalController {
     @Autowired
     private AnimalService service;
 
+    @Autowired
+    private AnimalImportService importService;
+
+    @Autowired
+    private ExportService exportService;
+
     /**
      * Retorna uma lista paginada de animais, podendo ser filtrada por status e tipo.
      *
@@ -78,6 +97,199 @@ public class AnimalController {
         return ResponseEntity.ok(service.findAll(pageable, status, type));
     }
 
+    /**
+     * Retorna uma janela de animais paginada por cursor, podendo ser filtrada por status e tipo.
+     * <p>
+     * Alternativa à listagem paginada por deslocamento para clientes de rolagem infinita:
+     * não calcula o total de registros e mantém o custo constante em janelas profundas.
+     *
+     * @param status Status de adoção do animal.
+     * @param type   Tipo de animal.
+     * @param after  Cursor retornado na janela anterior.
+     * @param size   Quantidade de registros por janela.
+     * @return Um {@code ResponseEntity} contendo um {@code SliceResponseDto} de {@code AnimalResponseDto}.
+     */
+    @Operation(
+            summary = "Listar animais por cursor",
+            description = "Retorna uma janela de animais paginada por cursor (keyset), sem contagem total. " +
+                    "Envie o 'nextCursor' recebido no parâmetro 'after' para obter a próxima janela.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Janela de animais retornada com sucesso",
+                            useReturnTypeSchema = true),
+                    @ApiResponse(responseCode = "400", description = "Cursor ou filtros inválidos",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/animals/scroll",
+                                                                "status": 400,
+                                                                "message": "Cursor inválido."
+                                                            }
+                                                            """
+                                            )
+                                    })),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/animals/scroll",
+                                                                "status": 500,
+                                                                "message": "Ocorreu um erro no servidor."
+                                                            }
+                                                            """
+                                            )
+                                    }))
+            }
+    )
+    @SecurityRequirements({})
+    @GetMapping(value = "/scroll")
+    public ResponseEntity<SliceResponseDto<AnimalResponseDto>> scroll(@Parameter(description = "Status do animal, por padrão é disponivel")
+                                                                      @RequestParam(required = false, defaultValue = "disponivel") String status,
+                                                                      @Parameter(description = "Tipo de animal, por exemplo cachorro, gato, etc.")
+                                                                      @RequestParam(required = false) String type,
+                                                                      @Parameter(description = "Cursor da janela anterior, omitido na primeira requisição")
+                                                                      @RequestParam(required = false) String after,
+                                                                      @Parameter(description = "Quantidade de registros por janela, até 100")
+                                                                      @RequestParam(required = false, defaultValue = "20") int size) {
+        return ResponseEntity.ok(service.scroll(after, size, status, type));
+    }
+
+    /**
+     * Busca animais por texto e características, retornando a página de resultados
+     * e a contagem por espécie, sexo e porte.
+     *
+     * @param filter   Filtros da busca.
+     * @param pageable Informações de paginação.
+     * @return Um {@code ResponseEntity} contendo um {@code AnimalSearchResponseDto}.
+     */
+    @Operation(
+            summary = "Buscar animais",
+            description = "Busca animais pelos termos informados no nome e na descrição, combinados aos filtros " +
+                    "de espécie, sexo, porte, peso e data de nascimento. Sem ordenação explícita, os resultados " +
+                    "são ordenados pela relevância quando há termos de busca, ou pelos mais recentes. " +
+                    "A resposta inclui a contagem de todos os resultados por espécie, sexo e porte. " +
+                    "Atenção: a interpretação dos termos depende da ordenação. Sem o parâmetro sort, a busca por " +
+                    "animais disponíveis retorna os animais que contêm ao menos uma das palavras, inteiras e sem " +
+                    "diferenciar acentos. Com sort, ou para outros status, os termos passam pela busca textual do " +
+                    "MongoDB em português, que reduz as palavras ao radical (\"vacinada\" encontra \"vacinado\"), " +
+                    "ignora palavras comuns e aceita frases entre aspas e exclusões com \"-\". Assim, o mesmo q " +
+                    "pode retornar animais diferentes com e sem sort.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso",
+                            useReturnTypeSchema = true),
+                    @ApiResponse(responseCode = "400", description = "Filtros inválidos",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/animals/search",
+                                                                "status": 400,
+                                                                "message": "Porte inválido: gigante"
+                                                            }
+                                                            """
+                                            )
+                                    })),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/animals/search",
+                                                                "status": 500,
+                                                                "message": "Ocorreu um erro no servidor."
+                                                            }
+                                                            """
+                                            )
+                                    }))
+            }
+    )
+    @SecurityRequirements({})
+    @GetMapping(value = "/search")
+    public ResponseEntity<AnimalSearchResponseDto> search(@ParameterObject @Valid AnimalSearchFilterDto filter,
+                                                          @ParameterObject Pageable pageable) {
+        return ResponseEntity.ok(service.search(filter, pageable));
+    }
+
+    /**
+     * Busca os animais próximos a um ponto, do mais próximo ao mais distante, podendo ser filtrada por status e tipo.
+     *
+     * @param latitude  Latitude do ponto de referência.
+     * @param longitude Longitude do ponto de referência.
+     * @param radiusKm  Raio da busca, em quilômetros.
+     * @param status    Status de adoção do animal.
+     * @param type      Tipo de animal.
+     * @param pageable  Informações de paginação.
+     * @return Um {@code ResponseEntity} contendo uma {@code Page} de {@code AnimalResponseDto} com a distância de cada animal.
+     */
+    @Operation(
+            summary = "Buscar animais próximos",
+            description = "Retorna uma lista paginada dos animais com localização informada dentro do raio a partir " +
+                    "do ponto de referência, ordenada do mais próximo ao mais distante. Cada animal inclui a distância " +
+                    "até o ponto, em quilômetros. Pode ser filtrada por status (por padrão disponivel) e tipo.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lista de animais retornada com sucesso",
+                            useReturnTypeSchema = true),
+                    @ApiResponse(responseCode = "400", description = "Coordenadas, raio ou filtros inválidos",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/animals/nearby",
+                                                                "status": 400,
+                                                                "message": "A latitude deve estar entre -90 e 90."
+                                                            }
+                                                            """
+                                            )
+                                    })),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/animals/nearby",
+                                                                "status": 500,
+                                                                "message": "Ocorreu um erro no servidor."
+                                                            }
+                                                            """
+                                            )
+                                    }))
+            }
+    )
+    @SecurityRequirements({})
+    @GetMapping(value = "/nearby")
+    public ResponseEntity<Page<AnimalResponseDto>> findNearby(@Parameter(description = "Latitude do ponto de referência", example = "-23.5505")
+                                                              @RequestParam("lat") double latitude,
+                                                              @Parameter(description = "Longitude do ponto de referência", example = "-46.6333")
+                                                              @RequestParam("lng") double longitude,
+                                                              @Parameter(description = "Raio da busca em quilômetros, por padrão 10")
+                                                              @RequestParam(required = false, defaultValue = "10") double radiusKm,
+                                                              @Parameter(description = "Status do animal, por padrão é disponivel")
+                                                              @RequestParam(required = false, defaultValue = "disponivel") String status,
+                                                              @Parameter(description = "Tipo de animal, por exemplo cachorro, gato, etc.")
+                                                              @RequestParam(required = false) String type,
+                                                              @ParameterObject Pageable pageable) {
+        return ResponseEntity.ok(service.findNearby(latitude, longitude, radiusKm, status, type, pageable));
+    }
+
     /**
      * Retorna uma lista paginada de animais de acordo com o usuário autor.
      *
@@ -113,6 +325,69 @@ public class AnimalController {
         return ResponseEntity.ok(service.findMyAnimals(pageable, user));
     }
 
+    /**
+     * Exporta os animais em um arquivo NDJSON ou CSV, podendo filtrar por status e tipo.
+     *
+     * @param format Formato do arquivo.
+     * @param status Status de adoção do animal.
+     * @param type   Tipo de animal.
+     * @param response A resposta HTTP, na qual o arquivo é escrito.
+     * @return A {@code WebAsyncTask} que escreve o arquivo diretamente no fluxo de saída, registro a registro.
+     */
+    @Operation(
+            summary = "Exportar animais",
+            description = "Gera um arquivo NDJSON ou CSV com todos os animais, lidos por um único cursor e " +
+                    "enviados à medida que são processados. Indicado para relatórios, no lugar da paginação da listagem.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Arquivo gerado com sucesso",
+                            content = {
+                                    @Content(mediaType = "application/x-ndjson"),
+                                    @Content(mediaType = "text/csv")
+                            }),
+                    @ApiResponse(responseCode = "400", description = "Formato ou filtros inválidos",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/animals/export",
+                                                                "status": 400,
+                                                                "message": "Formato inválido: xlsx"
+                                                            }
+                                                            """
+                                            )
+                                    })),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/animals/export",
+                                                                "status": 500,
+                                                                "message": "Ocorreu um erro no servidor."
+                                                            }
+                                                            """
+                                            )
+                                    }))
+            }
+    )
+    @GetMapping(value = "/export")
+    public WebAsyncTask<Void> export(@Parameter(description = "Formato do arquivo: ndjson ou csv")
+                                     @RequestParam(required = false, defaultValue = "ndjson") String format,
+                                     @Parameter(description = "Status do animal, por padrão todos")
+                                     @RequestParam(required = false) String status,
+                                     @Parameter(description = "Tipo de animal, por exemplo cachorro, gato, etc.")
+                                     @RequestParam(required = false) String type,
+                                     HttpServletResponse response) {
+        FileFormat fileFormat = FileFormat.fromString(format);
+        return exportService.download(fileFormat, "animals", exportService.exportAnimals(fileFormat, status, type), response);
+    }
+
     /**
      * Busca um animal pelo seu ID.
      *
@@ -226,6 +501,78 @@ public class AnimalController {
         return ResponseEntity.status(HttpStatus.CREATED).body(service.save(dto, image, user));
     }
 
+    /**
+     * Cadastra animais em lote a partir de um arquivo NDJSON ou CSV enviado como corpo da requisição.
+     *
+     * @param contentType O tipo do arquivo: {@code application/x-ndjson} ou {@code text/csv}.
+     * @param contentLength O tamanho do arquivo em bytes.
+     * @param body O conteúdo do arquivo, com um animal por linha.
+     * @param user O usuário autenticado, injetado pelo Spring Security.
+     * @return Um {@code ResponseEntity} contendo o {@code AnimalImportResponseDto} com o resultado de cada linha.
+     */
+    @Operation(
+            summary = "Importar animais em lote",
+            description = "Cadastra vários animais a partir de um arquivo enviado como corpo da requisição, " +
+                    "com até 20MB. Aceita NDJSON (Content-Type application/x-ndjson, um objeto JSON por linha) " +
+                    "ou CSV (Content-Type text/csv, com cabeçalho name,birthDate,weight,type,sex,size,description). " +
+                    "Linhas inválidas são rejeitadas individualmente e descritas no relatório, sem interromper a importação.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    description = "Arquivo NDJSON ou CSV com um animal por linha.",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson", schema = @Schema(type = "string")),
+                            @Content(mediaType = "text/csv", schema = @Schema(type = "string"))
+                    }),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Arquivo processado, relatório por linha retornado",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = AnimalImportResponseDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Formato de arquivo não suportado ou arquivo maior que o limite",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/animals/import",
+                                                                "status": 400,
+                                                                "message": "Formato de arquivo não suportado. Envie um arquivo NDJSON (application/x-ndjson) ou CSV (text/csv)."
+                                                            }
+                                                            """
+                                            )
+                                    })),
+                    @ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    value = """
+                                                            {
+                                                                "timestamp": "2025-11-10T12:00:00.123456-03:00",
+                                                                "path": "/api/animals/import",
+                                                                "status": 500,
+                                                                "message": "Ocorreu um erro no servidor."
+                                                            }
+                                                            """
+                                            )
+                                    }))
+            }
+    )
+    @PostMapping("/import")
+    public ResponseEntity<AnimalImportResponseDto> importAnimals(
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+
+            InputStream body,
+
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(importService.importAnimals(body, contentType, contentLength, user));
+    }
+
     /**
      * Atualiza as informações de um animal existente.
      *
@@ -7,6 +7,7 @@ import br.com.ocauamotta.PetLar.exceptions.Animal.UserWhoIsNotTheOwnerOfTheAnima
 import br.com.ocauamotta.PetLar.exceptions.User.DuplicateEmailException;
 import br.com.ocauamotta.PetLar.exceptions.User.SamePasswordException;
 import br.com.ocauamotta.PetLar.exceptions.User.UserInactiveException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -280,6 +281,20 @@ public class GlobalExceptionHandler {
         return buildError(HttpStatus.METHOD_NOT_ALLOWED, customMessage, request);
     }
 
+    /**
+     * Trata conflitos de concorrência otimista, quando o registro foi alterado por outra
+     * requisição entre a leitura e a gravação.
+     *
+     * @param ex A exceção {@code OptimisticLockingFailureException} lançada.
+     * @param request O contexto da requisição web para obter o path.
+     * @return Uma {@code ResponseEntity} com o status 409 e o corpo {@code ErrorResponse}.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, WebRequest request) {
+        return buildError(HttpStatus.CONFLICT, "O registro foi alterado por outra requisição. Tente novamente.", request);
+    }
+
     /**
      * Trata quaisquer exceções de {@code RuntimeException} que não foram tratadas
      * especificamente por outras exceptions.
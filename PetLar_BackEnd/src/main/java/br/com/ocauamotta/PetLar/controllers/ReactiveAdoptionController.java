@@ -0,0 +1,72 @@
+package br.com.ocauamotta.PetLar.controllers;
+
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+import br.com.ocauamotta.PetLar.models.User;
+import br.com.ocauamotta.PetLar.services.ReactiveAdoptionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controller com as listagens de adoções do usuário autenticado servidas pelo {@code ReactiveAdoptionService}.
+ * <p>
+ * Expõe as mesmas rotas de leitura de {@code AdoptionController} sob o prefixo {@code /reactive}.
+ * Disponível apenas no perfil {@code reactive}.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping(path = "${api.prefix}/reactive/adoptions")
+@Tag(name = "Adoções (reativo)", description = "Leituras de adoções sobre o driver reativo do MongoDB")
+public class ReactiveAdoptionController {
+
+    @Autowired
+    private ReactiveAdoptionService service;
+
+    /**
+     * Lista todas as solicitações de adoção feitas pelo usuário autenticado.
+     *
+     * @param pageable Informações de paginação.
+     * @param user O usuário autenticado obtido do contexto de segurança.
+     * @return Um {@code Mono} com a página de solicitações.
+     */
+    @Operation(
+            summary = "Buscar todas as solicitações de adoção (reativo)",
+            description = "Equivalente a GET /adoptions/me/requests, executado sobre o driver reativo do MongoDB.",
+            responses = @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso.",
+                    useReturnTypeSchema = true)
+    )
+    @GetMapping(value = "/me/requests")
+    public Mono<ResponseEntity<Page<AdoptionResponseDto>>> getAdoptionsRequestedByMe(Pageable pageable,
+                                                                                 @AuthenticationPrincipal User user) {
+        return service.getAdoptionsRequestedByMe(pageable, user).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Lista todas as solicitações de adoção feitas aos animais do usuário autenticado.
+     *
+     * @param pageable Informações de paginação.
+     * @param user O usuário autenticado obtido do contexto de segurança.
+     * @return Um {@code Mono} com a página de solicitações.
+     */
+    @Operation(
+            summary = "Buscar todas as solicitações de adoção feitas aos animais do usuário (reativo)",
+            description = "Equivalente a GET /adoptions/me/animals, executado sobre o driver reativo do MongoDB.",
+            responses = @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso.",
+                    useReturnTypeSchema = true)
+    )
+    @GetMapping(value = "/me/animals")
+    public Mono<ResponseEntity<Page<AdoptionResponseDto>>> getRequestsForMyAnimals(Pageable pageable,
+                                                                               @AuthenticationPrincipal User user) {
+        return service.getRequestsForMyAnimals(pageable, user).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.ocauamotta.PetLar.controllers;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.services.ReactiveAnimalService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirements;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controller com as leituras públicas de animais servidas pelo {@code ReactiveAnimalService}.
+ * <p>
+ * Expõe as mesmas rotas de leitura de {@code AnimalController} sob o prefixo {@code /reactive},
+ * permitindo comparar a latência das duas implementações na mesma instância. O retorno em {@code Mono}
+ * é processado como requisição assíncrona, liberando a thread do servidor enquanto o banco responde.
+ * Disponível apenas no perfil {@code reactive}.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping(path = "${api.prefix}/reactive/animals")
+@Tag(name = "Animais (reativo)", description = "Leituras de animais sobre o driver reativo do MongoDB")
+public class ReactiveAnimalController {
+
+    @Autowired
+    private ReactiveAnimalService service;
+
+    /**
+     * Retorna uma lista paginada de animais, podendo ser filtrada por status e tipo.
+     *
+     * @param pageable Informações de paginação.
+     * @param status   Status de adoção do animal.
+     * @param type     Tipo de animal.
+     * @return Um {@code Mono} com a {@code Page} de {@code AnimalResponseDto} correspondente aos critérios de filtro.
+     */
+    @Operation(
+            summary = "Listar animais (reativo)",
+            description = "Equivalente a GET /animals, executado sobre o driver reativo do MongoDB.",
+            responses = @ApiResponse(responseCode = "200", description = "Lista de animais retornada com sucesso",
+                    useReturnTypeSchema = true)
+    )
+    @SecurityRequirements({})
+    @GetMapping
+    public Mono<ResponseEntity<Page<AnimalResponseDto>>> findAll(Pageable pageable,
+                                                                 @Parameter(description = "Status do animal, por padrão é disponivel")
+                                                                 @RequestParam(required = false, defaultValue = "disponivel") String status,
+                                                                 @Parameter(description = "Tipo de animal, por exemplo cachorro, gato, etc.")
+                                                                 @RequestParam(required = false) String type) {
+        return service.findAll(pageable, status, type).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Busca um animal específico pelo ID.
+     *
+     * @param id O ID do animal.
+     * @return Um {@code Mono} com o {@code AnimalResponseDto} do animal encontrado.
+     */
+    @Operation(
+            summary = "Buscar animal por ID (reativo)",
+            description = "Equivalente a GET /animals/{id}, executado sobre o driver reativo do MongoDB.",
+            responses = @ApiResponse(responseCode = "200", description = "Animal encontrado",
+                    useReturnTypeSchema = true)
+    )
+    @SecurityRequirements({})
+    @GetMapping(value = "/{id}")
+    public Mono<ResponseEntity<AnimalResponseDto>> findById(@PathVariable String id) {
+        return service.findById(id).map(ResponseEntity::ok);
+    }
+}
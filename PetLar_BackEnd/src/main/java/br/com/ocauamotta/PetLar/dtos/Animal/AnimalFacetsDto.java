@@ -0,0 +1,24 @@
+package br.com.ocauamotta.PetLar.dtos.Animal;
+
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * DTO com a contagem de animais por espécie, sexo e porte dentre os resultados de uma busca.
+ * <p>
+ * Valores sem nenhum animal correspondente não aparecem nos mapas.
+ */
+@Schema(description = "Contagem dos resultados da busca por espécie, sexo e porte.")
+public record AnimalFacetsDto(
+        @Schema(description = "Quantidade de animais por espécie", example = "{\"CACHORRO\": 12, \"GATO\": 5}")
+        Map<AnimalType, Long> type,
+        @Schema(description = "Quantidade de animais por sexo", example = "{\"FEMEA\": 9, \"MACHO\": 8}")
+        Map<AnimalSex, Long> sex,
+        @Schema(description = "Quantidade de animais por porte", example = "{\"PEQUENO\": 10, \"MEDIO\": 7}")
+        Map<AnimalSize, Long> size
+) {
+}
@@ -0,0 +1,23 @@
+package br.com.ocauamotta.PetLar.dtos.Animal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da importação em lote de animais.
+ * <p>
+ * Contém os totais da importação e o resultado de cada linha do arquivo, na ordem em que aparecem.
+ */
+@Schema(description = "Relatório da importação em lote de animais.")
+public record AnimalImportResponseDto(
+        @Schema(description = "Quantidade de linhas processadas.", example = "3")
+        long total,
+        @Schema(description = "Quantidade de animais cadastrados.", example = "2")
+        long imported,
+        @Schema(description = "Quantidade de linhas rejeitadas.", example = "1")
+        long rejected,
+        @Schema(description = "Resultado de cada linha do arquivo.")
+        List<AnimalImportRowDto> rows
+) {
+}
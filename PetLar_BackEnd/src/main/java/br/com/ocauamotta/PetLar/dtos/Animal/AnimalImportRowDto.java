@@ -0,0 +1,23 @@
+package br.com.ocauamotta.PetLar.dtos.Animal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * DTO com o resultado da importação de uma linha do arquivo.
+ * <p>
+ * Linhas importadas trazem o {@code id} do animal criado; linhas rejeitadas trazem
+ * o mapa de erros por campo, no mesmo formato das validações da API.
+ */
+@Schema(description = "Resultado da importação de uma linha do arquivo.")
+public record AnimalImportRowDto(
+        @Schema(description = "Número da linha no arquivo, iniciando em 1.", example = "2")
+        long line,
+        @Schema(description = "ID do animal criado, nulo quando a linha é rejeitada.", example = "6912a1f0c2b5e34d8a1f0c2b")
+        String id,
+        @Schema(description = "Erros encontrados na linha, nulo quando a linha é importada.",
+                example = "{\"weight\": \"O peso é obrigatório.\"}")
+        Map<String, String> errors
+) {
+}
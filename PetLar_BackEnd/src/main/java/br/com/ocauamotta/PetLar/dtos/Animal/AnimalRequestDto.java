@@ -37,6 +37,14 @@ public record AnimalRequestDto(
         String size,
         @Schema(description = "Descrição adicional sobre o animal", example = "Luna é uma cadela dócil e brincalhona, vacinada e castrada.")
         @Size(min = 3, max = 255, message = "A descrição deve conter entre 3 e 255 caracteres.")
-        String description
+        String description,
+        @Schema(description = "Latitude do local de retirada do animal, informada junto com a longitude", example = "-23.5505")
+        @DecimalMin(value = "-90", message = "A latitude deve estar entre -90 e 90.")
+        @DecimalMax(value = "90", message = "A latitude deve estar entre -90 e 90.")
+        Double latitude,
+        @Schema(description = "Longitude do local de retirada do animal, informada junto com a latitude", example = "-46.6333")
+        @DecimalMin(value = "-180", message = "A longitude deve estar entre -180 e 180.")
+        @DecimalMax(value = "180", message = "A longitude deve estar entre -180 e 180.")
+        Double longitude
 ) {
 }
@@ -5,6 +5,7 @@ import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
 import br.com.ocauamotta.PetLar.enums.AnimalSex;
 import br.com.ocauamotta.PetLar.enums.AnimalSize;
 import br.com.ocauamotta.PetLar.enums.AnimalType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -47,6 +48,16 @@ public record AnimalResponseDto(
         UserSummaryDto author,
         @Schema(description = "URL da imagem de perfil do animal", example = "/public/animals/luna.jpg")
         String imagePath,
+        @Schema(
+                description = "URL da miniatura da imagem, indicada para listagens. Enquanto não for gerada, aponta para a imagem original",
+                example = "/public/animals/luna_thumb.jpg"
+        )
+        String thumbnailPath,
+        @Schema(
+                description = "URL da variação média da imagem. Enquanto não for gerada, aponta para a imagem original",
+                example = "/public/animals/luna_medium.jpg"
+        )
+        String mediumPath,
         @Schema(
                 description = "Descrição ou observações sobre o animal",
                 example = "Luna é uma cadela dócil e brincalhona, vacinada e castrada."
@@ -61,6 +72,12 @@ public record AnimalResponseDto(
                 description = "Data e hora da última atualização do animal",
                 example = "2025-12-31T12:05:00.123456-03:00[America/Sao_Paulo]"
         )
-        String updatedAt
+        String updatedAt,
+        @Schema(
+                description = "Distância até o ponto de busca, em quilômetros. Presente apenas na busca por proximidade",
+                example = "3.42"
+        )
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Double distance
 ) {
 }
@@ -0,0 +1,44 @@
+package br.com.ocauamotta.PetLar.dtos.Animal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Representa os filtros da busca de animais, recebidos como parâmetros de consulta.
+ * <p>
+ * Todos os filtros são opcionais e combinados entre si; o status assume {@code disponivel}
+ * quando omitido, assim como na listagem.
+ */
+@Schema(description = "Filtros da busca textual e por características de animais.")
+public record AnimalSearchFilterDto(
+        @Schema(description = "Termos buscados no nome e na descrição do animal. Sem ordenação explícita, " +
+                "casa palavras inteiras; com sort, usa a busca textual em português (radicais, frases e exclusões)",
+                example = "vacinada castrada")
+        @Size(max = 100, message = "A busca deve conter no máximo 100 caracteres.")
+        String q,
+        @Schema(description = "Status do animal, por padrão é disponivel", example = "disponivel")
+        String status,
+        @Schema(description = "Espécie do animal", example = "cachorro")
+        String type,
+        @Schema(description = "Sexo do animal", example = "femea")
+        String sex,
+        @Schema(description = "Porte do animal (o parâmetro 'size' é reservado ao tamanho da página)", example = "pequeno")
+        String animalSize,
+        @Schema(description = "Peso mínimo do animal (em gramas)", example = "500")
+        @Min(value = 1, message = "O peso mínimo deve ser maior que zero.")
+        Integer minWeight,
+        @Schema(description = "Peso máximo do animal (em gramas)", example = "5000")
+        @Min(value = 1, message = "O peso máximo deve ser maior que zero.")
+        Integer maxWeight,
+        @Schema(description = "Data de nascimento mínima, para animais mais novos que uma idade", example = "2024-01-01")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate bornFrom,
+        @Schema(description = "Data de nascimento máxima, para animais mais velhos que uma idade", example = "2025-06-30")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate bornTo
+) {
+}
@@ -0,0 +1,28 @@
+package br.com.ocauamotta.PetLar.dtos.Animal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da busca de animais.
+ * <p>
+ * Reúne a página de resultados, ordenada pela relevância quando há termos de busca,
+ * e a contagem por espécie, sexo e porte de todos os animais que atendem aos filtros.
+ */
+@Schema(description = "Resultado paginado da busca de animais com a contagem por características.")
+public record AnimalSearchResponseDto(
+        @Schema(description = "Animais da página atual.")
+        List<AnimalResponseDto> content,
+        @Schema(description = "Número da página atual, iniciando em 0.", example = "0")
+        int page,
+        @Schema(description = "Quantidade de registros por página.", example = "20")
+        int size,
+        @Schema(description = "Quantidade total de animais que atendem aos filtros.", example = "17")
+        long totalElements,
+        @Schema(description = "Quantidade total de páginas.", example = "1")
+        int totalPages,
+        @Schema(description = "Contagem dos resultados por espécie, sexo e porte.")
+        AnimalFacetsDto facets
+) {
+}
@@ -37,6 +37,16 @@ public record AnimalSummaryDto(
         AnimalSize size,
         @Schema(description = "URL da imagem de perfil do animal", example = "/public/animals/luna.jpg")
         String imagePath,
+        @Schema(
+                description = "URL da miniatura da imagem, indicada para listagens. Enquanto não for gerada, aponta para a imagem original",
+                example = "/public/animals/luna_thumb.jpg"
+        )
+        String thumbnailPath,
+        @Schema(
+                description = "URL da variação média da imagem. Enquanto não for gerada, aponta para a imagem original",
+                example = "/public/animals/luna_medium.jpg"
+        )
+        String mediumPath,
         @Schema(
                 description = "Descrição ou observações sobre o animal",
                 example = "Luna é uma cadela dócil e brincalhona, vacinada e castrada."
@@ -0,0 +1,28 @@
+package br.com.ocauamotta.PetLar.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO genérico para respostas paginadas por cursor (keyset).
+ * <p>
+ * Diferente de {@code Page}, não informa o total de registros nem o número da página,
+ * pois a consulta não executa {@code count} nem {@code skip}. Para obter a próxima janela,
+ * o cliente envia o valor de {@code nextCursor} no parâmetro {@code after}.
+ *
+ * @param <T> O tipo dos itens retornados.
+ */
+@Schema(description = "Resposta paginada por cursor, indicada para rolagem infinita.")
+public record SliceResponseDto<T>(
+        @Schema(description = "Itens da janela atual.")
+        List<T> content,
+        @Schema(description = "Quantidade de itens retornados na janela.", example = "20")
+        int size,
+        @Schema(description = "Indica se existem mais itens após esta janela.", example = "true")
+        boolean hasNext,
+        @Schema(description = "Cursor opaco para buscar a próxima janela, nulo quando não houver mais itens.",
+                example = "eyJjcmVhdGVkQXQiOiAiMjAyNS0xMi0zMVQxMjowNTowMC4xMjM0NTYtMDM6MDAifQ")
+        String nextCursor
+) {
+}
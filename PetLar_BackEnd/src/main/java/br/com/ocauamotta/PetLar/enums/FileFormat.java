@@ -0,0 +1,92 @@
+package br.com.ocauamotta.PetLar.enums;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Enumeração que define os formatos de arquivo aceitos na importação e na exportação em lote.
+ * <p>
+ * Na importação, o formato é identificado pelo {@code Content-Type} da requisição. Na exportação,
+ * é escolhido pelo rótulo.
+ */
+public enum FileFormat {
+    NDJSON("ndjson", "application/x-ndjson", "ndjson"),
+    CSV("csv", "text/csv", "csv");
+
+    private final String label;
+    private final String contentType;
+    private final String extension;
+
+    FileFormat(String label, String contentType, String extension) {
+        this.label = label;
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * Retorna o rótulo em {@code String} do formato.
+     *
+     * @return O rótulo em {@code String}.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Retorna o {@code Content-Type} associado ao formato.
+     *
+     * @return O {@code Content-Type}.
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Retorna a extensão utilizada nos arquivos exportados.
+     *
+     * @return A extensão, sem o ponto.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Converte uma string de rótulo para a constante {@code FileFormat} correspondente.
+     * A comparação não diferencia maiúsculas e minúsculas.
+     *
+     * @param label A {@code String} do formato a ser convertida.
+     * @return A constante {@code FileFormat} correspondente.
+     * @throws IllegalArgumentException Se o rótulo fornecido não corresponder a nenhum formato válido.
+     */
+    public static FileFormat fromString(String label) {
+        for (FileFormat format : values()) {
+            if (format.getLabel().equalsIgnoreCase(label)) return format;
+        }
+        throw new IllegalArgumentException("Formato inválido: " + label);
+    }
+
+    /**
+     * Identifica o formato de um arquivo enviado para importação pelo {@code Content-Type} da requisição,
+     * desconsiderando parâmetros como {@code charset}.
+     *
+     * @param contentType O {@code Content-Type} informado pelo cliente.
+     * @return A constante {@code FileFormat} correspondente.
+     * @throws IllegalArgumentException Se o conteúdo não for NDJSON nem CSV.
+     */
+    public static FileFormat fromContentType(String contentType) {
+        String unsupported = "Formato de arquivo não suportado. Envie um arquivo NDJSON (application/x-ndjson) ou CSV (text/csv).";
+        if (contentType == null) throw new IllegalArgumentException(unsupported);
+
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException ex) {
+            throw new IllegalArgumentException(unsupported);
+        }
+
+        for (FileFormat format : values()) {
+            if (mediaType.equalsTypeAndSubtype(MediaType.parseMediaType(format.contentType))) return format;
+        }
+        throw new IllegalArgumentException(unsupported);
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.ocauamotta.PetLar.enums;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Enumeração que define os formatos de imagem aceitos no upload de fotos dos animais.
+ * <p>
+ * O formato é identificado pela assinatura binária (magic number) presente nos primeiros
+ * bytes do arquivo, e não pelo {@code Content-Type} ou pela extensão informados pelo cliente.
+ * Cada valor possui a extensão utilizada ao gravar o arquivo em disco.
+ */
+public enum ImageFormat {
+    JPEG("jpg"),
+    PNG("png"),
+    GIF("gif"),
+    WEBP("webp");
+
+    /**
+     * Quantidade de bytes do cabeçalho necessária para identificar qualquer um dos formatos.
+     */
+    public static final int HEADER_LENGTH = 12;
+
+    private final String extension;
+
+    ImageFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Retorna a extensão de arquivo associada ao formato.
+     *
+     * @return A extensão, sem o ponto.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Identifica o formato de um arquivo enviado lendo apenas os primeiros bytes do seu conteúdo.
+     *
+     * @param file O arquivo recebido via requisição multipart.
+     * @return Um {@code Optional} com o formato identificado, ou vazio se o conteúdo não for
+     * uma imagem suportada ou não puder ser lido.
+     */
+    public static Optional<ImageFormat> detect(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return fromHeader(in.readNBytes(HEADER_LENGTH));
+        } catch (IOException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Identifica o formato a partir dos bytes iniciais de um arquivo.
+     *
+     * @param header Os primeiros bytes do arquivo (até {@link #HEADER_LENGTH}).
+     * @return Um {@code Optional} com o formato identificado, ou vazio se nenhuma assinatura corresponder.
+     */
+    public static Optional<ImageFormat> fromHeader(byte[] header) {
+        if (startsWith(header, 0, 0xFF, 0xD8, 0xFF)) return Optional.of(JPEG);
+        if (startsWith(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) return Optional.of(PNG);
+        if (startsWith(header, 0, 'G', 'I', 'F', '8')) return Optional.of(GIF);
+        if (startsWith(header, 0, 'R', 'I', 'F', 'F') && startsWith(header, 8, 'W', 'E', 'B', 'P')) return Optional.of(WEBP);
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] header, int offset, int... signature) {
+        if (header.length < offset + signature.length) return false;
+
+        for (int i = 0; i < signature.length; i++) {
+            if ((header[offset + i] & 0xFF) != signature[i]) return false;
+        }
+        return true;
+    }
+}
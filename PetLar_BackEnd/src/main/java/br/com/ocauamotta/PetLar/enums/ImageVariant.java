@@ -0,0 +1,38 @@
+package br.com.ocauamotta.PetLar.enums;
+
+/**
+ * Enumeração que define as variações redimensionadas geradas a partir da imagem de um animal.
+ * <p>
+ * Cada valor possui o sufixo aplicado ao nome do arquivo e a maior dimensão (largura ou altura),
+ * em pixels, que a variação pode ter. A proporção da imagem original é preservada.
+ */
+public enum ImageVariant {
+    THUMBNAIL("thumb", 320),
+    MEDIUM("medium", 960);
+
+    private final String suffix;
+    private final int maxDimension;
+
+    ImageVariant(String suffix, int maxDimension) {
+        this.suffix = suffix;
+        this.maxDimension = maxDimension;
+    }
+
+    /**
+     * Retorna o sufixo utilizado no nome do arquivo da variação.
+     *
+     * @return O sufixo, sem separadores.
+     */
+    public String getSuffix() {
+        return suffix;
+    }
+
+    /**
+     * Retorna a maior dimensão, em pixels, permitida para a variação.
+     *
+     * @return A dimensão máxima.
+     */
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+}
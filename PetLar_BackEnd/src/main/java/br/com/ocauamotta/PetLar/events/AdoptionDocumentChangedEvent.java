@@ -0,0 +1,17 @@
+package br.com.ocauamotta.PetLar.events;
+
+import br.com.ocauamotta.PetLar.models.Adoption;
+import com.mongodb.client.model.changestream.OperationType;
+
+/**
+ * Evento publicado a cada alteração de um documento da coleção de adoções, lida do change stream do MongoDB.
+ * <p>
+ * Diferente de {@code AdoptionStatusChangedEvent}, que é publicado apenas pela instância que realizou a escrita,
+ * este evento é recebido por todas as instâncias da aplicação, qualquer que seja a origem da alteração.
+ *
+ * @param adoptionId O ID da solicitação de adoção alterada.
+ * @param operation O tipo da operação: inclusão, atualização, substituição ou remoção.
+ * @param adoption O estado atual da solicitação, ou {@code null} se ela tiver sido removida ou se o documento não puder ser convertido.
+ */
+public record AdoptionDocumentChangedEvent(String adoptionId, OperationType operation, Adoption adoption) {
+}
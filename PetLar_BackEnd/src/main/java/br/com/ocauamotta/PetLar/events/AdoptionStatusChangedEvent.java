@@ -0,0 +1,15 @@
+package br.com.ocauamotta.PetLar.events;
+
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+
+/**
+ * Evento publicado sempre que uma solicitação de adoção é criada ou muda de status.
+ * <p>
+ * Permite que componentes de observabilidade acompanhem o fluxo de adoções sem acoplamento
+ * com o serviço de escrita.
+ *
+ * @param adoptionId O ID da solicitação de adoção.
+ * @param status O novo status da solicitação.
+ */
+public record AdoptionStatusChangedEvent(String adoptionId, AdoptionStatus status) {
+}
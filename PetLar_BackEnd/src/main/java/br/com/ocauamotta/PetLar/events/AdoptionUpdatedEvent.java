@@ -0,0 +1,15 @@
+package br.com.ocauamotta.PetLar.events;
+
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+
+/**
+ * Evento publicado sempre que uma solicitação de adoção é criada, aceita, recusada, cancelada
+ * ou tem a justificativa alterada.
+ * <p>
+ * Carrega a resposta já montada pela operação, permitindo que o autor do animal e o adotante
+ * sejam notificados do novo estado sem uma nova consulta ao banco.
+ *
+ * @param adoption O estado atual da solicitação de adoção.
+ */
+public record AdoptionUpdatedEvent(AdoptionResponseDto adoption) {
+}
@@ -0,0 +1,13 @@
+package br.com.ocauamotta.PetLar.events;
+
+/**
+ * Evento publicado sempre que um animal é alterado ou removido.
+ * <p>
+ * Inclui alterações de cadastro, troca de imagem (e conclusão de suas variações) e transições
+ * de status causadas pelo fluxo de adoção. Permite que componentes que mantêm cópias dos dados
+ * do animal (como caches) as invalidem sem acoplamento com os serviços de escrita.
+ *
+ * @param animalId O ID do animal alterado.
+ */
+public record AnimalChangedEvent(String animalId) {
+}
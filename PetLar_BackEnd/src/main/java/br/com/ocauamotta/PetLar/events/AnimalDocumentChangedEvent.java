@@ -0,0 +1,17 @@
+package br.com.ocauamotta.PetLar.events;
+
+import br.com.ocauamotta.PetLar.models.Animal;
+import com.mongodb.client.model.changestream.OperationType;
+
+/**
+ * Evento publicado a cada alteração de um documento da coleção de animais, lida do change stream do MongoDB.
+ * <p>
+ * Diferente de {@code AnimalChangedEvent}, que é publicado apenas pela instância que realizou a escrita,
+ * este evento é recebido por todas as instâncias da aplicação, qualquer que seja a origem da alteração.
+ *
+ * @param animalId O ID do animal alterado.
+ * @param operation O tipo da operação: inclusão, atualização, substituição ou remoção.
+ * @param animal O estado atual do animal, ou {@code null} se ele tiver sido removido ou se o documento não puder ser convertido.
+ */
+public record AnimalDocumentChangedEvent(String animalId, OperationType operation, Animal animal) {
+}
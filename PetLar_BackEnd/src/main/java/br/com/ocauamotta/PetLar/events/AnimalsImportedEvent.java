@@ -0,0 +1,14 @@
+package br.com.ocauamotta.PetLar.events;
+
+import java.util.List;
+
+/**
+ * Evento publicado a cada lote de animais gravado pela importação em lote.
+ * <p>
+ * Permite que componentes que mantêm cópias dos animais disponíveis (como o índice de busca)
+ * incluam os novos registros com uma única leitura por lote, em vez de uma por animal.
+ *
+ * @param animalIds Os IDs dos animais gravados no lote.
+ */
+public record AnimalsImportedEvent(List<String> animalIds) {
+}
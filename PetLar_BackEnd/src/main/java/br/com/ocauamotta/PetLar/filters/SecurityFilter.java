@@ -1,7 +1,8 @@
 package br.com.ocauamotta.PetLar.filters;
 
-import br.com.ocauamotta.PetLar.services.AuthService;
+import br.com.ocauamotta.PetLar.services.PrincipalCacheService;
 import br.com.ocauamotta.PetLar.services.TokenService;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,7 +32,7 @@ public class SecurityFilter extends OncePerRequestFilter {
     private TokenService tokenService;
 
     @Autowired
-    private AuthService authService;
+    private PrincipalCacheService principalCacheService;
 
     @Autowired
     private AuthenticationEntryPoint entryPoint;
@@ -41,8 +42,9 @@ public class SecurityFilter extends OncePerRequestFilter {
      * <p>
      * Se um token JWT válido for encontrado no cabeçalho "Authorization":
      * <ol>
-     * <li>Extrai o "Subject" (e-mail do usuário) do token.</li>
-     * <li>Busca o {@code UserDetails} correspondente no repositório.</li>
+     * <li>Valida o token e extrai o "Subject" (e-mail do usuário) e a expiração.</li>
+     * <li>Busca o {@code UserDetails} correspondente no cache de usuários autenticados,
+     * consultando o repositório apenas em caso de ausência.</li>
      * <li>Cria um objeto de autenticação {@code UsernamePasswordAuthenticationToken}.</li>
      * <li>Define o objeto de autenticação no {@code SecurityContextHolder}, autenticando o usuário.</li>
      * </ol>
@@ -67,8 +69,8 @@ public class SecurityFilter extends OncePerRequestFilter {
             String tokenJWT = getToken(request);
 
             if (tokenJWT != null) {
-                String subject = tokenService.getSubject(tokenJWT);
-                UserDetails user = authService.loadUserByUsername(subject);
+                DecodedJWT token = tokenService.verify(tokenJWT);
+                UserDetails user = principalCacheService.getOrLoad(token.getSubject(), token.getExpiresAtAsInstant());
                 UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
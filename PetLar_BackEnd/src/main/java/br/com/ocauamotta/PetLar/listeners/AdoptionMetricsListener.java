@@ -0,0 +1,37 @@
+package br.com.ocauamotta.PetLar.listeners;
+
+import br.com.ocauamotta.PetLar.events.AdoptionStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ouvinte responsável por contabilizar as transições de status das solicitações de adoção.
+ * <p>
+ * Cada {@code AdoptionStatusChangedEvent} incrementa o contador {@code petlar.adoptions.transitions},
+ * identificado pelo status de destino.
+ */
+@Component
+public class AdoptionMetricsListener {
+
+    static final String TRANSITIONS_METRIC = "petlar.adoptions.transitions";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Incrementa o contador do status de destino da solicitação.
+     *
+     * @param event O evento contendo a solicitação e o novo status.
+     */
+    @EventListener
+    public void onAdoptionStatusChanged(AdoptionStatusChangedEvent event) {
+        Counter.builder(TRANSITIONS_METRIC)
+                .description("Transições de status das solicitações de adoção")
+                .tag("status", event.status().getLabel())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.ocauamotta.PetLar.listeners;
+
+import br.com.ocauamotta.PetLar.events.AdoptionUpdatedEvent;
+import br.com.ocauamotta.PetLar.services.AdoptionStreamService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ouvinte responsável por encaminhar as alterações das solicitações de adoção às conexões
+ * de eventos em tempo real do autor do animal e do adotante.
+ */
+@Component
+public class AdoptionStreamListener {
+
+    @Autowired
+    private AdoptionStreamService streamService;
+
+    /**
+     * Envia o novo estado da solicitação aos usuários envolvidos.
+     *
+     * @param event O evento contendo o estado atual da solicitação.
+     */
+    @EventListener
+    public void onAdoptionUpdated(AdoptionUpdatedEvent event) {
+        streamService.publish(event.adoption());
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.ocauamotta.PetLar.listeners;
+
+import br.com.ocauamotta.PetLar.configs.CacheConfig;
+import br.com.ocauamotta.PetLar.events.AnimalChangedEvent;
+import br.com.ocauamotta.PetLar.events.AnimalDocumentChangedEvent;
+import br.com.ocauamotta.PetLar.events.AnimalsImportedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ouvinte responsável por manter o cache de animais consistente com o banco de dados.
+ * <p>
+ * A cada {@code AnimalChangedEvent}, a entrada do animal alterado é removida e as páginas
+ * da listagem são descartadas, de modo que a próxima leitura reconstrua a resposta a partir
+ * dos dados atualizados. Com o barramento de change streams habilitado, o mesmo ocorre a cada
+ * {@code AnimalDocumentChangedEvent}, mantendo o cache consistente com as escritas de outras instâncias.
+ * A cada lote gravado pela importação ({@code AnimalsImportedEvent}), apenas as páginas são descartadas.
+ */
+@Component
+public class AnimalCacheListener {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Remove do cache a entrada do animal alterado e todas as páginas da listagem.
+     * <p>
+     * As páginas são descartadas por completo, pois a alteração pode mover o animal
+     * entre filtros (status) ou deslocar os registros das páginas seguintes.
+     *
+     * @param event O evento contendo o ID do animal.
+     */
+    @EventListener
+    public void onAnimalChanged(AnimalChangedEvent event) {
+        evict(event.animalId());
+    }
+
+    /**
+     * Remove do cache a entrada do animal alterado por qualquer instância e todas as páginas da listagem.
+     *
+     * @param event O evento lido do change stream de animais.
+     */
+    @EventListener
+    public void onAnimalDocumentChanged(AnimalDocumentChangedEvent event) {
+        evict(event.animalId());
+    }
+
+    /**
+     * Descarta as páginas da listagem a cada lote de animais importado. Os animais novos
+     * ainda não possuem entradas individuais no cache.
+     *
+     * @param event O evento contendo os IDs dos animais gravados no lote.
+     */
+    @EventListener
+    public void onAnimalsImported(AnimalsImportedEvent event) {
+        clearPages();
+    }
+
+    private void evict(String animalId) {
+        Cache animals = cacheManager.getCache(CacheConfig.ANIMALS_CACHE);
+        if (animals != null) {
+            animals.evict(animalId);
+        }
+
+        clearPages();
+    }
+
+    private void clearPages() {
+        Cache pages = cacheManager.getCache(CacheConfig.ANIMAL_PAGES_CACHE);
+        if (pages != null) {
+            pages.clear();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.ocauamotta.PetLar.listeners;
+
+import br.com.ocauamotta.PetLar.events.AnimalChangedEvent;
+import br.com.ocauamotta.PetLar.events.AnimalDocumentChangedEvent;
+import br.com.ocauamotta.PetLar.events.AnimalsImportedEvent;
+import br.com.ocauamotta.PetLar.services.AnimalIndexService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Ouvinte responsável por construir o índice em memória dos animais disponíveis e mantê-lo
+ * consistente com o banco de dados.
+ * <p>
+ * O índice é construído quando a aplicação fica pronta, após as migrações, e cada alteração
+ * notificada recarrega os animais afetados, inclusive as lidas do change stream de animais, feitas
+ * por outras instâncias. Pode ser desabilitado com
+ * {@code api.animals.index.enabled=false}; nesse caso, a busca é sempre feita no banco.
+ */
+@Component
+@ConditionalOnProperty(name = "api.animals.index.enabled", havingValue = "true", matchIfMissing = true)
+public class AnimalIndexListener {
+
+    @Autowired
+    private AnimalIndexService indexService;
+
+    /**
+     * Constrói o índice com os animais disponíveis.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        indexService.rebuild();
+    }
+
+    /**
+     * Recarrega no índice o animal alterado, incluído ou removido.
+     *
+     * @param event O evento contendo o ID do animal.
+     */
+    @EventListener
+    public void onAnimalChanged(AnimalChangedEvent event) {
+        indexService.refresh(List.of(event.animalId()));
+    }
+
+    /**
+     * Recarrega no índice o animal alterado por qualquer instância.
+     *
+     * @param event O evento lido do change stream de animais.
+     */
+    @EventListener
+    public void onAnimalDocumentChanged(AnimalDocumentChangedEvent event) {
+        indexService.refresh(List.of(event.animalId()));
+    }
+
+    /**
+     * Inclui no índice um lote de animais importados.
+     *
+     * @param event O evento contendo os IDs dos animais gravados.
+     */
+    @EventListener
+    public void onAnimalsImported(AnimalsImportedEvent event) {
+        indexService.refresh(event.animalIds());
+    }
+}
@@ -39,8 +39,56 @@ public class AdoptionMapper {
                 new UserSummaryDto(animalOwner.getId(), animalOwner.getName()),
                 new UserSummaryDto(adopter.getId(), adopter.getName()),
                 entity.getReason(),
-                entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                DateMapper.toText(entity.getCreatedAt()),
+                DateMapper.toText(entity.getUpdatedAt())
+        );
+    }
+
+    /**
+     * Completa um {@code AdoptionResponseDto} projetado diretamente pelo banco, convertendo os caminhos
+     * de armazenamento das imagens do animal nas URLs públicas servidas pela aplicação.
+     *
+     * @param dto O DTO com os caminhos de imagem como armazenados no banco.
+     * @return O DTO com as URLs públicas, ou o próprio DTO se ele não possuir animal.
+     */
+    public static AdoptionResponseDto withPublicUrls(AdoptionResponseDto dto) {
+        if (dto == null || dto.animal() == null) return dto;
+
+        return new AdoptionResponseDto(
+                dto.id(),
+                dto.status(),
+                withPublicUrls(dto.animal()),
+                dto.animalOwner(),
+                dto.adopter(),
+                dto.reason(),
+                dto.createdAt(),
+                dto.updatedAt()
+        );
+    }
+
+    /**
+     * Converte a entidade de domínio {@code Adoption} em um DTO de Resposta {@code AdoptionResponseDto},
+     * utilizando os resumos do animal e dos usuários já projetados pelo repositório.
+     *
+     * @param entity A entidade {@code Adoption} a ser convertida.
+     * @param animal O resumo do animal, com os caminhos de imagem como armazenados no banco.
+     * @param animalOwner O resumo do autor do animal.
+     * @param adopter O resumo do adotante.
+     * @return O DTO de resposta correspondente, ou {@code null} se a entidade de entrada for nula.
+     */
+    public static AdoptionResponseDto toDTO(Adoption entity, AnimalSummaryDto animal,
+                                            UserSummaryDto animalOwner, UserSummaryDto adopter) {
+        if (entity == null) return null;
+
+        return new AdoptionResponseDto(
+                entity.getId(),
+                entity.getStatus(),
+                animal != null ? withPublicUrls(animal) : null,
+                animalOwner,
+                adopter,
+                entity.getReason(),
+                DateMapper.toText(entity.getCreatedAt()),
+                DateMapper.toText(entity.getUpdatedAt())
         );
     }
 
@@ -71,6 +119,8 @@ public class AdoptionMapper {
     private static AnimalSummaryDto toAnimalSummary(Animal entity) {
         if (entity == null) return null;
 
+        String publicUrl = AnimalMapper.toPublicUrl(entity.getImagePath());
+
         return new AnimalSummaryDto(
                 entity.getId(),
                 entity.getName(),
@@ -79,8 +129,31 @@ public class AdoptionMapper {
                 entity.getType(),
                 entity.getSex(),
                 entity.getSize(),
-                entity.getImagePath(),
+                publicUrl,
+                AnimalMapper.toPublicUrl(entity.getThumbnailPath(), publicUrl),
+                AnimalMapper.toPublicUrl(entity.getMediumPath(), publicUrl),
                 entity.getDescription()
         );
     }
+
+    /**
+     * Converte os caminhos de armazenamento das imagens de um {@code AnimalSummaryDto} nas URLs públicas.
+     */
+    private static AnimalSummaryDto withPublicUrls(AnimalSummaryDto animal) {
+        String publicUrl = AnimalMapper.toPublicUrl(animal.imagePath());
+
+        return new AnimalSummaryDto(
+                animal.id(),
+                animal.name(),
+                animal.birthDate(),
+                animal.weight(),
+                animal.type(),
+                animal.sex(),
+                animal.size(),
+                publicUrl,
+                AnimalMapper.toPublicUrl(animal.thumbnailPath(), publicUrl),
+                AnimalMapper.toPublicUrl(animal.mediumPath(), publicUrl),
+                animal.description()
+        );
+    }
 }
@@ -8,9 +8,13 @@ import br.com.ocauamotta.PetLar.enums.AnimalSize;
 import br.com.ocauamotta.PetLar.enums.AnimalType;
 import br.com.ocauamotta.PetLar.models.Animal;
 import br.com.ocauamotta.PetLar.models.User;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * Classe utilitária responsável por converter objetos entre a camada de Entidade
@@ -21,6 +25,31 @@ import java.io.File;
 @Component
 public class AnimalMapper {
 
+    /**
+     * Campos que podem ser aplicados em uma atualização parcial, resolvidos uma única vez
+     * e associados ao nome da propriedade mapeada no documento.
+     * <p>
+     * O {@code id} e a {@code version} ficam de fora: o primeiro identifica o documento
+     * e o segundo é controlado pela camada de persistência.
+     */
+    private static final List<FieldAccessor> UPDATABLE_FIELDS = List.of(
+            new FieldAccessor("name", Animal::getName),
+            new FieldAccessor("birthDate", Animal::getBirthDate),
+            new FieldAccessor("weight", Animal::getWeight),
+            new FieldAccessor("type", Animal::getType),
+            new FieldAccessor("sex", Animal::getSex),
+            new FieldAccessor("size", Animal::getSize),
+            new FieldAccessor("status", Animal::getStatus),
+            new FieldAccessor("authorId", Animal::getAuthorId),
+            new FieldAccessor("imagePath", Animal::getImagePath),
+            new FieldAccessor("thumbnailPath", Animal::getThumbnailPath),
+            new FieldAccessor("mediumPath", Animal::getMediumPath),
+            new FieldAccessor("description", Animal::getDescription),
+            new FieldAccessor("location", Animal::getLocation),
+            new FieldAccessor("createdAt", Animal::getCreatedAt),
+            new FieldAccessor("updatedAt", Animal::getUpdatedAt)
+    );
+
     /**
      * Construtor privado para evitar a instanciação desta classe utilitária.
      */
@@ -34,11 +63,34 @@ public class AnimalMapper {
      * @return O DTO de resposta correspondente, ou {@code null} se a entidade de entrada for nula.
      */
     public static AnimalResponseDto toDTO(Animal entity, User user) {
+        return toDTO(entity, new UserSummaryDto(user.getId(), user.getName()));
+    }
+
+    /**
+     * Converte a entidade de domínio {@code Animal} em um DTO de Resposta {@code AnimalResponseDto},
+     * utilizando o resumo do autor já projetado pelo repositório.
+     *
+     * @param entity A entidade {@code Animal} a ser convertida.
+     * @param author O resumo do autor do animal.
+     * @return O DTO de resposta correspondente, ou {@code null} se a entidade de entrada for nula.
+     */
+    public static AnimalResponseDto toDTO(Animal entity, UserSummaryDto author) {
+        return toDTO(entity, author, null);
+    }
+
+    /**
+     * Converte a entidade de domínio {@code Animal} em um DTO de Resposta {@code AnimalResponseDto}
+     * incluindo a distância calculada pela busca por proximidade.
+     *
+     * @param entity A entidade {@code Animal} a ser convertida.
+     * @param author O resumo do autor do animal.
+     * @param distance A distância até o ponto de busca, em quilômetros, ou {@code null} fora da busca por proximidade.
+     * @return O DTO de resposta correspondente, ou {@code null} se a entidade de entrada for nula.
+     */
+    public static AnimalResponseDto toDTO(Animal entity, UserSummaryDto author, Double distance) {
         if (entity == null) return null;
 
-        String publicUrl = (entity.getImagePath() != null)
-                ? "/public/animals/" + new File(entity.getImagePath()).getName()
-                : null;
+        String publicUrl = toPublicUrl(entity.getImagePath());
 
         return new AnimalResponseDto(
                 entity.getId(),
@@ -49,14 +101,41 @@ public class AnimalMapper {
                 entity.getSex(),
                 entity.getSize(),
                 entity.getStatus(),
-                new UserSummaryDto(user.getId(), user.getName()),
+                author,
                 publicUrl,
+                toPublicUrl(entity.getThumbnailPath(), publicUrl),
+                toPublicUrl(entity.getMediumPath(), publicUrl),
                 entity.getDescription(),
-                entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                DateMapper.toText(entity.getCreatedAt()),
+                DateMapper.toText(entity.getUpdatedAt()),
+                distance
         );
     }
 
+    /**
+     * Converte o caminho de armazenamento de uma imagem na URL pública servida pela aplicação.
+     *
+     * @param imagePath O caminho relativo da imagem no servidor.
+     * @return A URL pública da imagem, ou {@code null} se o caminho for nulo.
+     */
+    public static String toPublicUrl(String imagePath) {
+        return (imagePath != null)
+                ? "/public/animals/" + new File(imagePath).getName()
+                : null;
+    }
+
+    /**
+     * Converte o caminho de uma variação de imagem na URL pública, utilizando a URL
+     * informada como alternativa enquanto a variação ainda não tiver sido gerada.
+     *
+     * @param variantPath O caminho relativo da variação no servidor.
+     * @param fallbackUrl A URL a ser utilizada caso a variação não exista.
+     * @return A URL pública da variação ou a URL alternativa.
+     */
+    public static String toPublicUrl(String variantPath, String fallbackUrl) {
+        return (variantPath != null) ? toPublicUrl(variantPath) : fallbackUrl;
+    }
+
     /**
      * Converte um DTO de Requisição {@code AnimalRequestDto} em uma nova entidade {@code Animal}.
      *
@@ -74,6 +153,52 @@ public class AnimalMapper {
                 .sex(AnimalSex.fromString(dto.sex()))
                 .size(AnimalSize.fromString(dto.size()))
                 .description(dto.description())
+                .location(toLocation(dto.latitude(), dto.longitude()))
                 .build();
     }
+
+    /**
+     * Converte as coordenadas informadas em um ponto GeoJSON, na ordem longitude e latitude.
+     *
+     * @param latitude A latitude do ponto.
+     * @param longitude A longitude do ponto.
+     * @return O ponto correspondente, ou {@code null} se nenhuma coordenada for informada.
+     * @throws IllegalArgumentException Se apenas uma das coordenadas for informada.
+     */
+    public static GeoJsonPoint toLocation(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) return null;
+        if (latitude == null || longitude == null) {
+            throw new IllegalArgumentException("A latitude e a longitude devem ser informadas juntas.");
+        }
+        return new GeoJsonPoint(longitude, latitude);
+    }
+
+    /**
+     * Converte os campos não nulos de uma entidade em uma atualização parcial ({@code $set}).
+     * <p>
+     * Utiliza acessores pré-resolvidos em vez de Reflection, evitando a busca e a liberação
+     * de acesso dos campos a cada requisição.
+     *
+     * @param source A entidade gerada a partir do DTO de requisição com os novos valores.
+     * @return O {@code Update} contendo apenas os campos informados.
+     */
+    public static Update toUpdate(Animal source) {
+        Update update = new Update();
+        for (FieldAccessor field : UPDATABLE_FIELDS) {
+            Object value = field.getter().apply(source);
+            if (value != null) {
+                update.set(field.name(), value);
+            }
+        }
+        return update;
+    }
+
+    /**
+     * Associa o nome de uma propriedade de {@code Animal} ao seu acessor de leitura.
+     *
+     * @param name O nome da propriedade.
+     * @param getter O acessor de leitura do campo.
+     */
+    private record FieldAccessor(String name, Function<Animal, ?> getter) {
+    }
 }
@@ -0,0 +1,156 @@
+package br.com.ocauamotta.PetLar.mappers;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Classe utilitária responsável por converter linhas CSV em valores e vice-versa,
+ * utilizada na importação e na exportação em lote.
+ * <p>
+ * Segue o formato RFC 4180: colunas separadas por vírgula e valores com vírgula, aspas ou quebra
+ * de linha envolvidos por aspas duplas, com as aspas internas duplicadas ({@code ""}).
+ */
+@Component
+public class CsvMapper {
+
+    /**
+     * Construtor privado para evitar a instanciação desta classe utilitária.
+     */
+    private CsvMapper() {}
+
+    /**
+     * Lê um registro CSV completo a partir da sua primeira linha. Enquanto um valor entre aspas
+     * estiver aberto, as linhas seguintes fazem parte do mesmo registro e são anexadas com a
+     * quebra de linha ({@code \n}) que continham.
+     *
+     * @param firstLine A primeira linha do registro, já lida.
+     * @param reader O leitor posicionado logo após a primeira linha.
+     * @return O registro completo, que pode conter quebras de linha dentro de valores entre aspas.
+     * @throws IOException Se ocorrer um erro de leitura.
+     */
+    public static String readRecord(String firstLine, BufferedReader reader) throws IOException {
+        if (!hasOpenQuote(firstLine)) return firstLine;
+
+        StringBuilder record = new StringBuilder(firstLine);
+        boolean open = true;
+        String line;
+
+        while (open && (line = reader.readLine()) != null) {
+            record.append('\n').append(line);
+            open ^= hasOpenQuote(line);
+        }
+        return record.toString();
+    }
+
+    /**
+     * Divide um registro CSV em colunas, respeitando valores entre aspas duplas, aspas escapadas
+     * e quebras de linha dentro de valores entre aspas.
+     *
+     * @param line O registro a ser dividido.
+     * @return Os valores das colunas, na ordem em que aparecem.
+     * @throws IllegalArgumentException Se um valor entre aspas não for fechado.
+     */
+    public static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c != '"') {
+                    current.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Valor entre aspas não foi fechado.");
+        }
+
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * Monta a linha de cabeçalho a partir dos nomes das colunas.
+     *
+     * @param columns As colunas do arquivo.
+     * @return A linha CSV com os nomes das colunas, sem a quebra de linha.
+     */
+    public static String toHeader(List<? extends Column<?>> columns) {
+        return String.join(",", columns.stream().map(Column::name).toList());
+    }
+
+    /**
+     * Monta uma linha CSV com os valores das colunas extraídos do objeto informado.
+     * Valores nulos são gravados como colunas vazias.
+     *
+     * @param source O objeto de origem.
+     * @param columns As colunas do arquivo.
+     * @param <T> O tipo do objeto de origem.
+     * @return A linha CSV, sem a quebra de linha.
+     */
+    public static <T> String toLine(T source, List<Column<T>> columns) {
+        StringBuilder line = new StringBuilder();
+
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) line.append(',');
+
+            Object value = columns.get(i).value().apply(source);
+            if (value != null) line.append(escape(value.toString()));
+        }
+
+        return line.toString();
+    }
+
+    /**
+     * Indica se o texto deixa um valor entre aspas aberto, ou seja, se possui uma quantidade ímpar
+     * de aspas duplas (as aspas escapadas {@code ""} não alteram a paridade).
+     */
+    private static boolean hasOpenQuote(String text) {
+        int quotes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') quotes++;
+        }
+        return quotes % 2 != 0;
+    }
+
+    /**
+     * Envolve o valor em aspas duplas quando ele contém caracteres especiais do CSV.
+     */
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Coluna de um arquivo CSV, associando o nome do cabeçalho ao acessor do valor.
+     *
+     * @param name O nome da coluna no cabeçalho.
+     * @param value A função que extrai o valor da coluna.
+     * @param <T> O tipo do objeto de origem.
+     */
+    public record Column<T>(String name, Function<T, Object> value) {
+    }
+}
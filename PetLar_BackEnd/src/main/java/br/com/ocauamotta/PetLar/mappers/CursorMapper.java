@@ -0,0 +1,59 @@
+package br.com.ocauamotta.PetLar.mappers;
+
+import org.bson.BSONException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Classe utilitária responsável por converter posições de paginação por cursor (keyset)
+ * em tokens opacos e vice-versa.
+ * <p>
+ * O token é o JSON estendido do MongoDB contendo as chaves de ordenação e o {@code _id}
+ * do último registro retornado, codificado em Base64 seguro para URLs. O JSON estendido
+ * preserva os tipos BSON (como {@code ObjectId} e datas) na volta do cursor.
+ */
+@Component
+public class CursorMapper {
+
+    /**
+     * Construtor privado para evitar a instanciação desta classe utilitária.
+     */
+    private CursorMapper() {}
+
+    /**
+     * Converte uma posição de keyset em um cursor opaco.
+     *
+     * @param position A posição do último registro da janela atual.
+     * @return O cursor codificado, ou {@code null} se a posição não for do tipo keyset ou estiver vazia.
+     */
+    public static String toCursor(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) return null;
+
+        String json = new Document(keyset.getKeys()).toJson();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converte um cursor opaco na posição de keyset correspondente.
+     *
+     * @param cursor O cursor recebido do cliente.
+     * @return A posição para continuar a navegação, ou a posição inicial se o cursor for nulo ou vazio.
+     * @throws IllegalArgumentException Se o cursor não puder ser decodificado.
+     */
+    public static KeysetScrollPosition toScrollPosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) return ScrollPosition.keyset();
+
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return ScrollPosition.forward(Document.parse(json));
+        } catch (IllegalArgumentException | JsonParseException | BSONException ex) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.ocauamotta.PetLar.mappers;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Classe utilitária responsável por converter as datas armazenadas nas entidades
+ * para o formato exposto pela API.
+ * <p>
+ * As entidades guardam datas como {@code Instant} (BSON {@code Date}), permitindo consultas por
+ * intervalo e ordenação cronológica pelos índices. A API mantém o formato textual de
+ * {@code ZonedDateTime} no fuso de São Paulo (ex.: {@code 2025-12-31T12:05:00.123456-03:00[America/Sao_Paulo]}).
+ */
+@Component
+public class DateMapper {
+
+    /**
+     * Fuso horário utilizado na apresentação das datas.
+     */
+    public static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+
+    /**
+     * Construtor privado para evitar a instanciação desta classe utilitária.
+     */
+    private DateMapper() {}
+
+    /**
+     * Converte um instante no texto exposto pela API.
+     *
+     * @param instant O instante armazenado na entidade.
+     * @return O texto no formato de {@code ZonedDateTime} no fuso {@link #ZONE}, ou {@code null} se o instante for nulo.
+     */
+    public static String toText(Instant instant) {
+        return instant != null ? instant.atZone(ZONE).toString() : null;
+    }
+
+    /**
+     * Converte o texto de uma data no formato de {@code ZonedDateTime} no instante correspondente.
+     * <p>
+     * Utilizado na migração dos registros gravados antes da adoção de datas nativas.
+     *
+     * @param text O texto da data, como {@code 2025-12-31T12:05:00-03:00[America/Sao_Paulo]}.
+     * @return O instante correspondente, ou {@code null} se o texto for nulo.
+     * @throws IllegalArgumentException Se o texto não representar uma data válida.
+     */
+    public static Instant toInstant(String text) {
+        if (text == null) return null;
+
+        try {
+            return ZonedDateTime.parse(text).toInstant();
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Data inválida: " + text);
+        }
+    }
+}
@@ -34,9 +34,9 @@ public class UserMapper {
                 entity.getId(),
                 entity.getEmail(),
                 entity.getName(),
-                entity.getCreatedAt(),
-                entity.getUpdatedAt(),
-                entity.getDeletedAt()
+                DateMapper.toText(entity.getCreatedAt()),
+                DateMapper.toText(entity.getUpdatedAt()),
+                DateMapper.toText(entity.getDeletedAt())
         );
     }
 
@@ -0,0 +1,147 @@
+package br.com.ocauamotta.PetLar.migrations;
+
+import br.com.ocauamotta.PetLar.mappers.DateMapper;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Migração única das datas gravadas como texto para datas nativas do MongoDB.
+ * <p>
+ * Registros anteriores à adoção de {@code Instant} nas entidades guardam {@code createdAt},
+ * {@code updatedAt} e {@code deletedAt} como o texto de {@code ZonedDateTime}. Na inicialização,
+ * os documentos que ainda possuem algum desses campos como texto são percorridos por cursor
+ * (sem carregar a coleção em memória) e regravados em lotes de {@value #BATCH_SIZE} atualizações
+ * {@code $set}, alterando apenas os campos de data. Valores que não representam uma data válida
+ * são removidos com {@code $unset}, já que não poderiam ser lidos nos campos {@code Instant}, e o
+ * {@code _id} de cada documento afetado é registrado no log.
+ * <p>
+ * Ao final, um documento de controle é gravado (por upsert) na coleção {@value #MIGRATIONS_COLLECTION}
+ * com a quantidade de registros migrados por coleção e de valores removidos; enquanto ele existir,
+ * a migração não é executada novamente. Como a conversão é idempotente, instâncias iniciadas ao mesmo
+ * tempo podem executá-la em paralelo sem falhar. Pode ser desativada com
+ * {@code api.migrations.timestamps.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "api.migrations.timestamps.enabled", havingValue = "true", matchIfMissing = true)
+public class TimestampMigration implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TimestampMigration.class);
+
+    static final String MIGRATION_ID = "timestamps-to-date";
+    static final String MIGRATIONS_COLLECTION = "Migrations";
+    static final int BATCH_SIZE = 500;
+
+    /**
+     * Campos de data de cada entidade.
+     */
+    private static final Map<Class<?>, List<String>> DATE_FIELDS = Map.of(
+            Animal.class, List.of("createdAt", "updatedAt"),
+            Adoption.class, List.of("createdAt", "updatedAt"),
+            User.class, List.of("createdAt", "updatedAt", "deletedAt")
+    );
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (mongoTemplate.exists(query(where("_id").is(MIGRATION_ID)), MIGRATIONS_COLLECTION)) return;
+
+        Map<String, Long> migrated = new LinkedHashMap<>();
+        long discarded = 0;
+
+        for (Map.Entry<Class<?>, List<String>> entry : DATE_FIELDS.entrySet()) {
+            String collection = mongoTemplate.getCollectionName(entry.getKey());
+            Result result = migrate(collection, entry.getValue());
+            migrated.put(collection, result.migrated());
+            discarded += result.discarded();
+        }
+
+        mongoTemplate.upsert(query(where("_id").is(MIGRATION_ID)), new Update()
+                .set("appliedAt", new Date())
+                .set("migrated", new Document(migrated))
+                .set("discarded", discarded), MIGRATIONS_COLLECTION);
+    }
+
+    /**
+     * Converte os campos de data em texto dos documentos de uma coleção, removendo os valores inválidos.
+     *
+     * @param collection O nome da coleção.
+     * @param fields Os campos de data da coleção.
+     * @return A quantidade de documentos atualizados e de valores removidos.
+     */
+    Result migrate(String collection, List<String> fields) {
+        Query legacy = new Query(new Criteria().orOperator(fields.stream()
+                .map(field -> where(field).type(JsonSchemaObject.Type.STRING))
+                .toArray(Criteria[]::new)));
+        legacy.fields().include(fields.toArray(String[]::new));
+
+        long migrated = 0;
+        long discarded = 0;
+        int pending = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+
+        try (Stream<Document> documents = mongoTemplate.stream(legacy, Document.class, collection)) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                Update update = new Update();
+
+                for (String field : fields) {
+                    if (!(document.get(field) instanceof String text)) continue;
+
+                    try {
+                        update.set(field, Date.from(DateMapper.toInstant(text)));
+                    } catch (IllegalArgumentException ex) {
+                        log.warn("Data inválida removida de {}.{} no documento {}: '{}'.",
+                                collection, field, document.get("_id"), text);
+                        update.unset(field);
+                        discarded++;
+                    }
+                }
+
+                if (update.getUpdateObject().isEmpty()) continue;
+
+                bulk.updateOne(query(where("_id").is(document.get("_id"))), update);
+                migrated++;
+
+                if (++pending == BATCH_SIZE) {
+                    bulk.execute();
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                    pending = 0;
+                }
+            }
+        }
+
+        if (pending > 0) {
+            bulk.execute();
+        }
+
+        return new Result(migrated, discarded);
+    }
+
+    record Result(long migrated, long discarded) {
+    }
+}
@@ -5,19 +5,33 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
+
 /**
  * Entidade de domínio que representa uma solicitação de adoção no sistema.
  * <p>
  * Esta classe é mapeada para a coleção {@code Adoptions} no MongoDB e armazena
  * o vínculo entre um {@code User} (adotante), o {@code User} autor do animal e um {@code Animal}, além do
  * status atual do processo e a justificativa fornecida.
+ * <p>
+ * Os índices compostos cobrem as consultas de {@code IAdoptionRepository} por adotante
+ * e por autor do animal, seguidas da ordenação por data de criação, com desempate pelo {@code _id}.
+ * <p>
+ * O campo {@code version} habilita o controle de concorrência otimista sobre a solicitação.
  */
 @Setter
 @Getter
 @Builder
 @Document(collection = "Adoptions")
+@CompoundIndexes({
+        @CompoundIndex(name = "adopterId_createdAt_id", def = "{'adopterId': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "animalOwnerId_createdAt_id", def = "{'animalOwnerId': 1, 'createdAt': -1, '_id': -1}")
+})
 public class Adoption {
     @Id
     private String id;
@@ -28,6 +42,9 @@ public class Adoption {
     private String adopterId;
     private String reason;
 
-    private String createdAt;
-    private String updatedAt;
+    @Version
+    private Long version;
+
+    private Instant createdAt;
+    private Instant updatedAt;
 }
\ No newline at end of file
@@ -6,8 +6,16 @@ import br.com.ocauamotta.PetLar.enums.AnimalSize;
 import br.com.ocauamotta.PetLar.enums.AnimalType;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 /**
@@ -15,16 +23,39 @@ import java.time.LocalDate;
  * <p>
  * Esta classe armazena informações detalhadas sobre um animal disponível para adoção,
  * incluindo suas características e status atual.
+ * <p>
+ * Os índices compostos cobrem as consultas derivadas de {@code IAnimalRepository}
+ * (filtro por status, status e tipo, e autor) seguidas da ordenação por data de cadastro.
+ * O {@code _id} ao final dos índices de listagem permite a paginação por cursor (keyset)
+ * sem ordenação em memória.
+ * <p>
+ * O índice de texto sobre {@code name} (peso 3) e {@code description} (peso 1), com stemming em português,
+ * atende a busca textual de animais, ordenada pela relevância.
+ * <p>
+ * {@code location} é o ponto GeoJSON opcional onde o animal pode ser retirado, com índice {@code 2dsphere}
+ * utilizado pela busca por proximidade ({@code $geoNear}).
+ * <p>
+ * O campo {@code version} habilita o controle de concorrência otimista: uma gravação feita
+ * a partir de uma cópia desatualizada do documento é rejeitada em vez de sobrescrever o status.
+ * <p>
+ * {@code thumbnailPath} e {@code mediumPath} guardam as variações reduzidas da imagem original,
+ * geradas em segundo plano após o upload; ficam nulos até que a geração seja concluída.
  */
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Document(collection = "Animals")
+@Document(collection = "Animals", language = "portuguese")
+@CompoundIndexes({
+        @CompoundIndex(name = "status_createdAt_id", def = "{'status': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_type_createdAt_id", def = "{'status': 1, 'type': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "authorId_createdAt", def = "{'authorId': 1, 'createdAt': -1}")
+})
 public class Animal {
     @Id
     private String id;
+    @TextIndexed(weight = 3)
     private String name;
     private LocalDate birthDate;
     private Integer weight;
@@ -34,8 +65,16 @@ public class Animal {
     private AdoptionStatus status;
     private String authorId;
     private String imagePath;
+    private String thumbnailPath;
+    private String mediumPath;
+    @TextIndexed
     private String description;
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint location;
+
+    @Version
+    private Long version;
 
-    private String createdAt;
-    private String updatedAt;
+    private Instant createdAt;
+    private Instant updatedAt;
 }
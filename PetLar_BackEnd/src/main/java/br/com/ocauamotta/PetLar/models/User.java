@@ -10,6 +10,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 
@@ -23,7 +24,7 @@ import java.util.List;
  */
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @Document(collection = "Users")
 public class User implements UserDetails {
 
@@ -34,9 +35,9 @@ public class User implements UserDetails {
     private String password;
     private String name;
 
-    private String createdAt;
-    private String updatedAt;
-    private String deletedAt;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant deletedAt;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
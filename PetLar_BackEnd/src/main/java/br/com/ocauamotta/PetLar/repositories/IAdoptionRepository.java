@@ -14,9 +14,11 @@ import org.springframework.stereotype.Repository;
  * Estende {@code MongoRepository} para fornecer operações CRUD, paginação e
  * consultas personalizadas no banco de dados MongoDB, utilizando {@code String} como
  * o tipo do ID da chave primária.
+ * <p>
+ * As transições atômicas de status são fornecidas pelo fragmento {@code IAdoptionRepositoryCustom}.
  */
 @Repository
-public interface IAdoptionRepository extends MongoRepository<Adoption, String> {
+public interface IAdoptionRepository extends MongoRepository<Adoption, String>, IAdoptionRepositoryCustom {
 
     /**
      * Recupera uma página de registros de adoção associados a um adotante específico.
@@ -0,0 +1,62 @@
+package br.com.ocauamotta.PetLar.repositories;
+
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Fragmento de repositório com operações sobre a entidade {@code Adoption} executadas no servidor
+ * em uma única ida ao banco.
+ * <p>
+ * As transições de status utilizam {@code findAndModify}, garantindo atomicidade frente a requisições
+ * concorrentes. As listagens utilizam um pipeline de agregação que já devolve os registros enriquecidos.
+ */
+public interface IAdoptionRepositoryCustom {
+
+    /**
+     * Altera o status da solicitação de adoção somente se o status atual for o esperado.
+     * <p>
+     * Entre requisições concorrentes sobre a mesma solicitação (ex.: aprovação e cancelamento
+     * simultâneos), apenas uma consegue realizar a transição. A versão do documento é incrementada
+     * para invalidar cópias lidas anteriormente.
+     *
+     * @param id O ID da solicitação de adoção.
+     * @param expected O status que a solicitação deve possuir para que a transição ocorra.
+     * @param status O novo status da solicitação.
+     * @param updatedAt A data de atualização a ser registrada.
+     * @return Um {@code Optional} com a solicitação já atualizada, ou vazio se ela não existir
+     * ou não estiver no status esperado.
+     */
+    Optional<Adoption> transitionStatus(String id, AdoptionStatus expected, AdoptionStatus status, Instant updatedAt);
+
+    /**
+     * Recupera uma página das solicitações de adoção feitas por um adotante, já enriquecidas
+     * com o resumo do animal, do autor do animal e do adotante.
+     * <p>
+     * A página, o total de registros e as junções com {@code Animals} e {@code Users} são resolvidos
+     * em um único pipeline de agregação ({@code $facet} e {@code $lookup}), e apenas os campos de resumo
+     * são projetados. Os caminhos de imagem do animal são devolvidos como armazenados no banco, e as datas
+     * são convertidas para o formato textual da API por {@code DateMapper}.
+     *
+     * @param id O id do usuário adotante.
+     * @param pageable Configurações de paginação e ordenação.
+     * @return Uma {@code Page} de {@code AdoptionResponseDto}. Referências inexistentes são devolvidas como {@code null}.
+     */
+    Page<AdoptionResponseDto> findResponsesByAdopterId(String id, Pageable pageable);
+
+    /**
+     * Recupera uma página das solicitações de adoção recebidas pelo autor dos animais, já enriquecidas
+     * com o resumo do animal, do autor do animal e do adotante.
+     *
+     * @param id O id do usuário autor.
+     * @param pageable Configurações de paginação e ordenação.
+     * @return Uma {@code Page} de {@code AdoptionResponseDto}. Referências inexistentes são devolvidas como {@code null}.
+     * @see #findResponsesByAdopterId(String, Pageable)
+     */
+    Page<AdoptionResponseDto> findResponsesByAnimalOwnerId(String id, Pageable pageable);
+}
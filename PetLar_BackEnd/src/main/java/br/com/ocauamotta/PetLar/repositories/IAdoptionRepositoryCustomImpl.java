@@ -0,0 +1,182 @@
+package br.com.ocauamotta.PetLar.repositories;
+
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.mappers.DateMapper;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Implementação do fragmento {@code IAdoptionRepositoryCustom} utilizando o {@code MongoTemplate}.
+ */
+public class IAdoptionRepositoryCustomImpl implements IAdoptionRepositoryCustom {
+
+    /**
+     * Referências da adoção: o campo que guarda o ID, a entidade referenciada e o campo em que
+     * o documento relacionado é incluído.
+     */
+    private static final List<Reference> REFERENCES = List.of(
+            new Reference("animalId", Animal.class, "animal"),
+            new Reference("animalOwnerId", User.class, "animalOwner"),
+            new Reference("adopterId", User.class, "adopter")
+    );
+
+    /**
+     * Projeção no formato de {@code AdoptionResponseDto}, restrita aos campos de resumo
+     * de {@code AnimalSummaryDto} e {@code UserSummaryDto}.
+     */
+    private static final Document RESPONSE_PROJECTION = new Document()
+            .append("status", 1)
+            .append("reason", 1)
+            .append("createdAt", 1)
+            .append("updatedAt", 1)
+            .append("animal._id", 1)
+            .append("animal.name", 1)
+            .append("animal.birthDate", 1)
+            .append("animal.weight", 1)
+            .append("animal.type", 1)
+            .append("animal.sex", 1)
+            .append("animal.size", 1)
+            .append("animal.imagePath", 1)
+            .append("animal.thumbnailPath", 1)
+            .append("animal.mediumPath", 1)
+            .append("animal.description", 1)
+            .append("animalOwner._id", 1)
+            .append("animalOwner.name", 1)
+            .append("adopter._id", 1)
+            .append("adopter.name", 1);
+
+    /**
+     * Campos de data da adoção, armazenados como {@code Date} e expostos como texto.
+     */
+    private static final List<String> DATE_FIELDS = List.of("createdAt", "updatedAt");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Adoption> transitionStatus(String id, AdoptionStatus expected, AdoptionStatus status, Instant updatedAt) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query(where("id").is(id).and("status").is(expected)),
+                new Update().set("status", status).set("updatedAt", updatedAt).inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Adoption.class));
+    }
+
+    @Override
+    public Page<AdoptionResponseDto> findResponsesByAdopterId(String id, Pageable pageable) {
+        return findResponses(where("adopterId").is(id), pageable);
+    }
+
+    @Override
+    public Page<AdoptionResponseDto> findResponsesByAnimalOwnerId(String id, Pageable pageable) {
+        return findResponses(where("animalOwnerId").is(id), pageable);
+    }
+
+    /**
+     * Executa o pipeline de listagem: filtra e ordena as adoções e, em um {@code $facet}, conta o total
+     * e pagina e enriquece apenas os registros da página solicitada.
+     * <p>
+     * A ordenação fica fora do {@code $facet} para que possa ser atendida pelos índices de adotante e de
+     * autor do animal; sem ordenação informada, as adoções mais recentes vêm primeiro, e o {@code _id}
+     * desempata registros com a mesma chave para manter a paginação estável.
+     */
+    private Page<AdoptionResponseDto> findResponses(Criteria criteria, Pageable pageable) {
+        Sort order = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by(Sort.Direction.DESC, "createdAt");
+        if (order.getOrderFor("id") == null) {
+            order = order.and(Sort.by(Sort.Direction.DESC, "id"));
+        }
+
+        List<AggregationOperation> content = new ArrayList<>();
+
+        if (pageable.isPaged()) {
+            content.add(skip(pageable.getOffset()));
+            content.add(limit(pageable.getPageSize()));
+        }
+
+        content.addAll(lookupReferences());
+        content.add(context -> new Document("$project", RESPONSE_PROJECTION));
+
+        TypedAggregation<Adoption> aggregation = newAggregation(Adoption.class,
+                match(criteria),
+                sort(order),
+                facet(content.toArray(AggregationOperation[]::new)).as("content")
+                        .and(count().as("total")).as("total"));
+
+        Document result = mongoTemplate.aggregate(aggregation, Document.class).getUniqueMappedResult();
+        if (result == null) {
+            return Page.empty(pageable);
+        }
+
+        List<AdoptionResponseDto> responses = result.getList("content", Document.class).stream()
+                .map(this::toResponse)
+                .toList();
+        List<Document> total = result.getList("total", Document.class);
+
+        return new PageImpl<>(responses, pageable, total.isEmpty() ? 0 : total.getFirst().getInteger("total"));
+    }
+
+    /**
+     * Lê um registro projetado como {@code AdoptionResponseDto}, convertendo as datas para o formato textual da API.
+     */
+    private AdoptionResponseDto toResponse(Document document) {
+        for (String field : DATE_FIELDS) {
+            Date date = document.getDate(field);
+            document.put(field, date != null ? DateMapper.toText(date.toInstant()) : null);
+        }
+        return mongoTemplate.getConverter().read(AdoptionResponseDto.class, document);
+    }
+
+    /**
+     * Monta as junções com os animais e usuários referenciados pela adoção.
+     * <p>
+     * As referências são gravadas como texto, enquanto os {@code _id} gerados pelo banco são {@code ObjectId};
+     * por isso cada referência é convertida antes do {@code $lookup}, mantendo o texto original quando
+     * não representar um {@code ObjectId}. Referências inexistentes resultam em campo ausente.
+     */
+    private List<AggregationOperation> lookupReferences() {
+        Document converted = new Document();
+        for (Reference reference : REFERENCES) {
+            converted.append(reference.field(), new Document("$convert", new Document("input", "$" + reference.field())
+                    .append("to", "objectId")
+                    .append("onError", "$" + reference.field())
+                    .append("onNull", null)));
+        }
+
+        List<AggregationOperation> operations = new ArrayList<>();
+        operations.add(context -> new Document("$addFields", converted));
+
+        for (Reference reference : REFERENCES) {
+            operations.add(lookup(mongoTemplate.getCollectionName(reference.target()), reference.field(), "_id", reference.as()));
+            operations.add(unwind(reference.as(), true));
+        }
+
+        return operations;
+    }
+
+    private record Reference(String field, Class<?> target, String as) {
+    }
+}
@@ -1,21 +1,32 @@
 package br.com.ocauamotta.PetLar.repositories;
 
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSummaryDto;
 import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
 import br.com.ocauamotta.PetLar.enums.AnimalType;
 import br.com.ocauamotta.PetLar.models.Animal;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Interface de Repositório para a entidade {@code Animal}.
  * Estende {@code MongoRepository} para fornecer operações CRUD, paginação e
  * consultas personalizadas no banco de dados MongoDB, utilizando {@code String} como
  * o tipo do ID da chave primária.
+ * <p>
+ * As transições atômicas de status são fornecidas pelo fragmento {@code IAnimalRepositoryCustom}.
  */
 @Repository
-public interface IAnimalRepository extends MongoRepository<Animal, String> {
+public interface IAnimalRepository extends MongoRepository<Animal, String>, IAnimalRepositoryCustom {
     /**
      * Busca uma página de animais com base no status de adoção fornecido.
      *
@@ -35,6 +46,43 @@ public interface IAnimalRepository extends MongoRepository<Animal, String> {
      */
     Page<Animal> findByStatusAndType(AdoptionStatus adoptionStatus, AnimalType type, Pageable pageable);
 
+    /**
+     * Busca uma janela de animais com base no status de adoção, a partir de uma posição de cursor (keyset).
+     * <p>
+     * Diferente da paginação por deslocamento, não executa {@code count} nem {@code skip},
+     * mantendo o custo constante independentemente da profundidade da navegação.
+     *
+     * @param adoptionStatus O status de adoção pelo qual filtrar.
+     * @param position A posição a partir da qual a janela deve iniciar.
+     * @param limit A quantidade máxima de registros da janela.
+     * @param sort A ordenação utilizada como chave do cursor.
+     * @return Uma {@code Window} contendo os animais e a indicação de existência de mais registros.
+     */
+    Window<Animal> findByStatus(AdoptionStatus adoptionStatus, ScrollPosition position, Limit limit, Sort sort);
+
+    /**
+     * Busca uma janela de animais com base no status de adoção e no tipo, a partir de uma posição de cursor (keyset).
+     *
+     * @param adoptionStatus O status de adoção pelo qual filtrar.
+     * @param type O tipo de animal pelo qual filtrar.
+     * @param position A posição a partir da qual a janela deve iniciar.
+     * @param limit A quantidade máxima de registros da janela.
+     * @param sort A ordenação utilizada como chave do cursor.
+     * @return Uma {@code Window} contendo os animais e a indicação de existência de mais registros.
+     */
+    Window<Animal> findByStatusAndType(AdoptionStatus adoptionStatus, AnimalType type, ScrollPosition position, Limit limit, Sort sort);
+
+    /**
+     * Percorre por cursor todos os animais com o status de adoção informado, sem carregá-los de uma vez em memória.
+     * <p>
+     * O {@code Stream} mantém o cursor aberto no banco e deve ser fechado após o uso.
+     *
+     * @param adoptionStatus O status de adoção pelo qual filtrar.
+     * @param sort A ordem de leitura dos animais.
+     * @return Um {@code Stream} com os animais que correspondem ao status.
+     */
+    Stream<Animal> streamByStatus(AdoptionStatus adoptionStatus, Sort sort);
+
     /**
      * Busca uma página de animais que correspondem ao ID do usuário autor.
      *
@@ -43,4 +91,14 @@ public interface IAnimalRepository extends MongoRepository<Animal, String> {
      * @return Uma {@code Page} contendo os animais que correspondem ao status e ao tipo.
      */
     Page<Animal> findByAuthorId(String id, Pageable pageable);
+
+    /**
+     * Busca em lote os resumos dos animais com os IDs informados, lendo apenas os campos de {@code AnimalSummaryDto}.
+     * <p>
+     * Os caminhos de imagem são devolvidos como armazenados no banco.
+     *
+     * @param ids Os IDs dos animais.
+     * @return Uma {@code List} com os resumos dos animais encontrados, em qualquer ordem.
+     */
+    List<AnimalSummaryDto> findSummariesByIdIn(Collection<String> ids);
 }
@@ -0,0 +1,105 @@
+package br.com.ocauamotta.PetLar.repositories;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalFacetsDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.models.Animal;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+/**
+ * Fragmento de repositório com operações de escrita condicional e de busca sobre a entidade {@code Animal}.
+ * <p>
+ * As operações deste fragmento são executadas no servidor em uma única ida ao banco; as escritas
+ * são condicionadas ao estado atual do documento, garantindo atomicidade frente a requisições concorrentes.
+ */
+public interface IAnimalRepositoryCustom {
+
+    /**
+     * Altera o status de adoção do animal somente se o status atual for o esperado.
+     * <p>
+     * A verificação e a escrita ocorrem atomicamente no MongoDB, de modo que, entre
+     * requisições concorrentes para o mesmo animal, apenas uma consegue realizar a transição.
+     * A versão do documento é incrementada para invalidar cópias lidas anteriormente.
+     *
+     * @param id O ID do animal.
+     * @param expected O status que o animal deve possuir para que a transição ocorra.
+     * @param status O novo status de adoção.
+     * @return Um {@code Optional} com o animal já atualizado, ou vazio se o animal não existir
+     * ou não estiver no status esperado.
+     */
+    Optional<Animal> transitionStatus(String id, AdoptionStatus expected, AdoptionStatus status);
+
+    /**
+     * Aplica uma atualização parcial ao animal somente se o status atual for o esperado.
+     * <p>
+     * Apenas os campos presentes no {@code Update} são enviados ao banco, em vez do documento
+     * inteiro, de modo que alterações concorrentes em outros campos (status, variações de imagem)
+     * não sejam sobrescritas. A versão do documento é incrementada.
+     *
+     * @param id O ID do animal.
+     * @param expected O status que o animal deve possuir para que a atualização ocorra.
+     * @param update Os campos a serem alterados.
+     * @return Um {@code Optional} com o animal já atualizado, ou vazio se o animal não existir
+     * ou não estiver no status esperado.
+     */
+    Optional<Animal> updateFields(String id, AdoptionStatus expected, Update update);
+
+    /**
+     * Registra os caminhos das variações geradas para a imagem do animal.
+     * <p>
+     * A gravação só ocorre se o animal ainda possuir a mesma imagem original, descartando
+     * variações de uma imagem que foi substituída enquanto o processamento estava em andamento.
+     *
+     * @param id O ID do animal.
+     * @param imagePath O caminho da imagem original a partir da qual as variações foram geradas.
+     * @param thumbnailPath O caminho da miniatura.
+     * @param mediumPath O caminho da variação média.
+     * @return {@code true} se o animal foi atualizado; {@code false} caso contrário.
+     */
+    boolean updateImageVariants(String id, String imagePath, String thumbnailPath, String mediumPath);
+
+    /**
+     * Busca animais por texto e filtros, retornando a página solicitada e a contagem dos resultados
+     * por espécie, sexo e porte em uma única agregação ({@code $facet}).
+     * <p>
+     * Com termos de busca, o índice de texto seleciona os animais pelo nome e pela descrição e, sem
+     * ordenação explícita, os resultados são ordenados pela relevância; sem termos, pelos mais recentes.
+     *
+     * @param text Os termos de busca, ou {@code null} para buscar apenas pelos filtros.
+     * @param criteria Os filtros por características do animal.
+     * @param pageable Objeto que contém informações de paginação e ordenação.
+     * @return Um {@code SearchResult} com a página de animais e a contagem por característica.
+     */
+    SearchResult search(String text, Criteria criteria, Pageable pageable);
+
+    /**
+     * Busca animais dentro de um raio a partir de um ponto, do mais próximo ao mais distante.
+     * <p>
+     * Executada em uma única agregação: o {@code $geoNear} utiliza o índice {@code 2dsphere} de {@code location}
+     * para aplicar os filtros e calcular a distância, e um {@code $facet} conta o total e pagina, buscando
+     * o resumo do autor ({@code $lookup}) apenas para os registros da página solicitada. Animais sem
+     * localização não são retornados.
+     *
+     * @param point O ponto de referência da busca.
+     * @param radiusKm O raio máximo da busca, em quilômetros.
+     * @param criteria Os filtros por características do animal.
+     * @param pageable Objeto que contém informações de paginação; a ordenação é sempre pela distância.
+     * @return Uma {@code Page} de {@code AnimalResponseDto} com a distância de cada animal, em quilômetros.
+     */
+    Page<AnimalResponseDto> findNearby(GeoJsonPoint point, double radiusKm, Criteria criteria, Pageable pageable);
+
+    /**
+     * Resultado da busca de animais.
+     *
+     * @param animals A página de animais encontrados.
+     * @param facets A contagem de todos os animais encontrados por espécie, sexo e porte.
+     */
+    record SearchResult(Page<Animal> animals, AnimalFacetsDto facets) {
+    }
+}
@@ -0,0 +1,220 @@
+package br.com.ocauamotta.PetLar.repositories;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalFacetsDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.exceptions.EntityNotFoundException;
+import br.com.ocauamotta.PetLar.mappers.AnimalMapper;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Implementação do fragmento {@code IAnimalRepositoryCustom} utilizando o {@code MongoTemplate}.
+ */
+public class IAnimalRepositoryCustomImpl implements IAnimalRepositoryCustom {
+
+    /**
+     * Fator de conversão entre os metros utilizados pelo {@code $geoNear} e os quilômetros expostos pela API.
+     */
+    private static final double METERS_PER_KM = 1000.0;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Animal> transitionStatus(String id, AdoptionStatus expected, AdoptionStatus status) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query(where("id").is(id).and("status").is(expected)),
+                new Update().set("status", status).inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Animal.class));
+    }
+
+    @Override
+    public Optional<Animal> updateFields(String id, AdoptionStatus expected, Update update) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query(where("id").is(id).and("status").is(expected)),
+                update.inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Animal.class));
+    }
+
+    @Override
+    public boolean updateImageVariants(String id, String imagePath, String thumbnailPath, String mediumPath) {
+        return mongoTemplate.updateFirst(
+                query(where("id").is(id).and("imagePath").is(imagePath)),
+                new Update().set("thumbnailPath", thumbnailPath).set("mediumPath", mediumPath).inc("version", 1),
+                Animal.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public SearchResult search(String text, Criteria criteria, Pageable pageable) {
+        boolean hasText = text != null && !text.isBlank();
+        List<AggregationOperation> operations = new ArrayList<>();
+
+        if (hasText) {
+            operations.add(match(TextCriteria.forDefaultLanguage().matching(text)));
+            operations.add(context -> new Document("$addFields", new Document("score", new Document("$meta", "textScore"))));
+        }
+        operations.add(match(criteria));
+        operations.add(facet(content(hasText, pageable)).as("content")
+                .and(count().as("total")).as("total")
+                .and(sortByCount("type")).as("type")
+                .and(sortByCount("sex")).as("sex")
+                .and(sortByCount("size")).as("size"));
+
+        TypedAggregation<Animal> aggregation = newAggregation(Animal.class, operations);
+
+        Document result = mongoTemplate.aggregate(aggregation, Document.class).getUniqueMappedResult();
+        if (result == null) {
+            return new SearchResult(Page.empty(pageable), new AnimalFacetsDto(Map.of(), Map.of(), Map.of()));
+        }
+
+        List<Animal> animals = result.getList("content", Document.class).stream()
+                .map(document -> mongoTemplate.getConverter().read(Animal.class, document))
+                .toList();
+        List<Document> total = result.getList("total", Document.class);
+
+        return new SearchResult(
+                new PageImpl<>(animals, pageable, total.isEmpty() ? 0 : total.getFirst().getInteger("total")),
+                new AnimalFacetsDto(
+                        toCounts(result.getList("type", Document.class), AnimalType.class),
+                        toCounts(result.getList("sex", Document.class), AnimalSex.class),
+                        toCounts(result.getList("size", Document.class), AnimalSize.class)));
+    }
+
+    @Override
+    public Page<AnimalResponseDto> findNearby(GeoJsonPoint point, double radiusKm, Criteria criteria, Pageable pageable) {
+        List<AggregationOperation> content = new ArrayList<>();
+
+        if (pageable.isPaged()) {
+            content.add(skip(pageable.getOffset()));
+            content.add(limit(pageable.getPageSize()));
+        }
+        content.addAll(lookupAuthor());
+
+        TypedAggregation<Animal> aggregation = newAggregation(Animal.class,
+                context -> new Document("$geoNear", new Document("near", new Document("type", "Point")
+                                .append("coordinates", point.getCoordinates()))
+                        .append("key", "location")
+                        .append("distanceField", "distance")
+                        .append("maxDistance", radiusKm * METERS_PER_KM)
+                        .append("distanceMultiplier", 1.0 / METERS_PER_KM)
+                        .append("spherical", true)
+                        .append("query", context.getMappedObject(criteria.getCriteriaObject()))),
+                facet(content.toArray(AggregationOperation[]::new)).as("content")
+                        .and(count().as("total")).as("total"));
+
+        Document result = mongoTemplate.aggregate(aggregation, Document.class).getUniqueMappedResult();
+        if (result == null) {
+            return Page.empty(pageable);
+        }
+
+        List<AnimalResponseDto> animals = result.getList("content", Document.class).stream()
+                .map(this::toNearbyResponse)
+                .toList();
+        List<Document> total = result.getList("total", Document.class);
+
+        return new PageImpl<>(animals, pageable, total.isEmpty() ? 0 : total.getFirst().getInteger("total"));
+    }
+
+    /**
+     * Monta a junção com o autor do animal, trazendo apenas o nome, que compõe o {@code UserSummaryDto}.
+     * <p>
+     * O {@code authorId} é gravado como texto e convertido para {@code ObjectId} antes do {@code $lookup},
+     * mantendo o texto original quando não representar um {@code ObjectId}.
+     */
+    private List<AggregationOperation> lookupAuthor() {
+        return List.of(
+                context -> new Document("$addFields", new Document("authorRef", new Document("$convert",
+                        new Document("input", "$authorId")
+                                .append("to", "objectId")
+                                .append("onError", "$authorId")
+                                .append("onNull", null)))),
+                context -> new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(User.class))
+                        .append("localField", "authorRef")
+                        .append("foreignField", "_id")
+                        .append("pipeline", List.of(new Document("$project", new Document("name", 1))))
+                        .append("as", "author")),
+                unwind("author", true));
+    }
+
+    /**
+     * Lê um registro da busca por proximidade como {@code AnimalResponseDto}, com o autor e a distância calculada.
+     *
+     * @throws EntityNotFoundException Se o autor do animal não existir.
+     */
+    private AnimalResponseDto toNearbyResponse(Document document) {
+        Document author = document.get("author", Document.class);
+        if (author == null) {
+            throw new EntityNotFoundException("Autor não encontrado");
+        }
+
+        Animal animal = mongoTemplate.getConverter().read(Animal.class, document);
+        UserSummaryDto summary = mongoTemplate.getConverter().read(UserSummaryDto.class, author);
+
+        return AnimalMapper.toDTO(animal, summary, document.getDouble("distance"));
+    }
+
+    /**
+     * Monta os estágios da página de resultados: ordenação, com desempate pelo {@code _id}
+     * para manter a paginação estável, seguida de {@code $skip} e {@code $limit}.
+     */
+    private AggregationOperation[] content(boolean hasText, Pageable pageable) {
+        List<AggregationOperation> content = new ArrayList<>();
+
+        if (pageable.getSort().isSorted()) {
+            Sort order = pageable.getSort();
+            content.add(sort(order.getOrderFor("id") == null ? order.and(Sort.by(Sort.Direction.DESC, "id")) : order));
+        } else {
+            Document order = hasText ? new Document("score", -1) : new Document("createdAt", -1);
+            content.add(context -> new Document("$sort", order.append("_id", -1)));
+        }
+        if (pageable.isPaged()) {
+            content.add(skip(pageable.getOffset()));
+            content.add(limit(pageable.getPageSize()));
+        }
+
+        return content.toArray(AggregationOperation[]::new);
+    }
+
+    /**
+     * Converte o resultado de um {@code $sortByCount} em um mapa ordenado pela quantidade, de forma decrescente.
+     */
+    private <E extends Enum<E>> Map<E, Long> toCounts(List<Document> buckets, Class<E> type) {
+        Map<E, Long> counts = new LinkedHashMap<>();
+        for (Document bucket : buckets) {
+            String value = bucket.getString("_id");
+            if (value != null) counts.put(Enum.valueOf(type, value), ((Number) bucket.get("count")).longValue());
+        }
+        return counts;
+    }
+}
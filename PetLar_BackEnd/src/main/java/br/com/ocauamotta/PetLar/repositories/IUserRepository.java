@@ -1,10 +1,13 @@
 package br.com.ocauamotta.PetLar.repositories;
 
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
 import br.com.ocauamotta.PetLar.models.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,9 +17,11 @@ import java.util.Optional;
  * <p>
  * O tipo de entidade gerenciada é {@code User}
  * e o tipo da chave primária (ID) é {@code String}.
+ * <p>
+ * As atualizações parciais são fornecidas pelo fragmento {@code IUserRepositoryCustom}.
  */
 @Repository
-public interface IUserRepository extends MongoRepository<User, String> {
+public interface IUserRepository extends MongoRepository<User, String>, IUserRepositoryCustom {
     /**
      * Busca um usuário ativo pelo seu email.
      * <p>
@@ -63,4 +68,25 @@ public interface IUserRepository extends MongoRepository<User, String> {
      * {@code false} caso ele não exista ou tenha sido deletado.
      */
     Boolean existsByIdAndDeletedAtIsNull(String id);
+
+    /**
+     * Busca o resumo de um usuário pelo ID.
+     * <p>
+     * Utiliza uma projeção em DTO: apenas os campos de {@code UserSummaryDto} ({@code _id} e {@code name})
+     * são lidos do banco, de modo que o hash da senha e as datas não trafegam nem são decodificados.
+     *
+     * @param id O ID do usuário.
+     * @return Um {@code Optional} com o resumo do usuário, ou vazio se ele não existir.
+     */
+    Optional<UserSummaryDto> findSummaryById(String id);
+
+    /**
+     * Busca em lote os resumos dos usuários com os IDs informados.
+     * <p>
+     * Utiliza a mesma projeção de {@link #findSummaryById(String)}.
+     *
+     * @param ids Os IDs dos usuários.
+     * @return Uma lista com os resumos dos usuários encontrados, em qualquer ordem.
+     */
+    List<UserSummaryDto> findSummariesByIdIn(Collection<String> ids);
 }
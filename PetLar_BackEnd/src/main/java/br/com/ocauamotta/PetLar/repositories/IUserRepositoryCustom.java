@@ -0,0 +1,28 @@
+package br.com.ocauamotta.PetLar.repositories;
+
+import br.com.ocauamotta.PetLar.models.User;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+/**
+ * Fragmento de repositório com operações de escrita parcial sobre a entidade {@code User}.
+ * <p>
+ * Em vez de regravar o documento inteiro, as operações deste fragmento enviam ao banco
+ * apenas os campos alterados, reduzindo o tamanho das escritas e evitando que uma requisição
+ * sobrescreva campos alterados por outra.
+ */
+public interface IUserRepositoryCustom {
+
+    /**
+     * Aplica uma atualização parcial a um usuário ativo.
+     * <p>
+     * O documento retornado não inclui a senha, que não é necessária para montar as respostas.
+     *
+     * @param id O ID do usuário.
+     * @param update Os campos a serem alterados.
+     * @return Um {@code Optional} com o usuário já atualizado, ou vazio se o usuário não existir
+     * ou tiver sido excluído.
+     */
+    Optional<User> updateFields(String id, Update update);
+}
@@ -0,0 +1,34 @@
+package br.com.ocauamotta.PetLar.repositories;
+
+import br.com.ocauamotta.PetLar.models.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Implementação do fragmento {@code IUserRepositoryCustom} utilizando o {@code MongoTemplate}.
+ */
+public class IUserRepositoryCustomImpl implements IUserRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<User> updateFields(String id, Update update) {
+        Query query = query(where("id").is(id).and("deletedAt").isNull());
+        query.fields().exclude("password");
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                User.class));
+    }
+}
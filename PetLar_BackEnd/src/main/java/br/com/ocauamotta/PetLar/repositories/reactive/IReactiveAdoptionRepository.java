@@ -0,0 +1,52 @@
+package br.com.ocauamotta.PetLar.repositories.reactive;
+
+import br.com.ocauamotta.PetLar.models.Adoption;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface de Repositório reativo para a entidade {@code Adoption}.
+ * <p>
+ * Espelha as consultas de leitura de {@code IAdoptionRepository} utilizando o driver reativo do MongoDB.
+ * Disponível apenas no perfil {@code reactive}.
+ */
+@Repository
+public interface IReactiveAdoptionRepository extends ReactiveMongoRepository<Adoption, String> {
+
+    /**
+     * Busca as solicitações de adoção feitas por um adotante.
+     *
+     * @param id O ID do adotante.
+     * @param pageable Objeto que define a paginação e a ordenação.
+     * @return Um {@code Flux} com as solicitações da página solicitada.
+     */
+    Flux<Adoption> findByAdopterId(String id, Pageable pageable);
+
+    /**
+     * Conta as solicitações de adoção feitas por um adotante.
+     *
+     * @param id O ID do adotante.
+     * @return Um {@code Mono} com o total de registros.
+     */
+    Mono<Long> countByAdopterId(String id);
+
+    /**
+     * Busca as solicitações de adoção recebidas pelo autor dos animais.
+     *
+     * @param id O ID do autor dos animais.
+     * @param pageable Objeto que define a paginação e a ordenação.
+     * @return Um {@code Flux} com as solicitações da página solicitada.
+     */
+    Flux<Adoption> findByAnimalOwnerId(String id, Pageable pageable);
+
+    /**
+     * Conta as solicitações de adoção recebidas pelo autor dos animais.
+     *
+     * @param id O ID do autor dos animais.
+     * @return Um {@code Mono} com o total de registros.
+     */
+    Mono<Long> countByAnimalOwnerId(String id);
+}
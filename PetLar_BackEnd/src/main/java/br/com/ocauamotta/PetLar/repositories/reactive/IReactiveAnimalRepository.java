@@ -0,0 +1,72 @@
+package br.com.ocauamotta.PetLar.repositories.reactive;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSummaryDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.models.Animal;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Interface de Repositório reativo para a entidade {@code Animal}.
+ * <p>
+ * Espelha as consultas de leitura de {@code IAnimalRepository} utilizando o driver reativo do MongoDB,
+ * que não bloqueia a thread chamadora enquanto aguarda o banco. Disponível apenas no perfil {@code reactive}.
+ * <p>
+ * Consultas reativas não retornam {@code Page}: o conteúdo e o total são obtidos separadamente,
+ * permitindo que ambas as consultas sejam executadas em paralelo.
+ */
+@Repository
+public interface IReactiveAnimalRepository extends ReactiveMongoRepository<Animal, String> {
+
+    /**
+     * Busca os animais com o status de adoção especificado.
+     *
+     * @param adoptionStatus O status de adoção a ser filtrado.
+     * @param pageable Objeto que define a paginação e a ordenação.
+     * @return Um {@code Flux} com os animais da página solicitada.
+     */
+    Flux<Animal> findByStatus(AdoptionStatus adoptionStatus, Pageable pageable);
+
+    /**
+     * Conta os animais com o status de adoção especificado.
+     *
+     * @param adoptionStatus O status de adoção a ser filtrado.
+     * @return Um {@code Mono} com o total de registros.
+     */
+    Mono<Long> countByStatus(AdoptionStatus adoptionStatus);
+
+    /**
+     * Busca os animais com o status de adoção e o tipo especificados.
+     *
+     * @param adoptionStatus O status de adoção a ser filtrado.
+     * @param type O tipo de animal a ser filtrado.
+     * @param pageable Objeto que define a paginação e a ordenação.
+     * @return Um {@code Flux} com os animais da página solicitada.
+     */
+    Flux<Animal> findByStatusAndType(AdoptionStatus adoptionStatus, AnimalType type, Pageable pageable);
+
+    /**
+     * Conta os animais com o status de adoção e o tipo especificados.
+     *
+     * @param adoptionStatus O status de adoção a ser filtrado.
+     * @param type O tipo de animal a ser filtrado.
+     * @return Um {@code Mono} com o total de registros.
+     */
+    Mono<Long> countByStatusAndType(AdoptionStatus adoptionStatus, AnimalType type);
+
+    /**
+     * Busca em lote os resumos dos animais com os IDs informados, lendo apenas os campos de {@code AnimalSummaryDto}.
+     * <p>
+     * Os caminhos de imagem são devolvidos como armazenados no banco.
+     *
+     * @param ids Os IDs dos animais.
+     * @return Um {@code Flux} com os resumos dos animais encontrados, em qualquer ordem.
+     */
+    Flux<AnimalSummaryDto> findSummariesByIdIn(Collection<String> ids);
+}
@@ -0,0 +1,34 @@
+package br.com.ocauamotta.PetLar.repositories.reactive;
+
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.models.User;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Interface de Repositório reativo para a entidade {@code User}, utilizada na busca em lote
+ * dos autores e adotantes das leituras reativas. Disponível apenas no perfil {@code reactive}.
+ */
+@Repository
+public interface IReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+
+    /**
+     * Busca o resumo de um usuário pelo ID, lendo apenas os campos de {@code UserSummaryDto}.
+     *
+     * @param id O ID do usuário.
+     * @return Um {@code Mono} com o resumo do usuário, ou vazio se ele não existir.
+     */
+    Mono<UserSummaryDto> findSummaryById(String id);
+
+    /**
+     * Busca em lote os resumos dos usuários com os IDs informados, lendo apenas os campos de {@code UserSummaryDto}.
+     *
+     * @param ids Os IDs dos usuários.
+     * @return Um {@code Flux} com os resumos dos usuários encontrados, em qualquer ordem.
+     */
+    Flux<UserSummaryDto> findSummariesByIdIn(Collection<String> ids);
+}
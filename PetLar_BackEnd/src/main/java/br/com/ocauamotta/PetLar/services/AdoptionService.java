@@ -4,6 +4,11 @@ import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionRequestDto;
 import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
 import br.com.ocauamotta.PetLar.dtos.Adoption.EditReasonDto;
 import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.events.AdoptionStatusChangedEvent;
+import br.com.ocauamotta.PetLar.events.AdoptionUpdatedEvent;
+import br.com.ocauamotta.PetLar.events.AnimalChangedEvent;
+import br.com.ocauamotta.PetLar.exceptions.Adoption.AdoptionAlreadyProcessedException;
+import br.com.ocauamotta.PetLar.exceptions.Adoption.AnimalNotAvailableException;
 import br.com.ocauamotta.PetLar.exceptions.EntityNotFoundException;
 import br.com.ocauamotta.PetLar.mappers.AdoptionMapper;
 import br.com.ocauamotta.PetLar.models.Adoption;
@@ -19,17 +24,12 @@ import br.com.ocauamotta.PetLar.validations.Animal.AnimalNotAvailableValidation;
 import br.com.ocauamotta.PetLar.validations.Animal.TryAdoptionYourOwnPetValidation;
 import br.com.ocauamotta.PetLar.validations.User.UserActiveYetValidation;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.Map;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.time.Instant;
 
 /**
  * Camada de Serviço responsável por gerenciar o ciclo das adoções.
@@ -68,6 +68,9 @@ public class AdoptionService {
     @Autowired
     private AnimalOwnershipValidation animalOwnershipValidation;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Inicia o processo de solicitação de adoção para um animal específico.
      * <p>
@@ -77,37 +80,51 @@ public class AdoptionService {
      * <li>Validar se o adotante não é o dono do animal.</li>
      * <li>Validar se o animal está com status "DISPONIVEL".</li>
      * <li>Validar se o autor do animal ainda está ativo no sistema.</li>
+     * <li>Reservar o animal, alterando atomicamente seu status de "DISPONIVEL" para "PENDENTE".</li>
      * <li>Criar o registro de adoção com status "PENDENTE".</li>
-     * <li>Atualizar o status do animal para "PENDENTE" para evitar múltiplas solicitações simultâneas.</li>
      * </ol>
+     * A reserva é uma atualização condicional no banco: entre solicitações concorrentes para o
+     * mesmo animal, apenas uma consegue reservá-lo, e as demais recebem {@code AnimalNotAvailableException}.
+     * Caso a criação da adoção falhe, a reserva é desfeita.
      *
      * @param dto O DTO contendo o ID do animal e a justificativa da adoção.
      * @param user O usuário autenticado que deseja realizar a adoção.
      * @return O {@code AdoptionResponseDto} contendo os detalhes da solicitação criada.
      * @throws EntityNotFoundException Se o ID do animal fornecido não existir.
+     * @throws AnimalNotAvailableException Se o animal for reservado por outra solicitação antes desta.
      */
     public AdoptionResponseDto initAdoption(AdoptionRequestDto dto, User user) {
-        String time = ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toString();
+        Instant time = Instant.now();
 
         Animal entity = getAnimal(dto.animalId());
         tryAdoptionYourOwnPetValidation.validate(entity, user);
         animalNotAvailableValidation.validate(entity, null);
         userActiveYetValidation.validate(createUserReference(entity.getAuthorId()));
 
+        Animal reserved = animalRepository
+                .transitionStatus(entity.getId(), AdoptionStatus.DISPONIVEL, AdoptionStatus.PENDENTE)
+                .orElseThrow(() -> new AnimalNotAvailableException("Este animal está com uma adoção em andamento ou já foi adotado."));
+
         Adoption adoption = AdoptionMapper.toEntity(dto);
         adoption.setAdopterId(user.getId());
-        adoption.setAnimalOwnerId(entity.getAuthorId());
+        adoption.setAnimalOwnerId(reserved.getAuthorId());
         adoption.setReason(dto.reason());
         adoption.setStatus(AdoptionStatus.PENDENTE);
         adoption.setCreatedAt(time);
         adoption.setUpdatedAt(time);
 
-        Adoption savedAdoption = adoptionRepository.insert(adoption);
-
-        entity.setStatus(AdoptionStatus.PENDENTE);
-        animalRepository.save(entity);
-
-        return AdoptionMapper.toDTO(savedAdoption, entity, getUser(entity.getAuthorId()), user);
+        Adoption savedAdoption;
+        try {
+            savedAdoption = adoptionRepository.insert(adoption);
+        } catch (RuntimeException ex) {
+            animalRepository.transitionStatus(reserved.getId(), AdoptionStatus.PENDENTE, AdoptionStatus.DISPONIVEL);
+            eventPublisher.publishEvent(new AnimalChangedEvent(reserved.getId()));
+            throw ex;
+        }
+        eventPublisher.publishEvent(new AnimalChangedEvent(reserved.getId()));
+        eventPublisher.publishEvent(new AdoptionStatusChangedEvent(savedAdoption.getId(), AdoptionStatus.PENDENTE));
+
+        return publishUpdate(AdoptionMapper.toDTO(savedAdoption, reserved, getUser(reserved.getAuthorId()), user));
     }
 
     /**
@@ -121,8 +138,7 @@ public class AdoptionService {
      * @return Uma página de {@code AdoptionResponseDto} representando o histórico do usuário.
      */
     public Page<AdoptionResponseDto> getAdoptionsRequestedByMe(Pageable pageable, User user) {
-        Page<Adoption> adoptions = adoptionRepository.findByAdopterId(user.getId(), pageable);
-        return buildAdoptionResponsePage(adoptions);
+        return buildAdoptionResponsePage(adoptionRepository.findResponsesByAdopterId(user.getId(), pageable));
     }
 
     /**
@@ -130,10 +146,10 @@ public class AdoptionService {
      * <p>
      * O processo realiza as seguintes operações:
      * <ol>
-     * <li>Recupera a adoção e o animal associado.</li>
+     * <li>Recupera a adoção.</li>
      * <li>Valida se o usuário que solicita o cancelamento é o dono da solicitação.</li>
      * <li>Valida se a adoção ainda está pendente (não é possível cancelar algo já aprovado/rejeitado).</li>
-     * <li>Altera o status da adoção para {@code CANCELADO}.</li>
+     * <li>Altera atomicamente o status da adoção de {@code PENDENTE} para {@code CANCELADO}.</li>
      * <li>Libera o animal, voltando seu status para {@code DISPONIVEL}.</li>
      * </ol>
      *
@@ -141,22 +157,18 @@ public class AdoptionService {
      * @param user O usuário autenticado realizando a operação.
      * @return O {@code AdoptionResponseDto} com o status atualizado para cancelado.
      * @throws EntityNotFoundException Se a adoção ou o animal não forem encontrados.
+     * @throws AdoptionAlreadyProcessedException Se a adoção for processada por outra requisição concorrente.
      */
     public AdoptionResponseDto cancelAdoption(String id, User user) {
         Adoption adoption = getAdoption(id);
-        Animal entity = getAnimal(adoption.getAnimalId());
 
         adopterOwnershipValidation.validate(adoption, user);
         pendingAdoptionValidation.validate(adoption, null);
 
-        adoption.setStatus(AdoptionStatus.CANCELADO);
-        adoption.setUpdatedAt(ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toString());
-        Adoption savedAdoption = adoptionRepository.save(adoption);
-
-        entity.setStatus(AdoptionStatus.DISPONIVEL);
-        animalRepository.save(entity);
+        Adoption savedAdoption = transitionAdoption(id, AdoptionStatus.CANCELADO);
+        Animal entity = transitionAnimal(adoption.getAnimalId(), AdoptionStatus.DISPONIVEL);
 
-        return AdoptionMapper.toDTO(savedAdoption, entity, getUser(entity.getAuthorId()), user);
+        return publishUpdate(AdoptionMapper.toDTO(savedAdoption, entity, getUser(entity.getAuthorId()), user));
     }
 
     /**
@@ -166,7 +178,7 @@ public class AdoptionService {
      * <ol>
      * <li>A validação de que o executor é o proprietário do animal (Doador).</li>
      * <li>A validação de que a solicitação ainda está pendente.</li>
-     * <li>A atualização do status da adoção para {@code APROVADO}.</li>
+     * <li>A atualização atômica do status da adoção de {@code PENDENTE} para {@code APROVADO}.</li>
      * <li>A alteração definitiva do status do animal para {@code ADOTADO}.</li>
      * </ol>
      *
@@ -174,22 +186,18 @@ public class AdoptionService {
      * @param user O usuário autenticado (que deve ser o dono do animal).
      * @return O {@code AdoptionResponseDto} com o status atualizado.
      * @throws EntityNotFoundException Se a adoção ou o animal não forem encontrados.
+     * @throws AdoptionAlreadyProcessedException Se a adoção for processada por outra requisição concorrente.
      */
     public AdoptionResponseDto acceptAdoption(String id, User user) {
         Adoption adoption = getAdoption(id);
-        Animal entity = getAnimal(adoption.getAnimalId());
 
         animalOwnershipValidation.validate(adoption, user);
         pendingAdoptionValidation.validate(adoption, null);
 
-        adoption.setStatus(AdoptionStatus.APROVADO);
-        adoption.setUpdatedAt(ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toString());
-        Adoption savedAdoption = adoptionRepository.save(adoption);
+        Adoption savedAdoption = transitionAdoption(id, AdoptionStatus.APROVADO);
+        Animal entity = transitionAnimal(adoption.getAnimalId(), AdoptionStatus.ADOTADO);
 
-        entity.setStatus(AdoptionStatus.ADOTADO);
-        animalRepository.save(entity);
-
-        return AdoptionMapper.toDTO(savedAdoption, entity, user, getUser(adoption.getAdopterId()));
+        return publishUpdate(AdoptionMapper.toDTO(savedAdoption, entity, user, getUser(adoption.getAdopterId())));
     }
 
     /**
@@ -200,7 +208,7 @@ public class AdoptionService {
      * <ol>
      * <li>Validação de que o executor é o dono do animal (Doador).</li>
      * <li>Verificação se a solicitação ainda permite alteração.</li>
-     * <li>Atualização da solicitação para o status {@code RECUSADO}.</li>
+     * <li>Atualização atômica da solicitação de {@code PENDENTE} para o status {@code RECUSADO}.</li>
      * <li>Retorno do animal para o status {@code DISPONIVEL}, liberando-o para outras solicitações.</li>
      * </ol>
      *
@@ -208,22 +216,18 @@ public class AdoptionService {
      * @param user O usuário autenticado (deve ser o proprietário do animal).
      * @return O {@code AdoptionResponseDto} refletindo a recusa e data de atualização.
      * @throws EntityNotFoundException Se a adoção ou o animal não forem encontrados.
+     * @throws AdoptionAlreadyProcessedException Se a adoção for processada por outra requisição concorrente.
      */
     public AdoptionResponseDto denyAdoption(String id, User user) {
         Adoption adoption = getAdoption(id);
-        Animal entity = getAnimal(adoption.getAnimalId());
 
         animalOwnershipValidation.validate(adoption, user);
         pendingAdoptionValidation.validate(adoption, null);
 
-        adoption.setStatus(AdoptionStatus.RECUSADO);
-        adoption.setUpdatedAt(ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toString());
-        Adoption savedAdoption = adoptionRepository.save(adoption);
-
-        entity.setStatus(AdoptionStatus.DISPONIVEL);
-        animalRepository.save(entity);
+        Adoption savedAdoption = transitionAdoption(id, AdoptionStatus.RECUSADO);
+        Animal entity = transitionAnimal(adoption.getAnimalId(), AdoptionStatus.DISPONIVEL);
 
-        return AdoptionMapper.toDTO(savedAdoption, entity, user, getUser(adoption.getAdopterId()));
+        return publishUpdate(AdoptionMapper.toDTO(savedAdoption, entity, user, getUser(adoption.getAdopterId())));
     }
 
     /**
@@ -245,13 +249,13 @@ public class AdoptionService {
         pendingAdoptionValidation.validate(adoption, null);
 
         adoption.setReason(dto.reason());
-        adoption.setUpdatedAt(ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toString());
+        adoption.setUpdatedAt(Instant.now());
 
-        return AdoptionMapper.toDTO(
+        return publishUpdate(AdoptionMapper.toDTO(
                 adoptionRepository.save(adoption),
                 getAnimal(adoption.getAnimalId()),
                 getUser(adoption.getAnimalOwnerId()),
-                user);
+                user));
     }
 
     /**
@@ -265,8 +269,7 @@ public class AdoptionService {
      * @return Uma página de {@code AdoptionResponseDto} representando o histórico do usuário.
      */
     public Page<AdoptionResponseDto> getRequestsForMyAnimals(Pageable pageable, User user) {
-        Page<Adoption> adoptions = adoptionRepository.findByAnimalOwnerId(user.getId(), pageable);
-        return buildAdoptionResponsePage(adoptions);
+        return buildAdoptionResponsePage(adoptionRepository.findResponsesByAnimalOwnerId(user.getId(), pageable));
     }
 
     /**
@@ -295,6 +298,40 @@ public class AdoptionService {
                 .orElseThrow(() -> new EntityNotFoundException("Nenhum registro encontrado com ID - " + id));
     }
 
+    /**
+     * Altera atomicamente o status de uma solicitação pendente e notifica a transição,
+     * ou lança exceção caso ela tenha sido processada por outra requisição após a leitura.
+     */
+    private Adoption transitionAdoption(String id, AdoptionStatus status) {
+        Instant time = Instant.now();
+        Adoption adoption = adoptionRepository.transitionStatus(id, AdoptionStatus.PENDENTE, status, time)
+                .orElseThrow(() -> new AdoptionAlreadyProcessedException("Não foi possivel alterar o status desta solicitação."));
+        eventPublisher.publishEvent(new AdoptionStatusChangedEvent(id, status));
+        return adoption;
+    }
+
+    /**
+     * Altera atomicamente o status de um animal reservado ({@code PENDENTE}) e notifica a alteração.
+     * Caso o animal não esteja reservado, retorna seu estado atual sem alterá-lo.
+     */
+    private Animal transitionAnimal(String id, AdoptionStatus status) {
+        Animal entity = animalRepository.transitionStatus(id, AdoptionStatus.PENDENTE, status)
+                .orElseGet(() -> getAnimal(id));
+        eventPublisher.publishEvent(new AnimalChangedEvent(id));
+        return entity;
+    }
+
+    /**
+     * Notifica o novo estado da solicitação ao autor do animal e ao adotante (ver {@code AdoptionUpdatedEvent}).
+     *
+     * @param response A resposta da operação.
+     * @return A mesma resposta, para encadeamento.
+     */
+    private AdoptionResponseDto publishUpdate(AdoptionResponseDto response) {
+        eventPublisher.publishEvent(new AdoptionUpdatedEvent(response));
+        return response;
+    }
+
     /**
      * Recupera uma solicitação de adoção pelo ID ou lança exceção.
      */
@@ -304,56 +341,24 @@ public class AdoptionService {
     }
 
     /**
-     * Enriquece uma página de registros de adoção com dados completos de Animais, Adotantes e Doadores.
+     * Finaliza uma página de adoções já enriquecida pelo banco com os resumos de Animais, Adotantes e Doadores.
      * <p>
-     * Para evitar múltiplas consultas ao banco de dados (problema N+1), este método:
-     * <ol>
-     * <li>Extrai todos os IDs únicos de Adotantes e Doadores em um único {@code Set}.</li>
-     * <li>Extrai todos os IDs únicos de Animais.</li>
-     * <li>Realiza buscas em lote {@code findAllById} para carregar todos os objetos necessários.</li>
-     * <li>Cria mapas de busca em memória para associar as entidades rapidamente.</li>
-     * <li>Valida a integridade das referências antes de realizar o mapeamento para DTO.</li>
-     * </ol>
+     * A página, o total e as junções são resolvidos pelo repositório em um único pipeline de agregação
+     * (ver {@code IAdoptionRepositoryCustom.findResponsesByAdopterId}), evitando as buscas em lote
+     * separadas. Este método apenas valida a integridade das referências e converte os caminhos das
+     * imagens em URLs públicas.
      *
-     * @param adoptions Uma página de entidades {@code Adoption}.
+     * @param adoptions Uma página de {@code AdoptionResponseDto} projetada pelo banco.
      * @return Uma página de {@code AdoptionResponseDto} totalmente populada.
-     * @throws EntityNotFoundException Caso algum objeto relacionado não seja encontrado no banco.
+     * @throws EntityNotFoundException Caso algum usuário relacionado não seja encontrado no banco.
      */
-    private Page<AdoptionResponseDto> buildAdoptionResponsePage(Page<Adoption> adoptions) {
-        Set<String> userIds = adoptions.getContent().stream()
-                .flatMap(adoption -> Stream.of(
-                        adoption.getAdopterId(),
-                        adoption.getAnimalOwnerId()
-                ))
-                .collect(Collectors.toSet());
-
-        Set<String> animalIds = adoptions.getContent().stream()
-                .map(Adoption::getAnimalId)
-                .collect(Collectors.toSet());
-
-        Map<String, User> usersMap = userRepository.findAllById(userIds)
-                .stream()
-                .collect(Collectors.toMap(User::getId, Function.identity()));
-
-        Map<String, Animal> animalsMap = animalRepository.findAllById(animalIds)
-                .stream().collect(Collectors.toMap(Animal::getId, Function.identity()));
-
+    private Page<AdoptionResponseDto> buildAdoptionResponsePage(Page<AdoptionResponseDto> adoptions) {
         return adoptions.map(adoption -> {
-
-            Animal animal = animalsMap.get(adoption.getAnimalId());
-            User adopter = usersMap.get(adoption.getAdopterId());
-            User animalOwner = usersMap.get(adoption.getAnimalOwnerId());
-
-            if (adopter == null || animalOwner == null) {
+            if (adoption.adopter() == null || adoption.animalOwner() == null) {
                 throw new EntityNotFoundException("Usuário relacionado à adoção não encontrado.");
             }
 
-            return AdoptionMapper.toDTO(
-                    adoption,
-                    animal,
-                    animalOwner,
-                    adopter
-            );
+            return AdoptionMapper.withPublicUrls(adoption);
         });
     }
 }
@@ -0,0 +1,361 @@
+package br.com.ocauamotta.PetLar.services;
+
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Entrega em tempo real, via Server-Sent Events, das alterações nas solicitações de adoção.
+ * <p>
+ * Cada usuário possui um registro com as suas conexões abertas e um buffer com os últimos eventos
+ * enviados a ele. Quando uma solicitação é criada, aceita, recusada, cancelada ou tem a justificativa
+ * alterada, o novo estado ({@code AdoptionResponseDto}) é enviado ao autor do animal e ao adotante,
+ * com um ID crescente. Ao reconectar com o cabeçalho {@code Last-Event-ID}, o cliente recebe os eventos
+ * perdidos a partir do buffer; se eles já tiverem sido descartados, recebe um evento {@value #RESYNC_EVENT},
+ * indicando que deve recarregar a listagem.
+ * <p>
+ * Uma conexão ociosa não ocupa nenhuma thread (a resposta é assíncrona). Os envios de cada conexão são
+ * enfileirados e escritos em ordem por uma virtual thread criada apenas enquanto houver eventos pendentes,
+ * de modo que um cliente lento não bloqueia a operação que gerou o evento nem os demais clientes. Um cliente
+ * que acumula mais de {@value #MAX_PENDING} envios pendentes é desconectado e recupera os eventos ao reconectar.
+ * Comentários de heartbeat são enviados periodicamente a todas as conexões, mantendo-as abertas em proxies e
+ * detectando clientes desconectados.
+ * <p>
+ * Os registros são mantidos em memória: cada instância entrega os eventos das operações que executou.
+ */
+@Service
+public class AdoptionStreamService {
+
+    static final String ADOPTION_EVENT = "adoption";
+    static final String RESYNC_EVENT = "resync";
+
+    /**
+     * Quantidade máxima de envios pendentes por conexão.
+     */
+    static final int MAX_PENDING = 100;
+
+    @Value("${api.adoptions.stream.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${api.adoptions.stream.heartbeat-interval:20s}")
+    private Duration heartbeatInterval;
+
+    @Value("${api.adoptions.stream.replay-size:50}")
+    private int replaySize;
+
+    @Value("${api.adoptions.stream.replay-ttl:5m}")
+    private Duration replayTtl;
+
+    private final Map<String, UserStream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * IDs dos eventos, iniciados pelo instante de inicialização para que IDs recebidos
+     * antes de uma reinicialização sejam reconhecidos como anteriores ao buffer atual.
+     */
+    private final long firstId = System.currentTimeMillis() * 1_000;
+    private final AtomicLong sequence = new AtomicLong(firstId);
+
+    private ExecutorService senders;
+    private ScheduledExecutorService heartbeats;
+
+    /**
+     * Inicia o executor de envios em virtual threads e o agendamento dos heartbeats.
+     */
+    @PostConstruct
+    public void init() {
+        senders = Executors.newVirtualThreadPerTaskExecutor();
+        heartbeats = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("adoption-stream-heartbeat").daemon().factory());
+        heartbeats.scheduleWithFixedDelay(this::heartbeat,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Encerra as conexões abertas e os executores.
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        for (UserStream stream : streams.values()) {
+            List<Subscriber> subscribers;
+            synchronized (stream) {
+                subscribers = List.copyOf(stream.subscribers());
+            }
+            subscribers.forEach(Subscriber::close);
+        }
+        senders.shutdown();
+    }
+
+    /**
+     * Abre uma conexão de eventos para o usuário.
+     *
+     * @param userId O ID do usuário autenticado.
+     * @param lastEventId O ID do último evento recebido pelo cliente, ou {@code null} em uma nova conexão.
+     * @return O {@code SseEmitter} da conexão.
+     * @throws IllegalArgumentException Se o {@code Last-Event-ID} não for numérico.
+     */
+    public SseEmitter subscribe(String userId, String lastEventId) {
+        Long lastId = parseEventId(lastEventId);
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        register(userId, emitter, lastId);
+        return emitter;
+    }
+
+    /**
+     * Registra uma conexão do usuário, reenviando os eventos posteriores ao último recebido.
+     *
+     * @param userId O ID do usuário.
+     * @param emitter A conexão a ser registrada.
+     * @param lastEventId O ID do último evento recebido pelo cliente, ou {@code null} em uma nova conexão.
+     */
+    public void register(String userId, SseEmitter emitter, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter);
+
+        emitter.onCompletion(() -> unregister(userId, subscriber));
+        emitter.onTimeout(() -> unregister(userId, subscriber));
+        emitter.onError(ex -> unregister(userId, subscriber));
+
+        withStream(userId, stream -> {
+            stream.subscribers().add(subscriber);
+
+            if (lastEventId == null) {
+                subscriber.offer(Message.comment("connected"));
+            } else if (lastEventId < firstId || lastEventId < stream.discardedUpTo()) {
+                subscriber.offer(Message.resync());
+            } else {
+                for (Message message : stream.recent()) {
+                    if (message.id() > lastEventId) subscriber.offer(message);
+                }
+            }
+        });
+    }
+
+    /**
+     * Envia o novo estado da solicitação ao autor do animal e ao adotante. O ID do evento é gerado
+     * com o registro do usuário bloqueado, de modo que os eventos de cada usuário têm IDs crescentes.
+     *
+     * @param adoption O estado atual da solicitação.
+     */
+    public void publish(AdoptionResponseDto adoption) {
+        for (String userId : recipients(adoption)) {
+            withStream(userId, stream -> {
+                Message message = Message.adoption(sequence.incrementAndGet(), adoption);
+                stream.append(message, replaySize);
+                stream.subscribers().forEach(subscriber -> subscriber.offer(message));
+            });
+        }
+    }
+
+    /**
+     * Envia um heartbeat a todas as conexões e descarta os registros sem conexões cujo último
+     * evento seja mais antigo que o período de reenvio.
+     */
+    public void heartbeat() {
+        long expiredBefore = System.currentTimeMillis() - replayTtl.toMillis();
+        Message heartbeat = Message.comment("heartbeat");
+
+        streams.forEach((userId, stream) -> {
+            synchronized (stream) {
+                if (stream.subscribers().isEmpty()) {
+                    if (stream.lastEventAt() < expiredBefore) {
+                        stream.remove();
+                        streams.remove(userId, stream);
+                    }
+                    return;
+                }
+                stream.subscribers().forEach(subscriber -> subscriber.offer(heartbeat));
+            }
+        });
+    }
+
+    /**
+     * Executa uma ação com o registro do usuário bloqueado, criando-o se necessário. Se o registro
+     * for descartado entre a busca e o bloqueio, a ação é repetida sobre um novo registro.
+     */
+    private void withStream(String userId, Consumer<UserStream> action) {
+        while (true) {
+            UserStream stream = streams.computeIfAbsent(userId, id -> new UserStream(sequence.get()));
+            synchronized (stream) {
+                if (stream.removed()) continue;
+                action.accept(stream);
+                return;
+            }
+        }
+    }
+
+    private void unregister(String userId, Subscriber subscriber) {
+        UserStream stream = streams.get(userId);
+        if (stream == null) return;
+        synchronized (stream) {
+            stream.subscribers().remove(subscriber);
+        }
+    }
+
+    private List<String> recipients(AdoptionResponseDto adoption) {
+        List<String> recipients = new ArrayList<>(2);
+        for (UserSummaryDto user : List.of(adoption.animalOwner(), adoption.adopter())) {
+            if (user != null && user.id() != null && !recipients.contains(user.id())) recipients.add(user.id());
+        }
+        return recipients;
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return null;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Last-Event-ID inválido: " + lastEventId);
+        }
+    }
+
+    /**
+     * Registro de um usuário: as conexões abertas e os últimos eventos enviados, para reenvio.
+     * Os eventos anteriores à criação do registro são tratados como descartados. O acesso é
+     * sincronizado no próprio registro.
+     */
+    private static final class UserStream {
+
+        private final Set<Subscriber> subscribers = new LinkedHashSet<>();
+        private final Deque<Message> recent = new ArrayDeque<>();
+        private long discardedUpTo;
+        private long lastEventAt = System.currentTimeMillis();
+        private boolean removed;
+
+        UserStream(long discardedUpTo) {
+            this.discardedUpTo = discardedUpTo;
+        }
+
+        Set<Subscriber> subscribers() {
+            return subscribers;
+        }
+
+        Deque<Message> recent() {
+            return recent;
+        }
+
+        long discardedUpTo() {
+            return discardedUpTo;
+        }
+
+        long lastEventAt() {
+            return lastEventAt;
+        }
+
+        boolean removed() {
+            return removed;
+        }
+
+        void remove() {
+            removed = true;
+        }
+
+        void append(Message message, int capacity) {
+            recent.addLast(message);
+            while (recent.size() > capacity) {
+                discardedUpTo = recent.removeFirst().id();
+            }
+            lastEventAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Conexão de um cliente, com os envios pendentes escritos em ordem por uma única
+     * virtual thread de cada vez.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Message> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Message message) {
+            if (closed) return;
+            if (size.incrementAndGet() > MAX_PENDING) {
+                close();
+                return;
+            }
+            pending.add(message);
+            if (draining.compareAndSet(false, true)) senders.execute(this::drain);
+        }
+
+        private void drain() {
+            do {
+                Message message;
+                while (!closed && (message = pending.poll()) != null) {
+                    size.decrementAndGet();
+                    try {
+                        emitter.send(message.toEvent());
+                    } catch (IOException | IllegalStateException ex) {
+                        close();
+                    }
+                }
+                draining.set(false);
+            } while (!closed && !pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        void close() {
+            closed = true;
+            pending.clear();
+            emitter.complete();
+        }
+    }
+
+    /**
+     * Evento a ser enviado: uma alteração de adoção, o aviso de recarga ou um comentário.
+     */
+    private record Message(long id, String name, Object data) {
+
+        static Message adoption(long id, AdoptionResponseDto adoption) {
+            return new Message(id, ADOPTION_EVENT, adoption);
+        }
+
+        static Message resync() {
+            return new Message(0, RESYNC_EVENT, RESYNC_EVENT);
+        }
+
+        static Message comment(String text) {
+            return new Message(0, null, text);
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) return SseEmitter.event().comment((String) data);
+
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name);
+            return id > 0
+                    ? event.id(String.valueOf(id)).data(data, MediaType.APPLICATION_JSON)
+                    : event.data(data);
+        }
+    }
+}
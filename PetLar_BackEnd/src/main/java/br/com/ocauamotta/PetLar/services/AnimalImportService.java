@@ -0,0 +1,278 @@
+package br.com.ocauamotta.PetLar.services;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalImportResponseDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalImportRowDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalRequestDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.FileFormat;
+import br.com.ocauamotta.PetLar.events.AnimalsImportedEvent;
+import br.com.ocauamotta.PetLar.mappers.AnimalMapper;
+import br.com.ocauamotta.PetLar.mappers.CsvMapper;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.LineNumberReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Camada de Serviço responsável pela importação em lote de animais a partir de arquivos NDJSON ou CSV.
+ * <p>
+ * O arquivo é recebido como corpo da requisição, e não como parte multipart, para que o limite de
+ * {@code api.animals.import.max-size} valha apenas para a importação, sem elevar o limite global de
+ * upload das imagens. O tamanho é conferido pelo {@code Content-Length} antes da leitura.
+ * <p>
+ * O arquivo é lido registro a registro, sem ser carregado em memória: cada registro é convertido em
+ * {@code AnimalRequestDto}, validado com as mesmas restrições do cadastro individual e acumulado
+ * até completar um lote de {@code api.animals.import.batch-size} registros, gravado com uma única
+ * operação em lote não ordenada. Os animais lidos ocupam memória apenas até a gravação do seu lote;
+ * o relatório, por sua vez, guarda o resultado de cada registro (linha, ID ou erros) e cresce
+ * proporcionalmente ao arquivo.
+ * <p>
+ * No CSV, valores entre aspas podem conter quebras de linha, como os gerados pela exportação;
+ * o registro é identificado no relatório pela linha em que começa.
+ */
+@Service
+public class AnimalImportService {
+
+    /**
+     * Chave do mapa de erros para falhas que não pertencem a um campo específico.
+     */
+    private static final String ROW_ERROR = "row";
+
+    @Value("${api.animals.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${api.animals.import.max-size:20MB}")
+    private DataSize maxSize;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Importa os animais de um arquivo NDJSON (um objeto JSON por linha) ou CSV (com cabeçalho
+     * contendo os nomes dos campos de {@code AnimalRequestDto}).
+     * <p>
+     * Os animais importados recebem o usuário autenticado como autor e o status {@code DISPONIVEL}.
+     * Linhas inválidas não interrompem a importação: são rejeitadas e descritas no relatório.
+     *
+     * @param content O conteúdo do arquivo, lido do corpo da requisição.
+     * @param contentType O {@code Content-Type} da requisição, que identifica o formato.
+     * @param size O tamanho do arquivo em bytes, informado no {@code Content-Length}, ou {@code null} se ausente.
+     * @param user O usuário autenticado.
+     * @return O {@code AnimalImportResponseDto} com os totais e o resultado de cada linha.
+     * @throws IllegalArgumentException Se o formato do arquivo não for suportado, o tamanho não for informado
+     * ou exceder o limite, ou o CSV não possuir cabeçalho.
+     */
+    public AnimalImportResponseDto importAnimals(InputStream content, String contentType, Long size, User user) {
+        FileFormat format = FileFormat.fromContentType(contentType);
+        if (size == null || size < 0) {
+            throw new IllegalArgumentException("Informe o tamanho do arquivo no cabeçalho Content-Length.");
+        }
+        if (size > maxSize.toBytes()) {
+            throw new IllegalArgumentException("Arquivo muito grande. O limite é de " + maxSize.toMegabytes() + "MB.");
+        }
+
+        Batch batch = new Batch(user, Instant.now());
+
+        try (LineNumberReader reader = new LineNumberReader(new InputStreamReader(content, StandardCharsets.UTF_8))) {
+            List<String> header = null;
+            String line;
+
+            if (format == FileFormat.CSV) {
+                String first = reader.readLine();
+                if (first == null || first.isBlank()) {
+                    throw new IllegalArgumentException("O arquivo CSV deve conter um cabeçalho com os nomes dos campos.");
+                }
+                header = CsvMapper.split(first.replace("\uFEFF", "")).stream().map(String::trim).toList();
+            }
+
+            while ((line = reader.readLine()) != null) {
+                long number = reader.getLineNumber();
+                if (line.isBlank()) continue;
+                if (header != null) line = CsvMapper.readRecord(line, reader);
+                batch.add(number, line, header);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Não foi possível ler o arquivo de importação.", ex);
+        }
+
+        batch.flush();
+        return batch.report();
+    }
+
+    /**
+     * Converte uma linha do arquivo em {@code AnimalRequestDto}.
+     *
+     * @param line O conteúdo da linha.
+     * @param header As colunas do cabeçalho CSV, ou {@code null} para NDJSON.
+     * @return O DTO de requisição correspondente.
+     * @throws JsonProcessingException Se a linha não puder ser convertida.
+     * @throws IllegalArgumentException Se a quantidade de colunas não corresponder ao cabeçalho.
+     */
+    private AnimalRequestDto parse(String line, List<String> header) throws JsonProcessingException {
+        if (header == null) {
+            return objectMapper.readValue(line, AnimalRequestDto.class);
+        }
+
+        List<String> values = CsvMapper.split(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("A linha possui " + values.size() + " colunas, esperado " + header.size() + ".");
+        }
+
+        ObjectNode node = objectMapper.createObjectNode();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) node.put(header.get(i), value);
+        }
+        return objectMapper.treeToValue(node, AnimalRequestDto.class);
+    }
+
+    /**
+     * Acumula os animais válidos até completar um lote e registra o resultado de cada linha.
+     */
+    private class Batch {
+
+        private final User user;
+        private final Instant time;
+        private final List<Animal> animals = new ArrayList<>();
+        private final List<Long> lines = new ArrayList<>();
+        private final List<AnimalImportRowDto> rows = new ArrayList<>();
+        private long imported;
+
+        Batch(User user, Instant time) {
+            this.user = user;
+            this.time = time;
+        }
+
+        /**
+         * Converte e valida uma linha, rejeitando-a ou adicionando o animal ao lote corrente.
+         */
+        void add(long number, String line, List<String> header) {
+            Map<String, String> errors = new LinkedHashMap<>();
+            Animal entity = null;
+
+            try {
+                AnimalRequestDto dto = parse(line, header);
+                Set<ConstraintViolation<AnimalRequestDto>> violations = validator.validate(dto);
+
+                if (violations.isEmpty()) {
+                    entity = AnimalMapper.toEntity(dto);
+                } else {
+                    errors.putAll(violations.stream().collect(Collectors.toMap(
+                            violation -> violation.getPropertyPath().toString(),
+                            ConstraintViolation::getMessage,
+                            (first, second) -> first)));
+                }
+            } catch (JsonMappingException ex) {
+                String field = ex.getPath().isEmpty() ? null : ex.getPath().getFirst().getFieldName();
+                errors.put(field == null ? ROW_ERROR : field, field == null ? "Conteúdo inválido." : "Valor inválido.");
+            } catch (JsonProcessingException ex) {
+                errors.put(ROW_ERROR, "JSON inválido.");
+            } catch (IllegalArgumentException ex) {
+                errors.put(ROW_ERROR, ex.getMessage());
+            }
+
+            if (entity == null) {
+                rows.add(new AnimalImportRowDto(number, null, errors));
+                return;
+            }
+
+            entity.setId(new ObjectId().toHexString());
+            entity.setAuthorId(user.getId());
+            entity.setStatus(AdoptionStatus.DISPONIVEL);
+            entity.setVersion(0L);
+            entity.setCreatedAt(time);
+            entity.setUpdatedAt(time);
+
+            animals.add(entity);
+            lines.add(number);
+
+            if (animals.size() >= batchSize) flush();
+        }
+
+        /**
+         * Grava o lote corrente com uma operação em lote não ordenada: uma falha em um registro
+         * não impede a gravação dos demais, e os registros recusados pelo banco são rejeitados no relatório.
+         * Os IDs gravados são notificados por lote ({@code AnimalsImportedEvent}).
+         */
+        void flush() {
+            if (animals.isEmpty()) return;
+
+            Map<Integer, String> failures = Map.of();
+            try {
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Animal.class)
+                        .insert(animals)
+                        .execute();
+            } catch (BulkOperationException ex) {
+                failures = ex.getErrors().stream()
+                        .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getMessage, (first, second) -> first));
+            }
+
+            List<String> ids = new ArrayList<>(animals.size());
+            for (int i = 0; i < animals.size(); i++) {
+                String failure = failures.get(i);
+
+                if (failure == null) {
+                    String id = animals.get(i).getId();
+                    ids.add(id);
+                    imported++;
+                    rows.add(new AnimalImportRowDto(lines.get(i), id, null));
+                } else {
+                    rows.add(new AnimalImportRowDto(lines.get(i), null, Map.of(ROW_ERROR, "Não foi possível gravar o registro.")));
+                }
+            }
+
+            if (!ids.isEmpty()) {
+                eventPublisher.publishEvent(new AnimalsImportedEvent(ids));
+            }
+
+            animals.clear();
+            lines.clear();
+        }
+
+        /**
+         * Monta o relatório final, com o resultado de cada registro na ordem do arquivo.
+         */
+        AnimalImportResponseDto report() {
+            rows.sort(Comparator.comparingLong(AnimalImportRowDto::line));
+            return new AnimalImportResponseDto(rows.size(), imported, rows.size() - imported, rows);
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package br.com.ocauamotta.PetLar.services;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalFacetsDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSearchFilterDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepositoryCustom.SearchResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Índice em memória dos animais disponíveis para adoção, utilizado pela busca pública.
+ * <p>
+ * Cada animal ocupa uma posição fixa (slot) e cada característica filtrável mantém um {@code BitSet}
+ * com as posições dos animais que a possuem: espécie, sexo, porte, ano de nascimento e cada palavra
+ * do nome e da descrição. Um filtro com várias características é resolvido pela interseção dos
+ * conjuntos, e a contagem por característica pela cardinalidade da interseção com o resultado,
+ * sem consultar o banco.
+ * <p>
+ * O índice é construído na inicialização a partir do repositório e mantido atualizado pelas
+ * notificações de alteração de animais ({@code AnimalChangedEvent}, {@code AnimalsImportedEvent} e,
+ * com o barramento de change streams habilitado, {@code AnimalDocumentChangedEvent}), que recarregam
+ * o animal do banco. A versão do documento impede que uma leitura atrasada sobrescreva
+ * uma mais recente. As leituras são concorrentes entre si e exclusivas apenas com as escritas.
+ * <p>
+ * As posições não são reutilizadas: um animal que deixa de estar disponível mantém sua posição,
+ * preservando a ordem de cadastro caso volte a ficar disponível.
+ */
+@Service
+public class AnimalIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnimalIndexService.class);
+
+    /**
+     * Peso das palavras do nome na relevância, em relação às da descrição.
+     */
+    private static final int NAME_WEIGHT = 3;
+
+    /**
+     * Versão atribuída a animais removidos, impedindo que uma leitura anterior à remoção os reinsira.
+     */
+    private static final long REMOVED = Long.MAX_VALUE;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Ordem de carga: a posição de cada animal acompanha a data de cadastro, de modo que
+     * percorrer as posições de trás para frente equivale a ordenar pelos mais recentes.
+     */
+    private static final Sort LOAD_SORT = Sort.by("createdAt", "id");
+
+    @Autowired
+    private IAnimalRepository repository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Slot> slots = new ArrayList<>();
+    private final Map<String, Integer> positions = new HashMap<>();
+    private final BitSet available = new BitSet();
+    private final Map<AnimalType, BitSet> types = new EnumMap<>(AnimalType.class);
+    private final Map<AnimalSex, BitSet> sexes = new EnumMap<>(AnimalSex.class);
+    private final Map<AnimalSize, BitSet> sizes = new EnumMap<>(AnimalSize.class);
+    private final TreeMap<Integer, BitSet> birthYears = new TreeMap<>();
+    private final Map<String, BitSet> nameTokens = new HashMap<>();
+    private final Map<String, BitSet> descriptionTokens = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public AnimalIndexService() {
+        reset();
+    }
+
+    /**
+     * Indica se o índice já foi construído e pode responder às buscas.
+     *
+     * @return {@code true} após a primeira construção completa.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Reconstrói o índice com todos os animais disponíveis.
+     * <p>
+     * Os animais são lidos por cursor, em ordem de cadastro. As alterações notificadas durante
+     * a construção aguardam o seu término e são aplicadas em seguida.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            reset();
+            try (Stream<Animal> animals = repository.streamByStatus(AdoptionStatus.DISPONIVEL, LOAD_SORT)) {
+                animals.forEach(this::apply);
+            }
+            ready = true;
+            log.info("Índice de animais construído com {} animais disponíveis.", available.cardinality());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Recarrega do banco os animais informados, incluindo, atualizando ou removendo-os do índice
+     * conforme o seu status atual.
+     *
+     * @param ids Os IDs dos animais alterados.
+     */
+    public void refresh(Collection<String> ids) {
+        Set<String> missing = new HashSet<>(ids);
+        List<Animal> animals = repository.findAllById(ids);
+
+        lock.writeLock().lock();
+        try {
+            for (Animal animal : animals) {
+                missing.remove(animal.getId());
+                apply(animal);
+            }
+            missing.forEach(id -> remove(id, REMOVED));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca os animais disponíveis por texto e características, com a contagem dos resultados
+     * por espécie, sexo e porte.
+     * <p>
+     * Os termos de busca são comparados às palavras inteiras do nome e da descrição, sem diferenciar
+     * maiúsculas e acentos; basta uma palavra em comum para o animal ser encontrado. Com termos de busca,
+     * os resultados são ordenados pela relevância (palavras do nome valem mais que as da descrição);
+     * sem termos, pelos mais recentes. A ordenação do {@code pageable} não é considerada.
+     *
+     * @param filter Os filtros da busca; o status é ignorado, pois o índice contém apenas animais disponíveis.
+     * @param pageable Objeto que contém informações de paginação.
+     * @return Um {@code SearchResult} com a página de animais e a contagem por característica.
+     * @throws IllegalArgumentException Se a espécie, o sexo ou o porte forem inválidos.
+     */
+    public SearchResult search(AnimalSearchFilterDto filter, Pageable pageable) {
+        AnimalType type = filter.type() == null || filter.type().isBlank() ? null : AnimalType.fromString(filter.type());
+        AnimalSex sex = filter.sex() == null || filter.sex().isBlank() ? null : AnimalSex.fromString(filter.sex());
+        AnimalSize size = filter.animalSize() == null || filter.animalSize().isBlank() ? null : AnimalSize.fromString(filter.animalSize());
+        Set<String> terms = tokenize(filter.q());
+
+        lock.readLock().lock();
+        try {
+            BitSet matched = (BitSet) available.clone();
+            if (type != null) matched.and(types.get(type));
+            if (sex != null) matched.and(sexes.get(sex));
+            if (size != null) matched.and(sizes.get(size));
+            if (filter.bornFrom() != null || filter.bornTo() != null) matched.and(birthYears(filter.bornFrom(), filter.bornTo()));
+            if (filter.q() != null && !filter.q().isBlank()) matched.and(anyToken(terms));
+            if (filter.minWeight() != null || filter.maxWeight() != null || filter.bornFrom() != null || filter.bornTo() != null) {
+                retainInRange(matched, filter);
+            }
+
+            List<Animal> content = terms.isEmpty() ? newestFirst(matched, pageable) : byRelevance(matched, terms, pageable);
+
+            return new SearchResult(
+                    new PageImpl<>(content, pageable, matched.cardinality()),
+                    new AnimalFacetsDto(counts(matched, types), counts(matched, sexes), counts(matched, sizes)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inclui ou atualiza o animal quando disponível e o remove caso contrário, ignorando
+     * versões anteriores à já indexada.
+     */
+    private void apply(Animal animal) {
+        if (animal.getStatus() != AdoptionStatus.DISPONIVEL) {
+            remove(animal.getId(), version(animal));
+            return;
+        }
+
+        Integer existing = positions.get(animal.getId());
+        if (existing != null && slots.get(existing).version() > version(animal)) return;
+
+        int position = existing != null ? existing : newPosition(animal.getId());
+        unindex(position);
+
+        slots.set(position, new Slot(animal, version(animal)));
+        available.set(position);
+        types.get(animal.getType()).set(position);
+        sexes.get(animal.getSex()).set(position);
+        sizes.get(animal.getSize()).set(position);
+        if (animal.getBirthDate() != null) {
+            birthYears.computeIfAbsent(animal.getBirthDate().getYear(), year -> new BitSet()).set(position);
+        }
+        tokenize(animal.getName()).forEach(token -> nameTokens.computeIfAbsent(token, t -> new BitSet()).set(position));
+        tokenize(animal.getDescription()).forEach(token -> descriptionTokens.computeIfAbsent(token, t -> new BitSet()).set(position));
+    }
+
+    /**
+     * Remove o animal do índice, mantendo a sua posição e a versão da remoção.
+     */
+    private void remove(String id, long version) {
+        Integer existing = positions.get(id);
+        if (existing == null && version == REMOVED) return;
+        if (existing != null && slots.get(existing).version() > version) return;
+
+        int position = existing != null ? existing : newPosition(id);
+        unindex(position);
+        slots.set(position, new Slot(null, version));
+    }
+
+    /**
+     * Reserva a próxima posição para o animal informado.
+     */
+    private int newPosition(String id) {
+        int position = slots.size();
+        slots.add(new Slot(null, 0));
+        positions.put(id, position);
+        return position;
+    }
+
+    /**
+     * Limpa a posição em todos os conjuntos, descartando os conjuntos de palavras que ficarem vazios.
+     */
+    private void unindex(int position) {
+        Animal animal = slots.get(position).animal();
+        if (animal == null) return;
+
+        available.clear(position);
+        types.get(animal.getType()).clear(position);
+        sexes.get(animal.getSex()).clear(position);
+        sizes.get(animal.getSize()).clear(position);
+        if (animal.getBirthDate() != null) {
+            clear(birthYears, animal.getBirthDate().getYear(), position);
+        }
+        tokenize(animal.getName()).forEach(token -> clear(nameTokens, token, position));
+        tokenize(animal.getDescription()).forEach(token -> clear(descriptionTokens, token, position));
+    }
+
+    private <K> void clear(Map<K, BitSet> index, K key, int position) {
+        BitSet bits = index.get(key);
+        if (bits == null) return;
+
+        bits.clear(position);
+        if (bits.isEmpty()) index.remove(key);
+    }
+
+    private void reset() {
+        ready = false;
+        slots.clear();
+        positions.clear();
+        available.clear();
+        Arrays.stream(AnimalType.values()).forEach(value -> types.put(value, new BitSet()));
+        Arrays.stream(AnimalSex.values()).forEach(value -> sexes.put(value, new BitSet()));
+        Arrays.stream(AnimalSize.values()).forEach(value -> sizes.put(value, new BitSet()));
+        birthYears.clear();
+        nameTokens.clear();
+        descriptionTokens.clear();
+    }
+
+    /**
+     * União dos anos de nascimento do intervalo; os limites exatos são verificados em {@link #retainInRange}.
+     */
+    private BitSet birthYears(LocalDate from, LocalDate to) {
+        BitSet bits = new BitSet();
+        if (from != null && to != null && from.isAfter(to)) return bits;
+
+        Map<Integer, BitSet> years = from == null && to == null ? birthYears
+                : from == null ? birthYears.headMap(to.getYear(), true)
+                : to == null ? birthYears.tailMap(from.getYear(), true)
+                : birthYears.subMap(from.getYear(), true, to.getYear(), true);
+        years.values().forEach(bits::or);
+        return bits;
+    }
+
+    /**
+     * União dos animais que contêm ao menos um dos termos no nome ou na descrição.
+     */
+    private BitSet anyToken(Set<String> terms) {
+        BitSet bits = new BitSet();
+        for (String term : terms) {
+            BitSet name = nameTokens.get(term);
+            if (name != null) bits.or(name);
+            BitSet description = descriptionTokens.get(term);
+            if (description != null) bits.or(description);
+        }
+        return bits;
+    }
+
+    /**
+     * Remove do resultado os animais fora dos intervalos de peso e data de nascimento.
+     */
+    private void retainInRange(BitSet matched, AnimalSearchFilterDto filter) {
+        for (int position = matched.nextSetBit(0); position >= 0; position = matched.nextSetBit(position + 1)) {
+            Animal animal = slots.get(position).animal();
+            Integer weight = animal.getWeight();
+            LocalDate birthDate = animal.getBirthDate();
+
+            boolean inRange = (filter.minWeight() == null || weight != null && weight >= filter.minWeight())
+                    && (filter.maxWeight() == null || weight != null && weight <= filter.maxWeight())
+                    && (filter.bornFrom() == null || birthDate != null && !birthDate.isBefore(filter.bornFrom()))
+                    && (filter.bornTo() == null || birthDate != null && !birthDate.isAfter(filter.bornTo()));
+
+            if (!inRange) matched.clear(position);
+        }
+    }
+
+    /**
+     * Lê a página dos mais recentes para os mais antigos, percorrendo as posições de trás para frente, sem ordenar.
+     */
+    private List<Animal> newestFirst(BitSet matched, Pageable pageable) {
+        List<Animal> content = new ArrayList<>();
+        collectNewest(matched, pageable.isPaged() ? pageable.getOffset() : 0, limit(pageable), content);
+        return content;
+    }
+
+    /**
+     * Ordena o resultado pela soma dos pesos dos termos encontrados e, em caso de empate, pelos mais recentes.
+     * <p>
+     * As pontuações possíveis são poucas, então os animais são distribuídos em um conjunto por pontuação
+     * e a página é lida do conjunto de maior pontuação para o de menor, sem ordenar o resultado.
+     */
+    private List<Animal> byRelevance(BitSet matched, Set<String> terms, Pageable pageable) {
+        List<BitSet> names = terms.stream().map(nameTokens::get).filter(Objects::nonNull).toList();
+        List<BitSet> descriptions = terms.stream().map(descriptionTokens::get).filter(Objects::nonNull).toList();
+
+        BitSet[] byScore = new BitSet[names.size() * NAME_WEIGHT + descriptions.size() + 1];
+        for (int position = matched.nextSetBit(0); position >= 0; position = matched.nextSetBit(position + 1)) {
+            int score = 0;
+            for (BitSet name : names) if (name.get(position)) score += NAME_WEIGHT;
+            for (BitSet description : descriptions) if (description.get(position)) score++;
+
+            if (byScore[score] == null) byScore[score] = new BitSet();
+            byScore[score].set(position);
+        }
+
+        List<Animal> content = new ArrayList<>();
+        long skip = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = limit(pageable);
+
+        for (int score = byScore.length - 1; score > 0 && content.size() < limit; score--) {
+            if (byScore[score] == null) continue;
+
+            int cardinality = byScore[score].cardinality();
+            if (skip >= cardinality) {
+                skip -= cardinality;
+            } else {
+                skip = collectNewest(byScore[score], skip, limit, content);
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Adiciona ao conteúdo os animais do conjunto, do mais recente ao mais antigo, descartando os
+     * {@code skip} primeiros, até o conteúdo atingir o limite.
+     *
+     * @return A quantidade de animais que ainda devem ser descartados.
+     */
+    private long collectNewest(BitSet bits, long skip, int limit, List<Animal> content) {
+        for (int position = bits.previousSetBit(bits.length() - 1);
+             position >= 0 && content.size() < limit;
+             position = bits.previousSetBit(position - 1)) {
+            if (skip > 0) {
+                skip--;
+            } else {
+                content.add(slots.get(position).animal());
+            }
+        }
+        return skip;
+    }
+
+    private int limit(Pageable pageable) {
+        return pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Conta os animais do resultado em cada valor da característica, em ordem decrescente de quantidade.
+     */
+    private <E extends Enum<E>> Map<E, Long> counts(BitSet matched, Map<E, BitSet> index) {
+        List<Map.Entry<E, Long>> counts = new ArrayList<>();
+        index.forEach((value, bits) -> {
+            BitSet intersection = (BitSet) bits.clone();
+            intersection.and(matched);
+            if (!intersection.isEmpty()) counts.add(Map.entry(value, (long) intersection.cardinality()));
+        });
+        counts.sort(Map.Entry.<E, Long>comparingByValue().reversed());
+
+        Map<E, Long> sorted = new LinkedHashMap<>();
+        counts.forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * Separa o texto em palavras minúsculas e sem acentos.
+     */
+    private static Set<String> tokenize(String text) {
+        if (text == null || text.isBlank()) return Set.of();
+
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        Set<String> tokens = new HashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(normalized.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private long version(Animal animal) {
+        return animal.getVersion() == null ? 0 : animal.getVersion();
+    }
+
+    /**
+     * Posição do índice: o animal disponível (ou {@code null} quando removido) e a sua versão.
+     */
+    private record Slot(Animal animal, long version) {
+    }
+}
@@ -2,38 +2,52 @@ package br.com.ocauamotta.PetLar.services;
 
 import br.com.ocauamotta.PetLar.dtos.Animal.AnimalRequestDto;
 import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSearchFilterDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSearchResponseDto;
+import br.com.ocauamotta.PetLar.dtos.SliceResponseDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.configs.CacheConfig;
 import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
 import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.events.AnimalChangedEvent;
+import br.com.ocauamotta.PetLar.exceptions.Adoption.AnimalNotAvailableException;
 import br.com.ocauamotta.PetLar.exceptions.EntityNotFoundException;
-import br.com.ocauamotta.PetLar.exceptions.ImageNotSavedException;
 import br.com.ocauamotta.PetLar.mappers.AnimalMapper;
+import br.com.ocauamotta.PetLar.mappers.CursorMapper;
 import br.com.ocauamotta.PetLar.models.Animal;
 import br.com.ocauamotta.PetLar.models.User;
 import br.com.ocauamotta.PetLar.repositories.IAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepositoryCustom;
 import br.com.ocauamotta.PetLar.repositories.IUserRepository;
 import br.com.ocauamotta.PetLar.validations.Animal.AnimalNotAvailableValidation;
 import br.com.ocauamotta.PetLar.validations.Animal.AnimalOwnerUserValidation;
-import br.com.ocauamotta.PetLar.validations.Image.FileIsImageValidation;
-import br.com.ocauamotta.PetLar.validations.Image.ImageSizeValidation;
-import org.apache.commons.io.FilenameUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.lang.reflect.Field;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 /**
  * Camada de Serviço responsável por implementar a lógica de negócio
@@ -43,6 +57,22 @@ import java.util.stream.Collectors;
 @Service
 public class AnimalService {
 
+    /**
+     * Quantidade máxima de registros por janela na paginação por cursor.
+     */
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    /**
+     * Ordenação estável utilizada como chave do cursor: mais recentes primeiro,
+     * com o {@code _id} como critério de desempate.
+     */
+    private static final Sort SCROLL_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    /**
+     * Raio máximo, em quilômetros, da busca por proximidade.
+     */
+    private static final double MAX_NEARBY_RADIUS_KM = 500;
+
     @Autowired
     private IAnimalRepository repository;
 
@@ -56,20 +86,36 @@ public class AnimalService {
     private AnimalNotAvailableValidation animalNotAvailableValidation;
 
     @Autowired
-    private FileIsImageValidation fileIsImageValidation;
+    private ImageStorageService imageStorageService;
 
     @Autowired
-    private ImageSizeValidation imageSizeValidation;
+    private ImageVariantService imageVariantService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private AnimalIndexService indexService;
 
     /**
      * Busca uma página de animais, permitindo a filtragem por status de adoção
      * e, opcionalmente, por tipo de animal.
+     * <p>
+     * As primeiras páginas de cada combinação de filtro, paginação e ordenação são mantidas
+     * no cache {@code animalPages} por um curto período, evitando a consulta, o {@code count}
+     * e a busca dos autores a cada visitante. Requisições simultâneas para uma mesma chave
+     * ausente aguardam uma única consulta ao banco. O cache é descartado sempre que um animal
+     * é criado, alterado, removido ou muda de status (ver {@code AnimalChangedEvent}).
      *
      * @param pageable Objeto que contém informações de paginação e ordenação.
      * @param status O status de adoção do animal.
      * @param type O tipo de animal opcional para filtro.
      * @return Uma {@code Page} de {@code AnimalResponseDto} correspondente aos critérios de filtro.
      */
+    @Cacheable(cacheNames = CacheConfig.ANIMAL_PAGES_CACHE,
+            key = "{#status?.toLowerCase(), #type?.toLowerCase() ?: '', #pageable}",
+            condition = "@cacheConfig.isCacheablePage(#pageable)",
+            sync = true)
     public Page<AnimalResponseDto> findAll(Pageable pageable, String status, String type) {
         Page<Animal> animals;
 
@@ -85,6 +131,141 @@ public class AnimalService {
         return buildAnimalsResponsePage(animals);
     }
 
+    /**
+     * Busca uma janela de animais por cursor (keyset), permitindo a filtragem por status de adoção
+     * e, opcionalmente, por tipo de animal.
+     * <p>
+     * Indicado para rolagem infinita: a consulta continua a partir do último registro entregue,
+     * sem executar {@code count} nem {@code skip}, o que mantém a latência constante mesmo em janelas profundas.
+     *
+     * @param after O cursor opaco da janela anterior, ou {@code null} para a primeira janela.
+     * @param size A quantidade de registros desejada, limitada a {@value #MAX_SCROLL_SIZE}.
+     * @param status O status de adoção do animal.
+     * @param type O tipo de animal opcional para filtro.
+     * @return Um {@code SliceResponseDto} com os animais e o cursor da próxima janela.
+     * @throws IllegalArgumentException Se o cursor for inválido.
+     */
+    public SliceResponseDto<AnimalResponseDto> scroll(String after, int size, String status, String type) {
+        KeysetScrollPosition position = CursorMapper.toScrollPosition(after);
+        Limit limit = Limit.of(Math.clamp(size, 1, MAX_SCROLL_SIZE));
+        Window<Animal> animals;
+
+        if (type == null || type.isBlank()) {
+            animals = repository.findByStatus(AdoptionStatus.fromString(status), position, limit, SCROLL_SORT);
+        } else {
+            animals = repository.findByStatusAndType(
+                    AdoptionStatus.fromString(status),
+                    AnimalType.fromString(type),
+                    position,
+                    limit,
+                    SCROLL_SORT);
+        }
+
+        Map<String, UserSummaryDto> authorsMap = findAuthors(animals.getContent());
+        List<AnimalResponseDto> content = animals.getContent().stream()
+                .map(animal -> toDTO(animal, authorsMap))
+                .toList();
+
+        String nextCursor = animals.hasNext()
+                ? CursorMapper.toCursor(animals.positionAt(animals.size() - 1))
+                : null;
+
+        return new SliceResponseDto<>(content, content.size(), animals.hasNext(), nextCursor);
+    }
+
+    /**
+     * Busca animais por texto e características, retornando a página de resultados e a
+     * contagem por espécie, sexo e porte.
+     * <p>
+     * Buscas por animais disponíveis sem ordenação explícita são respondidas pelo índice em memória
+     * ({@code AnimalIndexService}), sem consultar o banco além dos autores da página. As demais, ou
+     * enquanto o índice não estiver pronto, são executadas no MongoDB em uma única agregação: os termos
+     * são comparados ao nome e à descrição pelo índice de texto, com o nome tendo maior peso na relevância.
+     * A idade é filtrada pelo intervalo da data de nascimento.
+     * <p>
+     * Os dois caminhos interpretam os termos de forma diferente: o índice em memória seleciona os animais
+     * com ao menos uma das palavras inteiras, enquanto o índice de texto do MongoDB aplica radicais e
+     * palavras comuns do português, frases e exclusões. Por isso, informar uma ordenação pode alterar
+     * quais animais correspondem aos mesmos termos, e não apenas a sua ordem; a diferença é descrita
+     * na documentação de {@code GET /animals/search}.
+     *
+     * @param filter Os filtros da busca.
+     * @param pageable Objeto que contém informações de paginação e ordenação.
+     * @return Um {@code AnimalSearchResponseDto} com a página de animais e a contagem por característica.
+     * @throws IllegalArgumentException Se algum filtro for inválido ou se os intervalos estiverem invertidos.
+     */
+    public AnimalSearchResponseDto search(AnimalSearchFilterDto filter, Pageable pageable) {
+        AdoptionStatus status = filter.status() == null || filter.status().isBlank()
+                ? AdoptionStatus.DISPONIVEL
+                : AdoptionStatus.fromString(filter.status());
+
+        if (filter.minWeight() != null && filter.maxWeight() != null && filter.minWeight() > filter.maxWeight()) {
+            throw new IllegalArgumentException("O peso mínimo não pode ser maior que o peso máximo.");
+        }
+        if (filter.bornFrom() != null && filter.bornTo() != null && filter.bornFrom().isAfter(filter.bornTo())) {
+            throw new IllegalArgumentException("A data de nascimento inicial não pode ser posterior à final.");
+        }
+
+        IAnimalRepositoryCustom.SearchResult result;
+        if (status == AdoptionStatus.DISPONIVEL && pageable.getSort().isUnsorted() && indexService.isReady()) {
+            result = indexService.search(filter, pageable);
+        } else {
+            result = repository.search(filter.q(), toCriteria(status, filter), pageable);
+        }
+
+        Page<Animal> animals = result.animals();
+
+        Map<String, UserSummaryDto> authorsMap = findAuthors(animals.getContent());
+        List<AnimalResponseDto> content = animals.getContent().stream()
+                .map(animal -> toDTO(animal, authorsMap))
+                .toList();
+
+        return new AnimalSearchResponseDto(
+                content,
+                animals.getNumber(),
+                animals.getSize(),
+                animals.getTotalElements(),
+                animals.getTotalPages(),
+                result.facets());
+    }
+
+    /**
+     * Busca os animais próximos a um ponto, do mais próximo ao mais distante, permitindo a filtragem
+     * por status de adoção e, opcionalmente, por tipo de animal.
+     * <p>
+     * A busca, a contagem e os autores da página são resolvidos em uma única agregação no MongoDB,
+     * utilizando o índice {@code 2dsphere} da localização dos animais. Cada animal retornado inclui
+     * a distância até o ponto informado, em quilômetros.
+     *
+     * @param latitude A latitude do ponto de referência.
+     * @param longitude A longitude do ponto de referência.
+     * @param radiusKm O raio da busca, em quilômetros, limitado a {@value #MAX_NEARBY_RADIUS_KM}.
+     * @param status O status de adoção do animal, por padrão disponível.
+     * @param type O tipo de animal opcional para filtro.
+     * @param pageable Objeto que contém informações de paginação.
+     * @return Uma {@code Page} de {@code AnimalResponseDto} ordenada pela distância.
+     * @throws IllegalArgumentException Se as coordenadas, o raio, o status ou o tipo forem inválidos.
+     */
+    public Page<AnimalResponseDto> findNearby(double latitude, double longitude, double radiusKm,
+                                              String status, String type, Pageable pageable) {
+        if (latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("A latitude deve estar entre -90 e 90.");
+        }
+        if (longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("A longitude deve estar entre -180 e 180.");
+        }
+        if (!(radiusKm > 0 && radiusKm <= MAX_NEARBY_RADIUS_KM)) {
+            throw new IllegalArgumentException("O raio deve ser maior que 0 e no máximo " + (int) MAX_NEARBY_RADIUS_KM + " km.");
+        }
+
+        Criteria criteria = where("status").is(status == null || status.isBlank()
+                ? AdoptionStatus.DISPONIVEL
+                : AdoptionStatus.fromString(status));
+        if (type != null && !type.isBlank()) criteria.and("type").is(AnimalType.fromString(type));
+
+        return repository.findNearby(new GeoJsonPoint(longitude, latitude), radiusKm, criteria, pageable);
+    }
+
     /**
      * Busca  uma página de animais pelo usuário autor.
      *
@@ -99,31 +280,37 @@ public class AnimalService {
 
     /**
      * Busca um animal específico pelo seu identificador único.
+     * <p>
+     * A resposta completa (animal e autor) é mantida no cache {@code animals}, evitando as duas
+     * consultas ao banco a cada acesso. A entrada é invalidada sempre que o animal é alterado
+     * (ver {@code AnimalChangedEvent}); alterações no nome do autor refletem após o tempo de vida do cache.
      *
      * @param id O ID do animal a ser buscado.
      * @return O {@code AnimalResponseDto} correspondente.
      * @throws EntityNotFoundException Se nenhum animal for encontrado com o ID fornecido.
      */
+    @Cacheable(cacheNames = CacheConfig.ANIMALS_CACHE, key = "#id")
     public AnimalResponseDto findById(String id) {
         Animal entity = getAnimal(id);
-        User user = userRepository.findById(entity.getAuthorId())
+        UserSummaryDto author = userRepository.findSummaryById(entity.getAuthorId())
                 .orElseThrow(() -> new EntityNotFoundException("Nenhum registro encontrado com ID - " + entity.getAuthorId()));
-        return AnimalMapper.toDTO(entity, user);
+        return AnimalMapper.toDTO(entity, author);
     }
 
     /**
      * Salva um novo animal no sistema.
      * Define automaticamente a data de registro, data de atualização,
      * id do autor e o status como {@code DISPONIVEL}.
+     * Quando uma imagem é enviada, suas variações reduzidas são geradas em segundo plano.
      *
      * @param dto O DTO de requisição contendo os dados do animal.
      * @param user O usuário autenticado.
      * @return O {@code AnimalResponseDto} do animal recém-salvo, incluindo seu ID.
      */
     public AnimalResponseDto save(AnimalRequestDto dto, MultipartFile image, User user) {
-        String imagePath = saveImage(image);
+        String imagePath = imageStorageService.store(image);
 
-        String time = ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toString();
+        Instant time = Instant.now();
 
         Animal entity = AnimalMapper.toEntity(dto);
 
@@ -133,20 +320,29 @@ public class AnimalService {
         entity.setCreatedAt(time);
         entity.setUpdatedAt(time);
 
-        return AnimalMapper.toDTO(repository.insert(entity), user);
+        Animal saved = repository.insert(entity);
+        eventPublisher.publishEvent(new AnimalChangedEvent(saved.getId()));
+        generateImageVariants(saved);
+
+        return AnimalMapper.toDTO(saved, user);
     }
 
     /**
      * Atualiza um animal existente com os dados fornecidos no DTO.
+     * Apenas os campos informados são enviados ao banco ({@code $set}), condicionados ao animal
+     * ainda estar disponível, de modo que uma adoção iniciada em paralelo não seja sobrescrita.
+     * Quando uma nova imagem é enviada, a imagem anterior e suas variações são removidas do disco
+     * após a gravação, e novas variações são geradas em segundo plano.
      *
      * @param id O ID do animal a ser atualizado.
      * @param dto O DTO de requisição contendo os dados de atualização.
      * @param user O usuário autenticado.
      * @return O {@code AnimalResponseDto} do animal atualizado.
      * @throws EntityNotFoundException Se o animal com o ID fornecido não for encontrado.
+     * @throws AnimalNotAvailableException Se o animal deixar de estar disponível antes da gravação.
      */
     public AnimalResponseDto update(String id, AnimalRequestDto dto, MultipartFile image, User user) {
-        String imagePath = saveImage(image);
+        String imagePath = imageStorageService.store(image);
 
         Animal entity = getAnimal(id);
 
@@ -154,12 +350,27 @@ public class AnimalService {
         animalNotAvailableValidation.validate(entity, null);
 
         Animal updated = AnimalMapper.toEntity(dto);
-        updated.setUpdatedAt(ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toString());
+        updated.setUpdatedAt(Instant.now());
         updated.setImagePath(imagePath);
 
-        updateAnimalFields(updated, entity);
+        Update changes = AnimalMapper.toUpdate(updated);
+        List<String> replacedImages = List.of();
+
+        if (imagePath != null) {
+            changes.unset("thumbnailPath").unset("mediumPath");
+            replacedImages = imagePaths(entity);
+        }
+
+        Animal saved = repository.updateFields(id, AdoptionStatus.DISPONIVEL, changes)
+                .orElseThrow(() -> new AnimalNotAvailableException("Este animal está com uma adoção em andamento ou já foi adotado."));
+        eventPublisher.publishEvent(new AnimalChangedEvent(saved.getId()));
 
-        return AnimalMapper.toDTO(repository.save(entity), user);
+        if (imagePath != null) {
+            replacedImages.forEach(imageStorageService::delete);
+            generateImageVariants(saved);
+        }
+
+        return AnimalMapper.toDTO(saved, user);
     }
 
     /**
@@ -171,42 +382,35 @@ public class AnimalService {
     public void delete(String id, User user) {
         Animal entity = getAnimal(id);
 
-        String imagePath = entity.getImagePath();
-
         animalOwnerUserValidation.validate(entity, user);
         animalNotAvailableValidation.validate(entity, null);
 
         repository.delete(entity);
+        eventPublisher.publishEvent(new AnimalChangedEvent(entity.getId()));
 
-        if (imagePath != null) {
-            deleteImage(imagePath);
-        }
+        imagePaths(entity).forEach(imageStorageService::delete);
     }
 
     /**
-     * Método auxiliar privado que utiliza Reflections para aplicar de forma dinâmica
-     * os campos da requisição com os novos dados na entidade persistente {@code Animal}.
+     * Retorna os caminhos da imagem original e das variações do animal que estão preenchidos.
      *
-     * @param updated A entidade gerada a partir do DTO de requisição com os novos valores.
-     * @param entity A entidade {@code Animal} a ser modificada.
-     * @throws IllegalStateException Se ocorrer um erro durante o acesso ou modificação dos campos via Reflection.
+     * @param entity O animal.
+     * @return A lista de caminhos dos arquivos de imagem do animal.
      */
-    private void updateAnimalFields(Animal updated, Animal entity) {
-        for ( Field field : updated.getClass().getDeclaredFields() ) {
-            if (field.getName().equalsIgnoreCase("id")) continue;
-            field.setAccessible(true);
-
-            try {
-                Object newValue = field.get(updated);
-                if (newValue == null) continue;
-
-                Field entityField = entity.getClass().getDeclaredField(field.getName());
-                entityField.setAccessible(true);
-                entityField.set(entity, newValue);
-            } catch (IllegalAccessException | NoSuchFieldException ex) {
-                throw new IllegalStateException("Erro ao tentar atualizar o campo " + field.getName());
-            }
-        }
+    private List<String> imagePaths(Animal entity) {
+        return Stream.of(entity.getImagePath(), entity.getThumbnailPath(), entity.getMediumPath())
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Solicita, em segundo plano, a geração das variações redimensionadas da imagem do animal.
+     *
+     * @param entity O animal recém-persistido.
+     */
+    private void generateImageVariants(Animal entity) {
+        if (entity.getImagePath() == null) return;
+        imageVariantService.generate(entity.getId(), entity.getImagePath());
     }
 
     /**
@@ -226,73 +430,67 @@ public class AnimalService {
      * @throws EntityNotFoundException Se um autor referenciado no animal não for encontrado no banco de dados.
      */
     private Page<AnimalResponseDto> buildAnimalsResponsePage(Page<Animal> animals) {
-        Set<String> authorIds = animals.getContent().stream()
-                .map(Animal::getAuthorId)
-                .collect(Collectors.toSet());
+        Map<String, UserSummaryDto> authorsMap = findAuthors(animals.getContent());
+        return animals.map(animal -> toDTO(animal, authorsMap));
+    }
 
-        Map<String, User> authorsMap = userRepository.findAllById(authorIds)
-                .stream().collect(Collectors.toMap(User::getId, Function.identity()));
+    /**
+     * Converte os filtros da busca em critérios da consulta ao banco.
+     */
+    private Criteria toCriteria(AdoptionStatus status, AnimalSearchFilterDto filter) {
+        Criteria criteria = where("status").is(status);
 
-        return animals.map(animal -> {
-            User author = authorsMap.get(animal.getAuthorId());
+        if (filter.type() != null && !filter.type().isBlank()) criteria.and("type").is(AnimalType.fromString(filter.type()));
+        if (filter.sex() != null && !filter.sex().isBlank()) criteria.and("sex").is(AnimalSex.fromString(filter.sex()));
+        if (filter.animalSize() != null && !filter.animalSize().isBlank()) criteria.and("size").is(AnimalSize.fromString(filter.animalSize()));
 
-            if (author == null) {
-                throw new EntityNotFoundException("Autor não encontrado");
-            }
+        if (filter.minWeight() != null || filter.maxWeight() != null) {
+            Criteria weight = criteria.and("weight");
+            if (filter.minWeight() != null) weight.gte(filter.minWeight());
+            if (filter.maxWeight() != null) weight.lte(filter.maxWeight());
+        }
+        if (filter.bornFrom() != null || filter.bornTo() != null) {
+            Criteria birthDate = criteria.and("birthDate");
+            if (filter.bornFrom() != null) birthDate.gte(filter.bornFrom());
+            if (filter.bornTo() != null) birthDate.lte(filter.bornTo());
+        }
 
-            return AnimalMapper.toDTO(animal, author);
-        });
+        return criteria;
     }
 
     /**
-     * Realiza a persistência física de uma imagem no servidor.
+     * Busca em lote os autores de uma lista de animais.
      * <p>
-     * O processo segue os seguintes passos:
-     * <ol>
-     * <li>Valida se o arquivo é uma imagem e se respeita o limite de tamanho.</li>
-     * <li>Gera um nome único utilizando {@code UUID} para evitar sobreposição.</li>
-     * <li>Cria o diretório de destino caso ele não exista.</li>
-     * <li>Escreve os bytes do arquivo no sistema de arquivos.</li>
-     * </ol>
+     * Apenas o resumo de cada autor ({@code UserSummaryDto}) é lido do banco.
      *
-     * @param image O arquivo recebido via requisição multipart.
-     * @return O caminho relativo (Path) onde a imagem foi salva, ou {@code null} se o arquivo for nulo.
-     * @throws ImageNotSavedException Se ocorrer um erro de I/O durante a escrita.
+     * @param animals Os animais cujos autores devem ser carregados.
+     * @return Um {@code Map} de autores indexado pelo ID do usuário.
      */
-    private String saveImage(MultipartFile image) {
-        if (image == null) return null;
-
-        fileIsImageValidation.validate(image);
-        imageSizeValidation.validate(image);
-
-        String fileName = UUID.randomUUID() + "." + FilenameUtils.getExtension(image.getOriginalFilename());
-        Path uploadPath = Paths.get("uploads/animals");
-
-        try {
-            Files.createDirectories(uploadPath);
-            Files.write(uploadPath.resolve(fileName), image.getBytes());
-        } catch (IOException ex) {
-            throw new ImageNotSavedException("Erro ao salvar a imagem.");
-        }
+    private Map<String, UserSummaryDto> findAuthors(List<Animal> animals) {
+        Set<String> authorIds = animals.stream()
+                .map(Animal::getAuthorId)
+                .collect(Collectors.toSet());
 
-        return "uploads/animals/" + fileName;
+        return userRepository.findSummariesByIdIn(authorIds)
+                .stream().collect(Collectors.toMap(UserSummaryDto::id, Function.identity()));
     }
 
     /**
-     * Remove um arquivo de imagem do sistema de arquivos.
-     * <p>
-     * Utiliza {@code deleteIfExists} para garantir que a ausência do arquivo físico
-     * não cause uma interrupção no fluxo de negócio.
+     * Converte um animal para DTO utilizando o mapa de autores previamente carregado.
      *
-     * @param imagePath O caminho relativo do arquivo a ser removido.
+     * @param animal O animal a ser convertido.
+     * @param authorsMap Os autores indexados pelo ID do usuário.
+     * @return O {@code AnimalResponseDto} com os dados do autor populados.
+     * @throws EntityNotFoundException Se o autor do animal não estiver presente no mapa.
      */
-    private void deleteImage(String imagePath) {
-        try {
-            Path path = Paths.get(imagePath);
-            Files.deleteIfExists(path);
-        } catch (IOException ex) {
-            System.out.println("Erro ao deletar imagem: " + ex.getMessage());
+    private AnimalResponseDto toDTO(Animal animal, Map<String, UserSummaryDto> authorsMap) {
+        UserSummaryDto author = authorsMap.get(animal.getAuthorId());
+
+        if (author == null) {
+            throw new EntityNotFoundException("Autor não encontrado");
         }
+
+        return AnimalMapper.toDTO(animal, author);
     }
 
     /**
@@ -0,0 +1,356 @@
+package br.com.ocauamotta.PetLar.services;
+
+import br.com.ocauamotta.PetLar.events.AdoptionDocumentChangedEvent;
+import br.com.ocauamotta.PetLar.events.AnimalDocumentChangedEvent;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.Animal;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Barramento interno de eventos alimentado pelos change streams do MongoDB sobre as coleções de animais e adoções.
+ * <p>
+ * Cada coleção é acompanhada por uma thread leitora, que converte as alterações (inclusão, atualização,
+ * substituição e remoção) em eventos tipados ({@code AnimalDocumentChangedEvent} e
+ * {@code AdoptionDocumentChangedEvent}) e os coloca em uma fila limitada. Uma única thread despachante
+ * consome a fila e entrega os eventos aos ouvintes da aplicação ({@code @EventListener}), na ordem de leitura.
+ * Quando a fila está cheia, a leitora aguarda, deixando de buscar novas alterações no banco até que os
+ * ouvintes se recuperem, em vez de acumular eventos em memória.
+ * <p>
+ * Após cada lote entregue, o resume token da última alteração de cada coleção é gravado na coleção
+ * {@value #TOKENS_COLLECTION}. Na reinicialização, a leitura continua a partir dele, de modo que nenhuma
+ * alteração feita com a aplicação parada é perdida; alterações já lidas mas ainda não entregues são
+ * entregues novamente (pelo menos uma vez). Se o token não estiver mais disponível no oplog, a leitura
+ * recomeça a partir do momento atual.
+ * <p>
+ * Como todas as instâncias recebem as alterações feitas por qualquer uma delas, o barramento mantém
+ * consistentes as cópias locais dos dados (caches e índices) sem consultas periódicas. Exige que o
+ * MongoDB seja executado como replica set e, por isso, é habilitado apenas com
+ * {@code api.events.change-streams.enabled=true}.
+ */
+@Service
+@ConditionalOnProperty(name = "api.events.change-streams.enabled", havingValue = "true")
+public class ChangeStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeStreamService.class);
+
+    static final String TOKENS_COLLECTION = "ChangeStreamTokens";
+
+    /**
+     * Quantidade máxima de eventos entregues entre duas gravações do resume token.
+     */
+    private static final int DISPATCH_BATCH_SIZE = 100;
+
+    /**
+     * Tempo máximo de espera do servidor por novas alterações em cada leitura, permitindo
+     * que a leitora perceba o desligamento da aplicação.
+     */
+    private static final long MAX_AWAIT_MILLIS = 1_000;
+
+    /**
+     * Intervalo entre as tentativas de reabrir um change stream interrompido por falha.
+     */
+    private static final long RETRY_DELAY_MILLIS = 1_000;
+
+    /**
+     * Código de erro do MongoDB para um resume token que não está mais presente no oplog.
+     */
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private static final List<String> OPERATIONS = List.of("insert", "update", "replace", "delete");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${api.events.change-streams.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private final List<Thread> threads = new ArrayList<>();
+
+    private BlockingQueue<Change> queue;
+
+    private volatile boolean running;
+
+    /**
+     * Inicia a leitura dos change streams e a entrega dos eventos.
+     * <p>
+     * Executado quando a aplicação fica pronta, após as migrações. Chamadas subsequentes não têm efeito
+     * enquanto o barramento estiver em execução.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) return;
+
+        running = true;
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        threads.add(Thread.ofPlatform().name("change-stream-dispatcher").daemon().start(this::dispatch));
+        watch(Animal.class, AnimalDocumentChangedEvent::new);
+        watch(Adoption.class, AdoptionDocumentChangedEvent::new);
+    }
+
+    /**
+     * Interrompe a leitura e a entrega dos eventos.
+     * <p>
+     * Os eventos lidos e ainda não entregues são descartados; como o resume token só avança após a
+     * entrega, eles são lidos novamente na próxima inicialização.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) return;
+
+        running = false;
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join(MAX_AWAIT_MILLIS * 2);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+    }
+
+    /**
+     * Inicia a thread leitora do change stream da coleção da entidade.
+     *
+     * @param entity A entidade mapeada para a coleção.
+     * @param factory A fábrica do evento tipado da entidade.
+     */
+    private <T> void watch(Class<T> entity, EventFactory<T> factory) {
+        String collection = mongoTemplate.getCollectionName(entity);
+        threads.add(Thread.ofPlatform()
+                .name("change-stream-" + collection)
+                .daemon()
+                .start(() -> read(collection, entity, factory)));
+    }
+
+    /**
+     * Lê continuamente o change stream de uma coleção, enfileirando um evento por alteração.
+     * <p>
+     * Em caso de falha, o stream é reaberto a partir da última alteração enfileirada. Um documento
+     * que não pode ser convertido na entidade não interrompe a leitura: o evento é publicado sem o documento.
+     */
+    private <T> void read(String collection, Class<T> entity, EventFactory<T> factory) {
+        BsonDocument resumeToken = null;
+        boolean loaded = false;
+
+        while (running) {
+            if (!loaded) {
+                try {
+                    resumeToken = loadToken(collection);
+                    loaded = true;
+                } catch (MongoException ex) {
+                    log.warn("Falha ao ler o resume token da coleção {}; nova tentativa em {} ms.", collection, RETRY_DELAY_MILLIS, ex);
+                    if (!pause()) return;
+                    continue;
+                }
+            }
+
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = open(collection, resumeToken)) {
+                if (resumeToken == null) {
+                    resumeToken = cursor.getResumeToken();
+                    if (resumeToken != null) saveToken(collection, resumeToken);
+                }
+
+                while (running) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change == null) continue;
+
+                    T document = toEntity(collection, entity, change);
+                    Object event = factory.create(toId(change.getDocumentKey()), change.getOperationType(), document);
+
+                    queue.put(new Change(collection, change.getResumeToken(), event));
+                    resumeToken = change.getResumeToken();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                if (!running) return;
+
+                if (ex instanceof MongoCommandException command && command.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    log.warn("Resume token da coleção {} não está mais disponível; alterações anteriores foram perdidas.", collection);
+                    resumeToken = null;
+                } else {
+                    log.warn("Falha ao ler o change stream da coleção {}; nova tentativa em {} ms.", collection, RETRY_DELAY_MILLIS, ex);
+                }
+
+                if (!pause()) return;
+            }
+        }
+    }
+
+    /**
+     * Converte o documento da alteração na entidade.
+     *
+     * @return A entidade, ou {@code null} se a alteração não tiver documento (remoção) ou se ele não puder
+     * ser convertido, caso em que a falha é registrada e os ouvintes recarregam o registro pelo ID, se necessário.
+     */
+    private <T> T toEntity(String collection, Class<T> entity, ChangeStreamDocument<Document> change) {
+        if (change.getFullDocument() == null) return null;
+
+        try {
+            return mongoTemplate.getConverter().read(entity, change.getFullDocument());
+        } catch (RuntimeException ex) {
+            log.error("Falha ao converter o documento {} da coleção {}; o evento será publicado sem o documento.",
+                    change.getDocumentKey(), collection, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Aguarda o intervalo entre tentativas.
+     *
+     * @return {@code false} se a espera foi interrompida pelo desligamento.
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(RETRY_DELAY_MILLIS);
+            return running;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Abre o change stream de uma coleção, com o estado atual do documento nas atualizações.
+     *
+     * @param collection O nome da coleção.
+     * @param resumeToken O token a partir do qual a leitura continua, ou {@code null} para começar do momento atual.
+     */
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open(String collection, BsonDocument resumeToken) {
+        var stream = mongoTemplate.getCollection(collection)
+                .watch(List.of(Aggregates.match(Filters.in("operationType", OPERATIONS))))
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(MAX_AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+
+        return resumeToken == null ? stream.cursor() : stream.startAfter(resumeToken).cursor();
+    }
+
+    /**
+     * Entrega os eventos enfileirados em lotes, gravando ao final de cada lote o último
+     * resume token de cada coleção.
+     * <p>
+     * A falha de um ouvinte é registrada e não interrompe a entrega dos eventos seguintes.
+     */
+    private void dispatch() {
+        List<Change> batch = new ArrayList<>(DISPATCH_BATCH_SIZE);
+        Map<String, BsonDocument> lastTokens = new LinkedHashMap<>();
+
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, DISPATCH_BATCH_SIZE - 1);
+
+            for (Change change : batch) {
+                try {
+                    eventPublisher.publishEvent(change.event());
+                } catch (RuntimeException ex) {
+                    log.error("Falha ao entregar o evento {} da coleção {}.", change.event(), change.collection(), ex);
+                }
+                lastTokens.put(change.collection(), change.resumeToken());
+            }
+
+            try {
+                lastTokens.forEach(this::saveToken);
+            } catch (MongoException ex) {
+                log.warn("Falha ao gravar o resume token; os eventos poderão ser entregues novamente.", ex);
+            }
+            batch.clear();
+            lastTokens.clear();
+        }
+    }
+
+    /**
+     * Busca o último resume token gravado para a coleção.
+     *
+     * @return O token, ou {@code null} se a coleção ainda não tiver sido lida.
+     */
+    private BsonDocument loadToken(String collection) {
+        BsonDocument saved = tokens().find(Filters.eq("_id", collection)).first();
+        return saved == null ? null : saved.getDocument("token");
+    }
+
+    private void saveToken(String collection, BsonDocument token) {
+        tokens().replaceOne(
+                Filters.eq("_id", collection),
+                new BsonDocument("_id", new BsonString(collection))
+                        .append("token", token)
+                        .append("updatedAt", new BsonDateTime(System.currentTimeMillis())),
+                new ReplaceOptions().upsert(true));
+    }
+
+    private MongoCollection<BsonDocument> tokens() {
+        return mongoTemplate.getCollection(TOKENS_COLLECTION).withDocumentClass(BsonDocument.class);
+    }
+
+    /**
+     * Converte a chave do documento alterado no ID exposto pela aplicação.
+     */
+    private String toId(BsonDocument documentKey) {
+        BsonValue id = documentKey.get("_id");
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    /**
+     * Cria o evento tipado de uma entidade a partir de uma alteração.
+     */
+    @FunctionalInterface
+    private interface EventFactory<T> {
+        Object create(String id, OperationType operation, T document);
+    }
+
+    /**
+     * Alteração lida e ainda não entregue.
+     *
+     * @param collection A coleção de origem.
+     * @param resumeToken O token que identifica a alteração no change stream.
+     * @param event O evento a ser entregue aos ouvintes.
+     */
+    private record Change(String collection, BsonDocument resumeToken, Object event) {
+    }
+}
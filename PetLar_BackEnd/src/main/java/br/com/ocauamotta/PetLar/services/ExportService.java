@@ -0,0 +1,287 @@
+package br.com.ocauamotta.PetLar.services;
+
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSummaryDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.enums.FileFormat;
+import br.com.ocauamotta.PetLar.mappers.AdoptionMapper;
+import br.com.ocauamotta.PetLar.mappers.AnimalMapper;
+import br.com.ocauamotta.PetLar.mappers.CsvMapper;
+import br.com.ocauamotta.PetLar.mappers.CsvMapper.Column;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.IUserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Camada de Serviço responsável pela exportação em lote de animais e adoções em NDJSON ou CSV.
+ * <p>
+ * A consulta é montada e validada na chamada, antes do início da resposta; os registros são lidos
+ * por um único cursor do MongoDB ({@code MongoTemplate.stream}), sem
+ * {@code count} nem {@code skip}, e escritos diretamente no fluxo de saída da resposta. A cada
+ * {@value #CHUNK_SIZE} registros, os autores, animais e usuários referenciados são buscados em lote,
+ * as linhas são convertidas pelos mappers da API e o bloco é enviado ao cliente; apenas o bloco
+ * corrente permanece em memória, independente do tamanho da coleção.
+ * <p>
+ * O download é entregue como uma tarefa assíncrona com o tempo limite próprio de
+ * {@code api.exports.timeout}, sem alterar o tempo limite padrão das demais requisições assíncronas.
+ */
+@Service
+public class ExportService {
+
+    /**
+     * Quantidade de registros convertidos e enviados por bloco, também utilizada como tamanho
+     * do lote do cursor.
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * Colunas do CSV de animais.
+     */
+    private static final List<Column<AnimalResponseDto>> ANIMAL_COLUMNS = List.of(
+            new Column<>("id", AnimalResponseDto::id),
+            new Column<>("name", AnimalResponseDto::name),
+            new Column<>("birthDate", AnimalResponseDto::birthDate),
+            new Column<>("weight", AnimalResponseDto::weight),
+            new Column<>("type", AnimalResponseDto::type),
+            new Column<>("sex", AnimalResponseDto::sex),
+            new Column<>("size", AnimalResponseDto::size),
+            new Column<>("status", AnimalResponseDto::status),
+            new Column<>("authorId", dto -> dto.author() != null ? dto.author().id() : null),
+            new Column<>("authorName", dto -> dto.author() != null ? dto.author().name() : null),
+            new Column<>("imagePath", AnimalResponseDto::imagePath),
+            new Column<>("thumbnailPath", AnimalResponseDto::thumbnailPath),
+            new Column<>("mediumPath", AnimalResponseDto::mediumPath),
+            new Column<>("description", AnimalResponseDto::description),
+            new Column<>("createdAt", AnimalResponseDto::createdAt),
+            new Column<>("updatedAt", AnimalResponseDto::updatedAt)
+    );
+
+    /**
+     * Colunas do CSV de adoções.
+     */
+    private static final List<Column<AdoptionResponseDto>> ADOPTION_COLUMNS = List.of(
+            new Column<>("id", AdoptionResponseDto::id),
+            new Column<>("status", AdoptionResponseDto::status),
+            new Column<>("animalId", dto -> dto.animal() != null ? dto.animal().id() : null),
+            new Column<>("animalName", dto -> dto.animal() != null ? dto.animal().name() : null),
+            new Column<>("animalOwnerId", dto -> dto.animalOwner() != null ? dto.animalOwner().id() : null),
+            new Column<>("animalOwnerName", dto -> dto.animalOwner() != null ? dto.animalOwner().name() : null),
+            new Column<>("adopterId", dto -> dto.adopter() != null ? dto.adopter().id() : null),
+            new Column<>("adopterName", dto -> dto.adopter() != null ? dto.adopter().name() : null),
+            new Column<>("reason", AdoptionResponseDto::reason),
+            new Column<>("createdAt", AdoptionResponseDto::createdAt),
+            new Column<>("updatedAt", AdoptionResponseDto::updatedAt)
+    );
+
+    @Value("${api.exports.timeout:30m}")
+    private Duration timeout;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private IAnimalRepository animalRepository;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Exporta os animais, podendo filtrar por status de adoção e tipo.
+     *
+     * @param format O formato do arquivo.
+     * @param status O status de adoção opcional para filtro.
+     * @param type O tipo de animal opcional para filtro.
+     * @return O {@code StreamingResponseBody} que escreve os animais no fluxo de saída da resposta.
+     * @throws IllegalArgumentException Se o status ou o tipo forem inválidos.
+     */
+    public StreamingResponseBody exportAnimals(FileFormat format, String status, String type) {
+        Query query = new Query();
+        if (status != null && !status.isBlank()) query.addCriteria(where("status").is(AdoptionStatus.fromString(status)));
+        if (type != null && !type.isBlank()) query.addCriteria(where("type").is(AnimalType.fromString(type)));
+        query.with(Sort.by("id"));
+
+        return out -> export(query, Animal.class, format, ANIMAL_COLUMNS, this::toAnimalResponses, out);
+    }
+
+    /**
+     * Exporta as solicitações de adoção feitas pelo usuário autenticado.
+     *
+     * @param format O formato do arquivo.
+     * @param user O usuário autenticado (adotante).
+     * @return O {@code StreamingResponseBody} que escreve as adoções no fluxo de saída da resposta.
+     */
+    public StreamingResponseBody exportAdoptionsRequestedBy(FileFormat format, User user) {
+        Query query = new Query(where("adopterId").is(user.getId())).with(Sort.by(Sort.Direction.DESC, "createdAt"));
+        return out -> export(query, Adoption.class, format, ADOPTION_COLUMNS, this::toAdoptionResponses, out);
+    }
+
+    /**
+     * Exporta as solicitações de adoção feitas aos animais do usuário autenticado.
+     *
+     * @param format O formato do arquivo.
+     * @param user O usuário autenticado (dono dos animais).
+     * @return O {@code StreamingResponseBody} que escreve as adoções no fluxo de saída da resposta.
+     */
+    public StreamingResponseBody exportRequestsForAnimalsOf(FileFormat format, User user) {
+        Query query = new Query(where("animalOwnerId").is(user.getId())).with(Sort.by(Sort.Direction.DESC, "createdAt"));
+        return out -> export(query, Adoption.class, format, ADOPTION_COLUMNS, this::toAdoptionResponses, out);
+    }
+
+    /**
+     * Monta o download de um arquivo exportado.
+     * <p>
+     * O {@code Content-Type} e o {@code Content-Disposition} são definidos na resposta antes do início do
+     * processamento assíncrono, e o conteúdo é escrito no fluxo de saída por uma {@code WebAsyncTask}
+     * com o tempo limite das exportações.
+     *
+     * @param format O formato do arquivo.
+     * @param name O nome do arquivo, sem a extensão.
+     * @param body O conteúdo a ser escrito no fluxo de saída da resposta.
+     * @param response A resposta HTTP da requisição.
+     * @return A {@code WebAsyncTask} que escreve o arquivo.
+     */
+    public WebAsyncTask<Void> download(FileFormat format, String name, StreamingResponseBody body, HttpServletResponse response) {
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension())
+                .build()
+                .toString());
+
+        return new WebAsyncTask<>(timeout.toMillis(), () -> {
+            body.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+
+    /**
+     * Percorre o cursor da consulta, convertendo e escrevendo os registros em blocos.
+     *
+     * @param query A consulta a ser executada.
+     * @param entityClass A entidade consultada.
+     * @param format O formato do arquivo.
+     * @param columns As colunas utilizadas no formato CSV.
+     * @param mapper A conversão de um bloco de entidades em DTOs de resposta, com as buscas em lote.
+     * @param out O fluxo de saída da resposta.
+     * @throws IOException Se ocorrer um erro ao escrever no fluxo de saída.
+     */
+    private <E, D> void export(Query query, Class<E> entityClass, FileFormat format, List<Column<D>> columns,
+                               Function<List<E>, List<D>> mapper, OutputStream out) throws IOException {
+        query.cursorBatchSize(CHUNK_SIZE);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == FileFormat.CSV) {
+            writer.write(CsvMapper.toHeader(columns));
+            writer.write('\n');
+        }
+
+        List<E> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (Stream<E> entities = mongoTemplate.stream(query, entityClass)) {
+            for (E entity : (Iterable<E>) entities::iterator) {
+                chunk.add(entity);
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    write(mapper.apply(chunk), format, columns, writer);
+                    chunk.clear();
+                }
+            }
+        }
+
+        write(mapper.apply(chunk), format, columns, writer);
+        writer.flush();
+    }
+
+    /**
+     * Escreve um bloco de DTOs no formato escolhido e envia o conteúdo ao cliente.
+     */
+    private <D> void write(List<D> rows, FileFormat format, List<Column<D>> columns, Writer writer) throws IOException {
+        for (D row : rows) {
+            writer.write(format == FileFormat.CSV ? CsvMapper.toLine(row, columns) : objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Converte um bloco de animais em DTOs de resposta, buscando os autores em uma única consulta.
+     */
+    private List<AnimalResponseDto> toAnimalResponses(List<Animal> animals) {
+        if (animals.isEmpty()) return List.of();
+
+        Map<String, UserSummaryDto> authors = findUsers(animals.stream().map(Animal::getAuthorId).toList());
+        return animals.stream()
+                .map(animal -> AnimalMapper.toDTO(animal, authors.get(animal.getAuthorId())))
+                .toList();
+    }
+
+    /**
+     * Converte um bloco de adoções em DTOs de resposta, buscando os animais e os usuários
+     * envolvidos em uma consulta para cada coleção.
+     */
+    private List<AdoptionResponseDto> toAdoptionResponses(List<Adoption> adoptions) {
+        if (adoptions.isEmpty()) return List.of();
+
+        Map<String, AnimalSummaryDto> animals = animalRepository.findSummariesByIdIn(
+                        adoptions.stream().map(Adoption::getAnimalId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(AnimalSummaryDto::id, Function.identity()));
+        Map<String, UserSummaryDto> users = findUsers(adoptions.stream()
+                .flatMap(adoption -> Stream.of(adoption.getAnimalOwnerId(), adoption.getAdopterId()))
+                .toList());
+
+        return adoptions.stream()
+                .map(adoption -> AdoptionMapper.toDTO(adoption,
+                        animals.get(adoption.getAnimalId()),
+                        users.get(adoption.getAnimalOwnerId()),
+                        users.get(adoption.getAdopterId())))
+                .toList();
+    }
+
+    /**
+     * Busca em lote os resumos dos usuários informados.
+     *
+     * @param ids Os IDs dos usuários, podendo conter repetições e valores nulos.
+     * @return Um {@code Map} de resumos indexado pelo ID do usuário.
+     */
+    private Map<String, UserSummaryDto> findUsers(Collection<String> ids) {
+        return userRepository.findSummariesByIdIn(ids.stream().filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(UserSummaryDto::id, Function.identity()));
+    }
+}
@@ -0,0 +1,164 @@
+package br.com.ocauamotta.PetLar.services;
+
+import br.com.ocauamotta.PetLar.enums.ImageFormat;
+import br.com.ocauamotta.PetLar.exceptions.ImageNotSavedException;
+import br.com.ocauamotta.PetLar.validations.Image.FileIsImageValidation;
+import br.com.ocauamotta.PetLar.validations.Image.ImageSizeValidation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * Camada de Serviço responsável pelo armazenamento físico das imagens dos animais.
+ * <p>
+ * O conteúdo enviado é transferido do {@code InputStream} da requisição multipart para um
+ * {@code FileChannel}, sem carregar o arquivo inteiro em memória: quando a parte já está em disco,
+ * a JVM copia diretamente entre os canais; caso contrário, usa um buffer de tamanho fixo. A gravação ocorre
+ * em um arquivo temporário que só é movido atomicamente para o diretório público após
+ * estar completo, de modo que nenhuma imagem parcial fique acessível.
+ */
+@Service
+public class ImageStorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageStorageService.class);
+
+    /**
+     * Diretório público onde as imagens dos animais ficam disponíveis.
+     */
+    public static final String UPLOAD_DIR = "uploads/animals";
+
+    /**
+     * Diretório de trabalho para gravações em andamento. Fica no mesmo sistema de arquivos
+     * do diretório público para permitir a movimentação atômica, mas fora de {@code uploads/},
+     * que é servido como recurso estático.
+     */
+    static final String TEMP_DIR = "tmp/uploads";
+
+    @Autowired
+    private FileIsImageValidation fileIsImageValidation;
+
+    @Autowired
+    private ImageSizeValidation imageSizeValidation;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer storeTimer;
+    private DistributionSummary uploadedBytes;
+
+    /**
+     * Registra as métricas de vazão dos uploads: o tempo de gravação e a quantidade de bytes
+     * gravados por imagem. A taxa de bytes por segundo é obtida a partir do total acumulado.
+     */
+    @PostConstruct
+    public void init() {
+        this.storeTimer = Timer.builder("petlar.images.store")
+                .description("Tempo de gravação das imagens enviadas")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.uploadedBytes = DistributionSummary.builder("petlar.images.uploaded")
+                .description("Tamanho das imagens gravadas")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Realiza a persistência física de uma imagem no servidor.
+     * <p>
+     * O processo segue os seguintes passos:
+     * <ol>
+     * <li>Valida se o conteúdo do arquivo é uma imagem e se respeita o limite de tamanho.</li>
+     * <li>Gera um nome único utilizando {@code UUID}, com a extensão do formato detectado.</li>
+     * <li>Transfere o conteúdo, em streaming, para um arquivo temporário.</li>
+     * <li>Move o arquivo temporário atomicamente para o diretório de destino.</li>
+     * </ol>
+     *
+     * @param image O arquivo recebido via requisição multipart.
+     * @return O caminho relativo (Path) onde a imagem foi salva, ou {@code null} se o arquivo for nulo.
+     * @throws ImageNotSavedException Se ocorrer um erro de I/O durante a escrita.
+     */
+    public String store(MultipartFile image) {
+        if (image == null) return null;
+
+        fileIsImageValidation.validate(image);
+        imageSizeValidation.validate(image);
+
+        ImageFormat format = ImageFormat.detect(image)
+                .orElseThrow(() -> new IllegalArgumentException("Arquivo não é uma imagem."));
+        String fileName = UUID.randomUUID() + "." + format.getExtension();
+
+        Path uploadPath = Paths.get(UPLOAD_DIR);
+        Path tempPath = Paths.get(TEMP_DIR);
+        Path tempFile = null;
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            Files.createDirectories(uploadPath);
+            Files.createDirectories(tempPath);
+            tempFile = Files.createTempFile(tempPath, "upload-", ".tmp");
+
+            try (InputStream in = image.getInputStream();
+                 OutputStream out = Channels.newOutputStream(FileChannel.open(tempFile, StandardOpenOption.WRITE))) {
+                in.transferTo(out);
+            }
+
+            Files.move(tempFile, uploadPath.resolve(fileName), StandardCopyOption.ATOMIC_MOVE);
+            sample.stop(storeTimer);
+            uploadedBytes.record(image.getSize());
+        } catch (IOException ex) {
+            deleteTempFile(tempFile);
+            throw new ImageNotSavedException("Erro ao salvar a imagem.");
+        }
+
+        return UPLOAD_DIR + "/" + fileName;
+    }
+
+    /**
+     * Remove um arquivo de imagem do sistema de arquivos.
+     * <p>
+     * Utiliza {@code deleteIfExists} para garantir que a ausência do arquivo físico
+     * não cause uma interrupção no fluxo de negócio.
+     *
+     * @param imagePath O caminho relativo do arquivo a ser removido.
+     */
+    public void delete(String imagePath) {
+        try {
+            Path path = Paths.get(imagePath);
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("Erro ao deletar a imagem {}.", imagePath, ex);
+        }
+    }
+
+    /**
+     * Remove o arquivo temporário de uma gravação que falhou.
+     */
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) return;
+
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException ex) {
+            log.warn("Erro ao remover o arquivo temporário {}.", tempFile, ex);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package br.com.ocauamotta.PetLar.services;
+
+import br.com.ocauamotta.PetLar.enums.ImageVariant;
+import br.com.ocauamotta.PetLar.events.AnimalChangedEvent;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepository;
+import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Camada de Serviço responsável por gerar as variações redimensionadas das imagens dos animais.
+ * <p>
+ * Após o upload, a imagem original é decodificada uma única vez e reduzida para cada
+ * {@code ImageVariant}, sendo gravada como JPEG comprimido. Assim, as listagens podem
+ * exibir miniaturas de poucos kilobytes em vez da foto original enviada pelo usuário.
+ * <p>
+ * O processamento é executado no executor limitado {@code imageExecutor}, fora da thread da requisição.
+ */
+@Service
+public class ImageVariantService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    /**
+     * Qualidade de compressão das variações JPEG (0 a 1).
+     */
+    private static final float JPEG_QUALITY = 0.8f;
+
+    /**
+     * Limite de pixels da imagem original, como proteção contra imagens que ocupariam
+     * centenas de megabytes ao serem decodificadas.
+     */
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    @Autowired
+    private IAnimalRepository repository;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Gera as variações da imagem de um animal e registra seus caminhos na entidade.
+     * <p>
+     * Caso o animal tenha trocado de imagem durante o processamento, ou a imagem não possa
+     * ser decodificada, as variações são descartadas e o animal continua exibindo a original.
+     *
+     * @param animalId O ID do animal dono da imagem.
+     * @param imagePath O caminho relativo da imagem original.
+     */
+    @Async("imageExecutor")
+    public void generate(String animalId, String imagePath) {
+        Map<ImageVariant, String> paths = new EnumMap<>(ImageVariant.class);
+
+        try {
+            BufferedImage source = read(Paths.get(imagePath), ImageVariant.MEDIUM.getMaxDimension());
+            if (source == null) return;
+
+            for (ImageVariant variant : ImageVariant.values()) {
+                String path = variantPath(imagePath, variant);
+                write(resize(source, variant.getMaxDimension()), Paths.get(path));
+                paths.put(variant, path);
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Erro ao gerar as variações da imagem {} do animal {}.", imagePath, animalId, ex);
+            paths.values().forEach(imageStorageService::delete);
+            return;
+        }
+
+        boolean applied = repository.updateImageVariants(
+                animalId,
+                imagePath,
+                paths.get(ImageVariant.THUMBNAIL),
+                paths.get(ImageVariant.MEDIUM));
+
+        if (applied) {
+            eventPublisher.publishEvent(new AnimalChangedEvent(animalId));
+        } else {
+            paths.values().forEach(imageStorageService::delete);
+        }
+    }
+
+    /**
+     * Monta o caminho de uma variação a partir do caminho da imagem original.
+     *
+     * @param imagePath O caminho relativo da imagem original.
+     * @param variant A variação desejada.
+     * @return O caminho relativo da variação (ex.: {@code uploads/animals/<uuid>_thumb.jpg}).
+     */
+    public static String variantPath(String imagePath, ImageVariant variant) {
+        return FilenameUtils.removeExtension(imagePath) + "_" + variant.getSuffix() + ".jpg";
+    }
+
+    /**
+     * Decodifica a imagem original aplicando subamostragem, de modo que apenas a resolução
+     * necessária para a maior variação seja carregada em memória.
+     *
+     * @return A imagem decodificada, ou {@code null} se o formato não puder ser lido.
+     */
+    private BufferedImage read(Path path, int targetDimension) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) return null;
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new IOException("Imagem excede o limite de resolução.");
+                }
+
+                int subsampling = Math.max(1, Math.min(width, height) / (targetDimension * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Reduz a imagem para caber em um quadrado de {@code maxDimension} pixels, preservando a proporção.
+     * Imagens menores não são ampliadas. Áreas transparentes recebem fundo branco, já que o JPEG
+     * não possui canal alfa.
+     */
+    private BufferedImage resize(BufferedImage source, int maxDimension) {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Grava a imagem como JPEG em um arquivo temporário e o move atomicamente para o destino.
+     */
+    private void write(BufferedImage image, Path target) throws IOException {
+        Path tempPath = Paths.get(ImageStorageService.TEMP_DIR);
+        Files.createDirectories(tempPath);
+        Path tempFile = Files.createTempFile(tempPath, "variant-", ".tmp");
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(tempFile.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(tempFile);
+            throw ex;
+        } finally {
+            writer.dispose();
+        }
+
+        Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
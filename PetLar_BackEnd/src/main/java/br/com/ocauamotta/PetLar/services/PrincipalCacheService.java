@@ -0,0 +1,91 @@
+package br.com.ocauamotta.PetLar.services;
+
+import br.com.ocauamotta.PetLar.models.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Serviço responsável por manter em memória os usuários autenticados via JWT.
+ * <p>
+ * Evita que cada requisição autenticada consulte o MongoDB para carregar o usuário do token.
+ * O cache é limitado em quantidade de entradas e cada entrada expira no menor valor entre o
+ * TTL configurado e a expiração do token que a originou. Alterações de e-mail, senha ou a exclusão
+ * do usuário devem invalidar a entrada através de {@link #evict(String)}.
+ */
+@Service
+public class PrincipalCacheService {
+
+    @Autowired
+    private AuthService authService;
+
+    @Value("${api.security.principal-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${api.security.principal-cache.ttl:5m}")
+    private Duration ttl;
+
+    private Cache<String, CachedPrincipal> cache;
+
+    /**
+     * Constrói o cache com expiração variável por entrada.
+     */
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String subject, CachedPrincipal principal) -> {
+                    Duration untilTokenExpires = Duration.between(Instant.now(), principal.expiresAt());
+                    return untilTokenExpires.compareTo(ttl) < 0 ? untilTokenExpires : ttl;
+                }))
+                .build();
+    }
+
+    /**
+     * Retorna o usuário ativo associado ao subject do token, carregando-o do banco apenas em caso de ausência no cache.
+     * <p>
+     * Cada chamada recebe uma cópia da entidade, de modo que alterações feitas durante
+     * a requisição não afetem a instância compartilhada no cache.
+     *
+     * @param subject O subject (e-mail) extraído do token já validado.
+     * @param expiresAt O momento de expiração do token.
+     * @return Uma cópia do {@code User} autenticado.
+     * @throws UsernameNotFoundException Se nenhum usuário ativo for encontrado para o subject.
+     */
+    public User getOrLoad(String subject, Instant expiresAt) {
+        CachedPrincipal principal = cache.get(normalize(subject),
+                key -> new CachedPrincipal((User) authService.loadUserByUsername(subject), expiresAt));
+
+        return principal.user().toBuilder().build();
+    }
+
+    /**
+     * Remove do cache o usuário associado ao e-mail informado.
+     *
+     * @param subject O e-mail do usuário a ser invalidado.
+     */
+    public void evict(String subject) {
+        if (subject != null) cache.invalidate(normalize(subject));
+    }
+
+    /**
+     * Normaliza o e-mail utilizado como chave, já que a busca do usuário não diferencia maiúsculas e minúsculas.
+     */
+    private String normalize(String subject) {
+        return subject.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Entrada do cache contendo o usuário e a expiração do token que o carregou.
+     */
+    private record CachedPrincipal(User user, Instant expiresAt) {}
+}
@@ -0,0 +1,134 @@
+package br.com.ocauamotta.PetLar.services;
+
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSummaryDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.exceptions.EntityNotFoundException;
+import br.com.ocauamotta.PetLar.mappers.AdoptionMapper;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.User;
+import br.com.ocauamotta.PetLar.repositories.reactive.IReactiveAdoptionRepository;
+import br.com.ocauamotta.PetLar.repositories.reactive.IReactiveAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.reactive.IReactiveUserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Camada de Serviço reativa para as listagens de adoções do usuário autenticado.
+ * <p>
+ * Implementa as mesmas consultas de {@code AdoptionService.getAdoptionsRequestedByMe} e
+ * {@code AdoptionService.getRequestsForMyAnimals} sobre o driver reativo do MongoDB. O conteúdo da página
+ * e o total são consultados em paralelo e, em seguida, os usuários e os animais relacionados são
+ * carregados em lote também em paralelo. Disponível apenas no perfil {@code reactive}.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveAdoptionService {
+
+    @Autowired
+    private IReactiveAdoptionRepository adoptionRepository;
+
+    @Autowired
+    private IReactiveAnimalRepository animalRepository;
+
+    @Autowired
+    private IReactiveUserRepository userRepository;
+
+    /**
+     * Recupera uma lista paginada de todas as solicitações de adoção feitas pelo usuário.
+     *
+     * @param pageable Configurações de paginação passadas pelo cliente.
+     * @param user O usuário autenticado cujas adoções devem ser buscadas.
+     * @return Um {@code Mono} com a página de {@code AdoptionResponseDto} representando o histórico do usuário.
+     */
+    public Mono<Page<AdoptionResponseDto>> getAdoptionsRequestedByMe(Pageable pageable, User user) {
+        return buildAdoptionResponsePage(
+                adoptionRepository.findByAdopterId(user.getId(), pageable),
+                adoptionRepository.countByAdopterId(user.getId()),
+                pageable);
+    }
+
+    /**
+     * Recupera uma lista paginada de todas as solicitações de adoção feitas aos animais do usuário.
+     *
+     * @param pageable Configurações de paginação passadas pelo cliente.
+     * @param user O usuário autenticado, autor dos animais.
+     * @return Um {@code Mono} com a página de {@code AdoptionResponseDto} das solicitações recebidas.
+     */
+    public Mono<Page<AdoptionResponseDto>> getRequestsForMyAnimals(Pageable pageable, User user) {
+        return buildAdoptionResponsePage(
+                adoptionRepository.findByAnimalOwnerId(user.getId(), pageable),
+                adoptionRepository.countByAnimalOwnerId(user.getId()),
+                pageable);
+    }
+
+    /**
+     * Monta a página de adoções combinando o conteúdo e o total, consultados em paralelo.
+     */
+    private Mono<Page<AdoptionResponseDto>> buildAdoptionResponsePage(Flux<Adoption> content, Mono<Long> total,
+                                                                      Pageable pageable) {
+        Mono<List<AdoptionResponseDto>> dtos = content.collectList().flatMap(this::toDTOs);
+
+        return Mono.zip(dtos, total)
+                .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    }
+
+    /**
+     * Enriquece os registros de adoção com os dados completos de Animais, Adotantes e Doadores.
+     * <p>
+     * Os resumos dos usuários e dos animais são buscados em lote, com as duas consultas executadas
+     * em paralelo, evitando o problema N+1. Apenas os campos dos DTOs de resumo são lidos do banco.
+     *
+     * @param adoptions Os registros de adoção da página.
+     * @return Um {@code Mono} com os DTOs na mesma ordem da página.
+     * @throws EntityNotFoundException Caso algum usuário relacionado não seja encontrado no banco.
+     */
+    private Mono<List<AdoptionResponseDto>> toDTOs(List<Adoption> adoptions) {
+        if (adoptions.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        Set<String> userIds = adoptions.stream()
+                .flatMap(adoption -> Stream.of(
+                        adoption.getAdopterId(),
+                        adoption.getAnimalOwnerId()
+                ))
+                .collect(Collectors.toSet());
+
+        Set<String> animalIds = adoptions.stream()
+                .map(Adoption::getAnimalId)
+                .collect(Collectors.toSet());
+
+        return Mono.zip(
+                userRepository.findSummariesByIdIn(userIds).collectMap(UserSummaryDto::id),
+                animalRepository.findSummariesByIdIn(animalIds).collectMap(AnimalSummaryDto::id)
+        ).map(maps -> adoptions.stream()
+                .map(adoption -> {
+                    UserSummaryDto adopter = maps.getT1().get(adoption.getAdopterId());
+                    UserSummaryDto animalOwner = maps.getT1().get(adoption.getAnimalOwnerId());
+
+                    if (adopter == null || animalOwner == null) {
+                        throw new EntityNotFoundException("Usuário relacionado à adoção não encontrado.");
+                    }
+
+                    return AdoptionMapper.toDTO(
+                            adoption,
+                            maps.getT2().get(adoption.getAnimalId()),
+                            animalOwner,
+                            adopter
+                    );
+                })
+                .toList());
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.ocauamotta.PetLar.services;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.exceptions.EntityNotFoundException;
+import br.com.ocauamotta.PetLar.mappers.AnimalMapper;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.repositories.reactive.IReactiveAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.reactive.IReactiveUserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Camada de Serviço reativa para as leituras públicas da entidade {@code Animal}.
+ * <p>
+ * Implementa as mesmas consultas de {@code AnimalService.findAll} e {@code AnimalService.findById}
+ * sobre o driver reativo do MongoDB: o conteúdo da página e o total são consultados em paralelo
+ * e os autores são carregados em lote assim que o conteúdo chega, sem bloquear threads durante a espera.
+ * Disponível apenas no perfil {@code reactive}.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveAnimalService {
+
+    @Autowired
+    private IReactiveAnimalRepository repository;
+
+    @Autowired
+    private IReactiveUserRepository userRepository;
+
+    /**
+     * Busca uma página de animais, permitindo a filtragem por status de adoção
+     * e, opcionalmente, por tipo de animal.
+     *
+     * @param pageable Objeto que contém informações de paginação e ordenação.
+     * @param status O status de adoção do animal.
+     * @param type O tipo de animal opcional para filtro.
+     * @return Um {@code Mono} com a {@code Page} de {@code AnimalResponseDto} correspondente aos critérios de filtro.
+     */
+    public Mono<Page<AnimalResponseDto>> findAll(Pageable pageable, String status, String type) {
+        AdoptionStatus adoptionStatus = AdoptionStatus.fromString(status);
+        Flux<Animal> content;
+        Mono<Long> total;
+
+        if (type == null || type.isBlank()) {
+            content = repository.findByStatus(adoptionStatus, pageable);
+            total = repository.countByStatus(adoptionStatus);
+        } else {
+            AnimalType animalType = AnimalType.fromString(type);
+            content = repository.findByStatusAndType(adoptionStatus, animalType, pageable);
+            total = repository.countByStatusAndType(adoptionStatus, animalType);
+        }
+
+        Mono<List<AnimalResponseDto>> dtos = content.collectList().flatMap(this::toDTOs);
+
+        return Mono.zip(dtos, total)
+                .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    }
+
+    /**
+     * Busca um animal específico pelo seu ID.
+     *
+     * @param id O ID do animal a ser buscado.
+     * @return Um {@code Mono} com o {@code AnimalResponseDto} correspondente ao ID.
+     * @throws EntityNotFoundException Se o animal ou o seu autor não forem encontrados.
+     */
+    public Mono<AnimalResponseDto> findById(String id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Nenhum registro encontrado com ID - " + id)))
+                .flatMap(animal -> userRepository.findSummaryById(animal.getAuthorId())
+                        .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(
+                                "Nenhum registro encontrado com ID - " + animal.getAuthorId())))
+                        .map(author -> AnimalMapper.toDTO(animal, author)));
+    }
+
+    /**
+     * Converte os animais de uma página para DTO, carregando o resumo de todos os autores em uma única consulta.
+     *
+     * @param animals Os animais da página.
+     * @return Um {@code Mono} com os DTOs na mesma ordem da página.
+     * @throws EntityNotFoundException Caso o autor de algum animal não seja encontrado.
+     */
+    private Mono<List<AnimalResponseDto>> toDTOs(List<Animal> animals) {
+        if (animals.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        Set<String> authorIds = animals.stream()
+                .map(Animal::getAuthorId)
+                .collect(Collectors.toSet());
+
+        return userRepository.findSummariesByIdIn(authorIds)
+                .collectMap(UserSummaryDto::id)
+                .map(authorsMap -> animals.stream()
+                        .map(animal -> toDTO(animal, authorsMap))
+                        .toList());
+    }
+
+    /**
+     * Converte a entidade {@code Animal} em DTO, buscando o autor no mapa.
+     */
+    private AnimalResponseDto toDTO(Animal animal, Map<String, UserSummaryDto> authorsMap) {
+        UserSummaryDto author = authorsMap.get(animal.getAuthorId());
+
+        if (author == null) {
+            throw new EntityNotFoundException("Autor não encontrado");
+        }
+
+        return AnimalMapper.toDTO(animal, author);
+    }
+}
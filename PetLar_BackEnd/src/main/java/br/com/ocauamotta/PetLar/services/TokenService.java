@@ -4,9 +4,12 @@ import br.com.ocauamotta.PetLar.exceptions.Auth.InvalidTokenException;
 import br.com.ocauamotta.PetLar.exceptions.Auth.TokenException;
 import br.com.ocauamotta.PetLar.models.User;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -24,6 +27,8 @@ import java.time.ZoneOffset;
 @Service
 public class TokenService {
 
+    private static final String ISSUER = "API PetLar";
+
     /**
      * Chave secreta utilizada para assinar o JWT.
      * O valor é injetado a partir da propriedade {@code api.security.token.secret}
@@ -32,6 +37,25 @@ public class TokenService {
     @Value("${api.security.token.secret}")
     private String secret;
 
+    /**
+     * Algoritmo de assinatura e verificador construídos uma única vez.
+     * Ambos são imutáveis e seguros para uso concorrente entre requisições.
+     */
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+
+    /**
+     * Constrói o algoritmo HMAC256 e o {@code JWTVerifier} a partir do segredo configurado,
+     * evitando recriá-los a cada geração ou validação de token.
+     */
+    @PostConstruct
+    public void init() {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+    }
+
     /**
      * Gera um token (JWT) assinado para o usuário fornecido.
      * <p>
@@ -49,9 +73,8 @@ public class TokenService {
      */
     public String generateToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
             return JWT.create()
-                    .withIssuer("API PetLar")
+                    .withIssuer(ISSUER)
                     .withSubject(user.getUsername())
                     .withExpiresAt(generateExpires())
                     .sign(algorithm);
@@ -62,22 +85,28 @@ public class TokenService {
 
     /**
      * Valida o token JWT e extrai o "Subject" (username/e-mail) contido nele.
-     * <p>
-     * Utiliza o algoritmo HMAC256 e o segredo configurado para verificar a
-     * integridade e a validade do token (assinatura e expiração).
      *
      * @param tokenJWT O token JWT recebido na requisição.
      * @return A {@code String} do Subject (e-mail) contido no token.
-     * @throws RuntimeException Se o token for inválido, tiver sido adulterado ou estiver expirado.
+     * @throws InvalidTokenException Se o token for inválido, tiver sido adulterado ou estiver expirado.
      */
     public String getSubject(String tokenJWT) {
+        return verify(tokenJWT).getSubject();
+    }
+
+    /**
+     * Valida o token JWT e retorna suas informações decodificadas.
+     * <p>
+     * Utiliza o verificador pré-construído para checar a integridade e a validade do token
+     * (assinatura, emissor e expiração).
+     *
+     * @param tokenJWT O token JWT recebido na requisição.
+     * @return O {@code DecodedJWT} contendo o subject e a data de expiração do token.
+     * @throws InvalidTokenException Se o token for inválido, tiver sido adulterado ou estiver expirado.
+     */
+    public DecodedJWT verify(String tokenJWT) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
-                    .withIssuer("API PetLar")
-                    .build()
-                    .verify(tokenJWT)
-                    .getSubject();
+            return verifier.verify(tokenJWT);
         } catch (JWTVerificationException exception){
             throw new InvalidTokenException("Token JWT inválido ou expirado!");
         }
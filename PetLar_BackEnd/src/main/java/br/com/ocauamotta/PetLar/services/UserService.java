@@ -1,6 +1,7 @@
 package br.com.ocauamotta.PetLar.services;
 
 import br.com.ocauamotta.PetLar.dtos.User.*;
+import br.com.ocauamotta.PetLar.exceptions.EntityNotFoundException;
 import br.com.ocauamotta.PetLar.mappers.UserMapper;
 import br.com.ocauamotta.PetLar.models.User;
 import br.com.ocauamotta.PetLar.repositories.IUserRepository;
@@ -8,11 +9,11 @@ import br.com.ocauamotta.PetLar.validations.User.SamePasswordUserValidation;
 import br.com.ocauamotta.PetLar.validations.User.ExistsButDeletedUserValidation;
 import br.com.ocauamotta.PetLar.validations.User.ExistsUserValidation;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.Instant;
 
 /**
  * Camada de Serviço responsável por implementar a lógica de negócio
@@ -30,6 +31,9 @@ public class UserService {
     @Autowired
     private TokenService tokenService;
 
+    @Autowired
+    private PrincipalCacheService principalCacheService;
+
     @Autowired
     private ExistsUserValidation userExistsValidation;
 
@@ -64,7 +68,7 @@ public class UserService {
         String password = encoder.encode(user.getPassword());
         user.setPassword(password);
 
-        String time = ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toString();
+        Instant time = Instant.now();
         user.setCreatedAt(time);
         user.setUpdatedAt(time);
 
@@ -75,7 +79,8 @@ public class UserService {
      * Atualiza as informações de um usuário existente.
      * <p>
      * Se o e-mail for alterado, as validações de unicidade são aplicadas e, em caso de sucesso,
-     * um novo token JWT é gerado e retornado para o cliente.
+     * um novo token JWT é gerado e retornado para o cliente. O usuário é removido do cache
+     * de autenticação, de modo que tokens emitidos para o e-mail anterior deixem de ser aceitos.
      *
      * @param dto O DTO de requisição contendo os dados a serem atualizados.
      * @param user A entidade {@code User} autenticada a ser modificada.
@@ -83,20 +88,27 @@ public class UserService {
      * caso o e-mail tenha sido alterado.
      */
     public UserUpdateResponseDto update(UserUpdateRequestDto dto, User user) {
+        String previousEmail = user.getEmail();
         boolean emailChanged = !dto.email().equalsIgnoreCase(user.getEmail());
 
+        Update changes = new Update()
+                .set("name", dto.name())
+                .set("updatedAt", Instant.now());
+
         if (emailChanged) {
             user.setEmail(dto.email());
             userExistsValidation.validate(user);
             userExistsButDeletedValidation.validate(user);
+            changes.set("email", dto.email());
         }
-        user.setName(dto.name());
-        user.setUpdatedAt(ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toString());
 
-        UserResponseDto userResponseDto = UserMapper.toDTO(repository.save(user));
+        User saved = updateFields(user, changes);
+        principalCacheService.evict(previousEmail);
 
         String newToken = null;
-        if (emailChanged) newToken = tokenService.generateToken(user);
+        if (emailChanged) newToken = tokenService.generateToken(saved);
+
+        UserResponseDto userResponseDto = UserMapper.toDTO(saved);
 
         return new UserUpdateResponseDto(userResponseDto, newToken);
     }
@@ -118,7 +130,8 @@ public class UserService {
      * <ol>
      * <li>Executar a validação para garantir que a nova senha seja diferente da atual.</li>
      * <li>Criptografar a nova senha.</li>
-     * <li>Salvar o usuário com a nova senha criptografada.</li>
+     * <li>Gravar apenas a nova senha criptografada e a data de atualização.</li>
+     * <li>Remover o usuário do cache de autenticação.</li>
      * </ol>
      *
      * @param dto O DTO contendo a nova senha bruta.
@@ -129,22 +142,41 @@ public class UserService {
 
         samePasswordValidation.validate(user);
 
-        String password = encoder.encode(user.getPassword());
-        user.setPassword(password);
-        user.setUpdatedAt(ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toString());
+        User saved = updateFields(user, new Update()
+                .set("password", encoder.encode(user.getPassword()))
+                .set("updatedAt", Instant.now()));
+        principalCacheService.evict(user.getEmail());
 
-        return UserMapper.toDTO(repository.save(user));
+        return UserMapper.toDTO(saved);
     }
 
     /**
      * Realiza a exclusão lógica de um usuário.
      * <p>
-     * Em vez de remover o registro, define o campo {@code deletedAt} com o timestamp atual.
+     * Em vez de remover o registro, grava apenas o campo {@code deletedAt} com o timestamp atual
+     * e remove o usuário do cache de autenticação, encerrando imediatamente o acesso dos tokens emitidos.
      *
      * @param user A entidade {@code User} autenticada a ser excluída logicamente.
      */
     public void delete(User user) {
-        user.setDeletedAt(ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toString());
-        repository.save(user);
+        updateFields(user, new Update()
+                .set("deletedAt", Instant.now()));
+        principalCacheService.evict(user.getEmail());
+    }
+
+    /**
+     * Método auxiliar privado que aplica uma atualização parcial ao usuário autenticado.
+     * <p>
+     * Somente os campos presentes no {@code Update} são enviados ao banco, em vez de regravar
+     * o documento inteiro.
+     *
+     * @param user A entidade {@code User} autenticada.
+     * @param changes Os campos a serem alterados.
+     * @return O usuário atualizado, sem a senha.
+     * @throws EntityNotFoundException Se o usuário não existir ou já tiver sido excluído.
+     */
+    private User updateFields(User user, Update changes) {
+        return repository.updateFields(user.getId(), changes)
+                .orElseThrow(() -> new EntityNotFoundException("Nenhum registro encontrado com ID - " + user.getId()));
     }
 }
@@ -1,26 +1,30 @@
 package br.com.ocauamotta.PetLar.validations.Image;
 
+import br.com.ocauamotta.PetLar.enums.ImageFormat;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
  * Validador de tipo de conteúdo.
  * <p>
- * Garante que o cabeçalho {@code Content-Type} do arquivo enviado comece
- * com o prefixo "image/", permitindo apenas formatos como JPEG, PNG, WEBP, etc.
+ * Garante que o conteúdo do arquivo enviado seja de fato uma imagem suportada
+ * (JPEG, PNG, GIF ou WEBP), verificando a assinatura binária dos primeiros bytes.
+ * O cabeçalho {@code Content-Type} informado pelo cliente não é considerado,
+ * pois pode ser forjado livremente.
  */
 @Component
 public class FileIsImageValidation implements IImageValidation {
 
     /**
-     * Valida se o tipo MIME do arquivo pertence à família de imagens.
+     * Valida se os primeiros bytes do arquivo correspondem a um formato de imagem suportado.
+     * Apenas o cabeçalho é lido; o restante do conteúdo não é carregado em memória.
      *
      * @param image O arquivo recebido.
-     * @throws IllegalArgumentException Se o arquivo não possuir um tipo MIME de imagem válido.
+     * @throws IllegalArgumentException Se o conteúdo do arquivo não for uma imagem suportada.
      */
     @Override
     public void validate(MultipartFile image) {
-        if (!image.getContentType().startsWith("image/")) {
+        if (ImageFormat.detect(image).isEmpty()) {
             throw new IllegalArgumentException("Arquivo não é uma imagem.");
         }
     }
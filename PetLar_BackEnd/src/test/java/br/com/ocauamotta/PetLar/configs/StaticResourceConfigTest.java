@@ -0,0 +1,133 @@
+package br.com.ocauamotta.PetLar.configs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringJUnitWebConfig(StaticResourceConfigTest.WebConfig.class)
+class StaticResourceConfigTest {
+
+    private static final int IMAGE_SIZE = 200_000;
+    private static final int IMAGES_PER_PAGE = 20;
+
+    @Configuration
+    @EnableWebMvc
+    @Import(StaticResourceConfig.class)
+    static class WebConfig {
+    }
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mvc;
+    private final List<Path> images = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        Files.createDirectories(Paths.get("uploads/animals"));
+        for (int i = 0; i < IMAGES_PER_PAGE; i++) {
+            Path image = Paths.get("uploads/animals/" + UUID.randomUUID() + ".jpg");
+            Files.write(image, new byte[IMAGE_SIZE]);
+            images.add(image);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Path image : images) {
+            Files.deleteIfExists(image);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve servir as imagens como recursos imutáveis com ETag e Last-Modified.")
+    void testGet_ShouldReturnImmutableCacheHeaders() throws Exception {
+        mvc.perform(get(url(images.getFirst())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.ETAG, containsString(images.getFirst().getFileName().toString())))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem corpo quando o ETag enviado corresponder à imagem.")
+    void testGet_ShouldReturnNotModifiedForMatchingEtag() throws Exception {
+        String etag = mvc.perform(get(url(images.getFirst())))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = mvc.perform(get(url(images.getFirst()))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn().getResponse();
+
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("Deve responder 206 com apenas o intervalo solicitado.")
+    void testGet_ShouldReturnPartialContentForRange() throws Exception {
+        MockHttpServletResponse response = mvc.perform(get(url(images.getFirst()))
+                        .header(HttpHeaders.RANGE, "bytes=0-1023"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-1023/" + IMAGE_SIZE))
+                .andReturn().getResponse();
+
+        assertEquals(1024, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("Uma revisita à página não deve transferir novamente o conteúdo das imagens.")
+    void testRevisit_ShouldSaveImageBytes() throws Exception {
+        long firstVisitBytes = 0;
+        List<String> etags = new ArrayList<>();
+
+        for (Path image : images) {
+            MockHttpServletResponse response = mvc.perform(get(url(image))).andReturn().getResponse();
+            firstVisitBytes += response.getContentAsByteArray().length;
+            etags.add(response.getHeader(HttpHeaders.ETAG));
+        }
+
+        assertEquals((long) IMAGE_SIZE * IMAGES_PER_PAGE, firstVisitBytes);
+
+        for (int i = 0; i < images.size(); i++) {
+            MockHttpServletResponse response = mvc.perform(get(url(images.get(i)))
+                            .header(HttpHeaders.IF_NONE_MATCH, etags.get(i)))
+                    .andExpect(status().isNotModified())
+                    .andReturn().getResponse();
+
+            assertEquals(0, response.getContentAsByteArray().length);
+        }
+    }
+
+    String url(Path image) {
+        return "/public/animals/" + image.getFileName();
+    }
+}
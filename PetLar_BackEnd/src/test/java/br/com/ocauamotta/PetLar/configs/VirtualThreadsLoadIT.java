@@ -0,0 +1,159 @@
+package br.com.ocauamotta.PetLar.configs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de carga comparando o atendimento das requisições em threads de plataforma (padrão do Tomcat)
+ * e em virtual threads ({@code spring.threads.virtual.enabled}).
+ * <p>
+ * Todas as requisições da aplicação são bloqueantes (consulta do {@code SecurityFilter}, repositórios
+ * e gravação de imagens). Para isolar o modelo de threads do banco, o endpoint de teste simula uma
+ * ida ao MongoDB com uma espera fixa, e a mesma rajada de conexões simultâneas é enviada aos dois modos.
+ * <p>
+ * As verificações se limitam ao comportamento: todas as requisições são atendidas e, com a propriedade
+ * ativa, o endpoint executa em uma virtual thread. A vazão e o pico de threads de plataforma de cada modo
+ * são apenas registrados no log, já que dependem da máquina em que o teste é executado.
+ */
+class VirtualThreadsLoadIT {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsLoadIT.class);
+
+    private static final int CONNECTIONS = 5_000;
+    private static final Duration IO_LATENCY = Duration.ofMillis(100);
+
+    @Test
+    @DisplayName("Deve atender 5.000 conexões simultâneas nos dois modos, executando em virtual threads quando ativadas.")
+    void testBlockingRequests_ShouldCompleteOnConfiguredThreads() throws Exception {
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        log.info("{} conexões simultâneas, {} ms de I/O por requisição: plataforma: {}; virtual: {}",
+                CONNECTIONS, IO_LATENCY.toMillis(), platform, virtual);
+
+        assertEquals(CONNECTIONS, platform.succeeded());
+        assertEquals(0, platform.servedByVirtualThreads());
+        assertEquals(CONNECTIONS, virtual.succeeded());
+        assertEquals(CONNECTIONS, virtual.servedByVirtualThreads());
+    }
+
+    /**
+     * Inicia a aplicação de teste no modo informado e envia a rajada de requisições simultâneas.
+     */
+    LoadResult run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BlockingApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "logging.level." + VirtualThreadsLoadIT.class.getName() + "=info")
+                .run();
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/blocking");
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+
+            burst(client, uri, 200);
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+
+            long start = System.nanoTime();
+            List<HttpResponse<String>> responses = burst(client, uri, CONNECTIONS);
+            long elapsed = System.nanoTime() - start;
+
+            List<HttpResponse<String>> succeeded = responses.stream()
+                    .filter(response -> response.statusCode() == 200)
+                    .toList();
+            long servedByVirtualThreads = succeeded.stream()
+                    .filter(response -> Boolean.parseBoolean(response.body()))
+                    .count();
+
+            return new LoadResult(succeeded.size(), servedByVirtualThreads, elapsed, threads.getPeakThreadCount());
+        }
+    }
+
+    /**
+     * Envia todas as requisições de uma vez e aguarda as respostas.
+     */
+    List<HttpResponse<String>> burst(HttpClient client, URI uri, int requests) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).build();
+
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+
+        return responses.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    record LoadResult(long succeeded, long servedByVirtualThreads, long elapsedNanos, int peakThreads) {
+
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s em %d ms, pico de %d threads de plataforma",
+                    succeeded * 1_000_000_000.0 / elapsedNanos, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), peakThreads);
+        }
+    }
+
+    /**
+     * Aplicação mínima com um único endpoint bloqueante, sem MongoDB nem segurança, que informa
+     * se a requisição foi atendida em uma virtual thread.
+     */
+    @Configuration
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class
+    })
+    @RestController
+    static class BlockingApplication {
+
+        @GetMapping("/blocking")
+        public String blocking() throws InterruptedException {
+            Thread.sleep(IO_LATENCY);
+            return String.valueOf(Thread.currentThread().isVirtual());
+        }
+    }
+}
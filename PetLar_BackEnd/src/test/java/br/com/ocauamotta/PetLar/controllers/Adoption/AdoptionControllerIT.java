@@ -24,6 +24,7 @@ import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -158,16 +159,16 @@ class AdoptionControllerIT {
                         .animalOwnerId(owner.getId())
                         .status(AdoptionStatus.PENDENTE)
                         .reason("Teste inicial")
-                        .createdAt(ZonedDateTime.now().toString())
-                        .updatedAt(ZonedDateTime.now().toString())
+                        .createdAt(Instant.now())
+                        .updatedAt(Instant.now())
                         .build()
         );
     }
 
     private User createUser(String email) {
-        String time =
+        Instant time =
                 ZonedDateTime.of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                        .toString();
+                        .toInstant();
 
         return User.builder()
                 .email(email)
@@ -179,9 +180,9 @@ class AdoptionControllerIT {
     }
 
     private Animal createAnimal(String authorId) {
-        String time =
+        Instant time =
                 ZonedDateTime.of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                        .toString();
+                        .toInstant();
 
         return Animal.builder()
                 .name("Rex")
@@ -0,0 +1,93 @@
+package br.com.ocauamotta.PetLar.controllers.Adoption;
+
+import br.com.ocauamotta.PetLar.configs.SecurityConfig;
+import br.com.ocauamotta.PetLar.controllers.ReactiveAdoptionController;
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.filters.SecurityFilter;
+import br.com.ocauamotta.PetLar.handlers.CustomAccessDeniedHandler;
+import br.com.ocauamotta.PetLar.handlers.CustomAuthenticationEntryPoint;
+import br.com.ocauamotta.PetLar.models.User;
+import br.com.ocauamotta.PetLar.services.PrincipalCacheService;
+import br.com.ocauamotta.PetLar.services.ReactiveAdoptionService;
+import br.com.ocauamotta.PetLar.services.TokenService;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Executa as listagens reativas pela cadeia de segurança real, incluindo o despacho assíncrono
+ * em que a resposta do {@code Mono} é escrita.
+ */
+@WebMvcTest(ReactiveAdoptionController.class)
+@ActiveProfiles("reactive")
+@Import({SecurityConfig.class, SecurityFilter.class, CustomAccessDeniedHandler.class, CustomAuthenticationEntryPoint.class})
+class ReactiveAdoptionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReactiveAdoptionService service;
+
+    @MockitoBean
+    private TokenService tokenService;
+
+    @MockitoBean
+    private PrincipalCacheService principalCacheService;
+
+    @Test
+    @DisplayName("getAdoptionsRequestedByMe: Deve retornar 200 OK no despacho assíncrono de uma requisição autenticada.")
+    void testGetAdoptionsRequestedByMe_shouldReturnPageOnAsyncDispatch() throws Exception {
+        User user = User.builder().id("1").email("user@teste.com").build();
+        DecodedJWT token = mock(DecodedJWT.class);
+        when(token.getSubject()).thenReturn("user@teste.com");
+        when(token.getExpiresAtAsInstant()).thenReturn(Instant.now().plusSeconds(3600));
+        when(tokenService.verify("token")).thenReturn(token);
+        when(principalCacheService.getOrLoad(eq("user@teste.com"), any())).thenReturn(user);
+        when(service.getAdoptionsRequestedByMe(any(Pageable.class), eq(user)))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(createAdoptionResponseDto()))));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/adoptions/me/requests")
+                        .header("Authorization", "Bearer token"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value("123"));
+    }
+
+    @Test
+    @DisplayName("getRequestsForMyAnimals: Deve retornar 401 Unauthorized quando não houver token.")
+    void testGetRequestsForMyAnimals_shouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/reactive/adoptions/me/animals"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    AdoptionResponseDto createAdoptionResponseDto() {
+        return new AdoptionResponseDto("123", AdoptionStatus.PENDENTE, null, null, null,
+                "Motivo teste", null, null);
+    }
+}
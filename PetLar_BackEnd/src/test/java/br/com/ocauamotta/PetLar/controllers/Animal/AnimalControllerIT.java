@@ -22,6 +22,7 @@ import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -250,14 +251,16 @@ class AnimalControllerIT {
                 type,
                 sex,
                 "pequeno",
-                "Animal docil"
+                "Animal docil",
+                null,
+                null
         );
     }
 
     Animal createAnimal(String name, AnimalType type, AnimalSex sex, AdoptionStatus status) {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return Animal.builder()
                 .name(name)
@@ -2,6 +2,7 @@ package br.com.ocauamotta.PetLar.controllers.Animal;
 
 import br.com.ocauamotta.PetLar.dtos.Animal.AnimalRequestDto;
 import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.dtos.SliceResponseDto;
 import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
 import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
 import br.com.ocauamotta.PetLar.enums.AnimalSex;
@@ -263,6 +264,24 @@ class AnimalControllerTest {
         verify(service).findAll(any(Pageable.class), eq("adotado"), eq("gato"));
     }
 
+    @Test
+    @DisplayName("Deve retornar uma janela de animais paginada por cursor.")
+    void testScroll_ShouldReturnAWindowOfAnimals() throws Exception {
+        when(service.scroll(eq("cursor"), eq(10), eq("disponivel"), eq("gato")))
+                .thenReturn(new SliceResponseDto<>(
+                        List.of(createAnimalResponseDto("123", "Lua", AnimalType.GATO, AnimalSex.FEMEA, AdoptionStatus.DISPONIVEL)),
+                        1, true, "proximo"));
+
+        mvc.perform(get("/api/animals/scroll?type=gato&after=cursor&size=10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id", is("123")))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is("proximo")));
+
+        verify(service).scroll(eq("cursor"), eq(10), eq("disponivel"), eq("gato"));
+    }
+
     AnimalRequestDto createAnimalRequestDto() {
         return new AnimalRequestDto(
                 "Rex",
@@ -271,7 +290,9 @@ class AnimalControllerTest {
                 "Cachorro",
                 "Macho",
                 "pequeno",
-                "Animal docil"
+                "Animal docil",
+                null,
+                null
         );
     }
 
@@ -291,9 +312,12 @@ class AnimalControllerTest {
                 status,
                 new UserSummaryDto("1", "Teste"),
                 null,
+                null,
+                null,
                 "Animal docil",
                 time,
-                time
+                time,
+                null
         );
     }
 }
\ No newline at end of file
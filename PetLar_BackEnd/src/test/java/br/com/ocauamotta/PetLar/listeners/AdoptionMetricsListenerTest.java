@@ -0,0 +1,42 @@
+package br.com.ocauamotta.PetLar.listeners;
+
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.events.AdoptionStatusChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdoptionMetricsListenerTest {
+
+    private MeterRegistry meterRegistry;
+
+    private AdoptionMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new AdoptionMetricsListener();
+        ReflectionTestUtils.setField(listener, "meterRegistry", meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar as transições separadas pelo status de destino.")
+    void testOnAdoptionStatusChanged_ShouldCountTransitionsByStatus() {
+        listener.onAdoptionStatusChanged(new AdoptionStatusChangedEvent("1", AdoptionStatus.PENDENTE));
+        listener.onAdoptionStatusChanged(new AdoptionStatusChangedEvent("2", AdoptionStatus.PENDENTE));
+        listener.onAdoptionStatusChanged(new AdoptionStatusChangedEvent("1", AdoptionStatus.APROVADO));
+
+        assertEquals(2, counter("pendente"));
+        assertEquals(1, counter("aprovado"));
+        assertNull(meterRegistry.find(AdoptionMetricsListener.TRANSITIONS_METRIC).tag("status", "recusado").counter());
+    }
+
+    double counter(String status) {
+        return meterRegistry.get(AdoptionMetricsListener.TRANSITIONS_METRIC).tag("status", status).counter().count();
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.ocauamotta.PetLar.migrations;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@DataMongoTest
+@Import(TimestampMigration.class)
+class TimestampMigrationIT {
+
+    private static final String COLLECTION = "Animals";
+
+    @Autowired
+    private TimestampMigration migration;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.dropCollection(COLLECTION);
+        mongoTemplate.dropCollection(TimestampMigration.MIGRATIONS_COLLECTION);
+    }
+
+    @Test
+    @DisplayName("Deve converter as datas em texto para datas nativas e remover valores inválidos.")
+    void shouldConvertTextDatesToNativeDates() {
+        mongoTemplate.insert(new Document("_id", "1")
+                .append("name", "Rex")
+                .append("createdAt", "2025-10-15T12:05:10-03:00[America/Sao_Paulo]")
+                .append("updatedAt", "invalida"), COLLECTION);
+        mongoTemplate.insert(new Document("_id", "2")
+                .append("createdAt", Date.from(Instant.parse("2025-10-01T15:05:10Z"))), COLLECTION);
+
+        TimestampMigration.Result result = migration.migrate(COLLECTION, List.of("createdAt", "updatedAt"));
+
+        assertEquals(1, result.migrated());
+        assertEquals(1, result.discarded());
+
+        Document migrated = mongoTemplate.findOne(query(where("_id").is("1")), Document.class, COLLECTION);
+        assertEquals(Date.from(Instant.parse("2025-10-15T15:05:10Z")), migrated.get("createdAt"));
+        assertFalse(migrated.containsKey("updatedAt"));
+        assertEquals("Rex", migrated.get("name"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar o documento de controle e não executar a migração novamente.")
+    void shouldRecordMarkerAndRunOnlyOnce() {
+        migration.run(null);
+
+        assertTrue(mongoTemplate.exists(query(where("_id").is(TimestampMigration.MIGRATION_ID)),
+                TimestampMigration.MIGRATIONS_COLLECTION));
+
+        mongoTemplate.insert(new Document("_id", "1")
+                .append("createdAt", "2025-10-15T12:05:10-03:00[America/Sao_Paulo]"), COLLECTION);
+        migration.run(null);
+
+        assertEquals(1, mongoTemplate.count(new Query(), TimestampMigration.MIGRATIONS_COLLECTION));
+        Document document = mongoTemplate.findOne(query(where("_id").is("1")), Document.class, COLLECTION);
+        assertInstanceOf(String.class, document.get("createdAt"));
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.ocauamotta.PetLar.repositories;
+
+import br.com.ocauamotta.PetLar.configs.MongoConfig;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.models.Animal;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.*;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara a latência da paginação por deslocamento ({@code Page}) com a paginação por cursor
+ * ({@code Window}) na primeira página e na página 5000 do catálogo de animais.
+ */
+@DataMongoTest
+@Import(MongoConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnimalPaginationBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(AnimalPaginationBenchmarkIT.class);
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 5000;
+    private static final int ITERATIONS = 20;
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    @Autowired
+    private IAnimalRepository repository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    void setUp() {
+        ZonedDateTime start = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneId.of("America/Sao_Paulo"));
+        List<Animal> batch = new ArrayList<>();
+
+        for (int i = 0; i < (DEEP_PAGE + 1) * PAGE_SIZE; i++) {
+            batch.add(createAnimal("Animal " + i, start.plusSeconds(i).toInstant()));
+            if (batch.size() == 5_000) {
+                mongoTemplate.insertAll(batch);
+                batch.clear();
+            }
+        }
+        mongoTemplate.insertAll(batch);
+    }
+
+    @AfterAll
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("A paginação por cursor deve retornar os mesmos registros da paginação por deslocamento em páginas profundas.")
+    void testOffsetVersusKeyset() {
+        PageRequest firstPage = PageRequest.of(0, PAGE_SIZE, SORT);
+        PageRequest deepPage = PageRequest.of(DEEP_PAGE, PAGE_SIZE, SORT);
+
+        Animal lastBeforeDeepPage = repository
+                .findByStatus(AdoptionStatus.DISPONIVEL, PageRequest.of(DEEP_PAGE * PAGE_SIZE - 1, 1, SORT))
+                .getContent().getFirst();
+        ScrollPosition deepPosition = ScrollPosition.forward(Map.of(
+                "createdAt", lastBeforeDeepPage.getCreatedAt(),
+                "_id", lastBeforeDeepPage.getId()));
+
+        double offsetFirst = measure(() -> repository.findByStatus(AdoptionStatus.DISPONIVEL, firstPage));
+        double offsetDeep = measure(() -> repository.findByStatus(AdoptionStatus.DISPONIVEL, deepPage));
+        double keysetFirst = measure(() -> repository.findByStatus(
+                AdoptionStatus.DISPONIVEL, ScrollPosition.keyset(), Limit.of(PAGE_SIZE), SORT));
+        double keysetDeep = measure(() -> repository.findByStatus(
+                AdoptionStatus.DISPONIVEL, deepPosition, Limit.of(PAGE_SIZE), SORT));
+
+        log.info("Offset  - página 1: {} ms | página {}: {} ms", "%.2f".formatted(offsetFirst), DEEP_PAGE, "%.2f".formatted(offsetDeep));
+        log.info("Keyset  - página 1: {} ms | página {}: {} ms", "%.2f".formatted(keysetFirst), DEEP_PAGE, "%.2f".formatted(keysetDeep));
+
+        List<String> offsetIds = repository.findByStatus(AdoptionStatus.DISPONIVEL, deepPage)
+                .map(Animal::getId).getContent();
+        List<String> keysetIds = repository.findByStatus(AdoptionStatus.DISPONIVEL, deepPosition, Limit.of(PAGE_SIZE), SORT)
+                .map(Animal::getId).getContent();
+
+        assertEquals(offsetIds, keysetIds);
+    }
+
+    double measure(Supplier<?> query) {
+        for (int i = 0; i < 3; i++) query.get();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) query.get();
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    Animal createAnimal(String name, Instant time) {
+        return Animal.builder()
+                .name(name)
+                .birthDate(LocalDate.of(2025, 10, 10))
+                .weight(1200)
+                .type(AnimalType.CACHORRO)
+                .sex(AnimalSex.MACHO)
+                .size(AnimalSize.PEQUENO)
+                .status(AdoptionStatus.DISPONIVEL)
+                .authorId("1")
+                .description("Animal docil")
+                .createdAt(time)
+                .updatedAt(time)
+                .build();
+    }
+}
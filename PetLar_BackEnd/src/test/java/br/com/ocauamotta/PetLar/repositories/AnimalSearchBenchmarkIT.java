@@ -0,0 +1,129 @@
+package br.com.ocauamotta.PetLar.repositories;
+
+import br.com.ocauamotta.PetLar.configs.MongoConfig;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSearchFilterDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepositoryCustom.SearchResult;
+import br.com.ocauamotta.PetLar.services.AnimalIndexService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara a latência da busca com contagem por característica no MongoDB ({@code $facet})
+ * com a mesma busca no índice em memória, para um catálogo de animais disponíveis.
+ * <p>
+ * A busca comparada usa apenas filtros por característica, aplicados da mesma forma pelos dois caminhos.
+ * Com termos de busca os resultados podem divergir: o índice em memória casa palavras inteiras, e o
+ * índice de texto do MongoDB aplica radicais e palavras comuns do português.
+ */
+@DataMongoTest
+@Import({MongoConfig.class, AnimalIndexService.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnimalSearchBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(AnimalSearchBenchmarkIT.class);
+
+    private static final int ANIMALS = 20_000;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private IAnimalRepository repository;
+
+    @Autowired
+    private AnimalIndexService indexService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    void setUp() {
+        Instant start = Instant.parse("2025-01-01T03:00:00Z");
+        List<Animal> batch = new ArrayList<>();
+
+        for (int i = 0; i < ANIMALS; i++) {
+            batch.add(createAnimal(i, start.plusSeconds(i)));
+            if (batch.size() == 5_000) {
+                mongoTemplate.insertAll(batch);
+                batch.clear();
+            }
+        }
+        mongoTemplate.insertAll(batch);
+        indexService.rebuild();
+    }
+
+    @AfterAll
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("O índice em memória deve retornar a mesma página e as mesmas contagens da agregação no banco.")
+    void testMongoVersusIndex() {
+        PageRequest pageable = PageRequest.of(0, 20);
+        AnimalSearchFilterDto filter = new AnimalSearchFilterDto(null, null, "gato", "femea", null, null, null,
+                LocalDate.of(2020, 1, 1), null);
+        Criteria criteria = Criteria.where("status").is(AdoptionStatus.DISPONIVEL)
+                .and("type").is(AnimalType.GATO)
+                .and("sex").is(AnimalSex.FEMEA)
+                .and("birthDate").gte(LocalDate.of(2020, 1, 1));
+
+        double mongo = measure(() -> repository.search(null, criteria, pageable));
+        double index = measure(() -> indexService.search(filter, pageable));
+
+        log.info("Busca com contagens - MongoDB: {} ms | índice em memória: {} ms", "%.3f".formatted(mongo), "%.3f".formatted(index));
+
+        SearchResult expected = repository.search(null, criteria, pageable);
+        SearchResult actual = indexService.search(filter, pageable);
+
+        assertEquals(expected.animals().getTotalElements(), actual.animals().getTotalElements());
+        assertEquals(expected.facets(), actual.facets());
+        assertEquals(expected.animals().map(Animal::getId).getContent(), actual.animals().map(Animal::getId).getContent());
+    }
+
+    double measure(Supplier<?> query) {
+        for (int i = 0; i < 3; i++) query.get();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) query.get();
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    Animal createAnimal(int i, Instant time) {
+        return Animal.builder()
+                .name("Animal " + i)
+                .birthDate(LocalDate.of(2015 + i % 11, 1 + i % 12, 1))
+                .weight(500 + i % 30_000)
+                .type(AnimalType.values()[i % AnimalType.values().length])
+                .sex(AnimalSex.values()[i % AnimalSex.values().length])
+                .size(AnimalSize.values()[i % AnimalSize.values().length])
+                .status(AdoptionStatus.DISPONIVEL)
+                .authorId("1")
+                .description("Animal docil")
+                .createdAt(time)
+                .updatedAt(time)
+                .build();
+    }
+}
@@ -1,7 +1,12 @@
 package br.com.ocauamotta.PetLar.repositories;
 
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
 import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.mappers.DateMapper;
 import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,6 +14,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,9 +27,14 @@ class IAdoptionRepositoryIT {
     @Autowired
     private IAdoptionRepository repository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @AfterEach
     void tearDown() {
         repository.deleteAll();
+        mongoTemplate.dropCollection(Animal.class);
+        mongoTemplate.dropCollection(User.class);
     }
 
     @Test
@@ -43,6 +57,80 @@ class IAdoptionRepositoryIT {
         assertEquals(1, page.getTotalElements());
     }
 
+    @Test
+    @DisplayName("Deve buscar a página de adoções de um adotante já enriquecida com o animal e os usuários.")
+    void testFindResponsesByAdopterId() {
+        User owner = mongoTemplate.insert(User.builder().email("owner@teste.com").name("Dono").password("secret").build());
+        User adopter = mongoTemplate.insert(User.builder().email("adopter@teste.com").name("Adotante").password("secret").build());
+        Animal animal = mongoTemplate.insert(Animal.builder().name("Rex").type(AnimalType.CACHORRO)
+                .authorId(owner.getId()).imagePath("uploads/animals/rex.jpg").build());
+
+        for (int i = 0; i < 3; i++) {
+            repository.insert(Adoption.builder()
+                    .status(AdoptionStatus.PENDENTE)
+                    .animalId(animal.getId())
+                    .animalOwnerId(owner.getId())
+                    .adopterId(adopter.getId())
+                    .createdAt(Instant.parse("2025-10-1" + i + "T12:00:00Z"))
+                    .build());
+        }
+
+        Page<AdoptionResponseDto> page = repository.findResponsesByAdopterId(adopter.getId(),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+
+        AdoptionResponseDto dto = page.getContent().getFirst();
+        assertEquals(DateMapper.toText(Instant.parse("2025-10-12T12:00:00Z")), dto.createdAt());
+        assertEquals(animal.getId(), dto.animal().id());
+        assertEquals("Rex", dto.animal().name());
+        assertEquals("uploads/animals/rex.jpg", dto.animal().imagePath());
+        assertEquals(owner.getId(), dto.animalOwner().id());
+        assertEquals("Dono", dto.animalOwner().name());
+        assertEquals(adopter.getId(), dto.adopter().id());
+    }
+
+    @Test
+    @DisplayName("Deve listar as adoções mais recentes primeiro quando nenhuma ordenação for informada.")
+    void testFindResponsesByAdopterId_DefaultSort() {
+        for (int i = 0; i < 3; i++) {
+            repository.insert(Adoption.builder()
+                    .status(AdoptionStatus.PENDENTE)
+                    .adopterId("3")
+                    .createdAt(Instant.parse("2025-10-1" + i + "T12:00:00Z"))
+                    .build());
+        }
+
+        Page<AdoptionResponseDto> first = repository.findResponsesByAdopterId("3", PageRequest.of(0, 2));
+        Page<AdoptionResponseDto> second = repository.findResponsesByAdopterId("3", PageRequest.of(1, 2));
+
+        assertEquals(DateMapper.toText(Instant.parse("2025-10-12T12:00:00Z")), first.getContent().get(0).createdAt());
+        assertEquals(DateMapper.toText(Instant.parse("2025-10-11T12:00:00Z")), first.getContent().get(1).createdAt());
+        assertEquals(DateMapper.toText(Instant.parse("2025-10-10T12:00:00Z")), second.getContent().getFirst().createdAt());
+    }
+
+    @Test
+    @DisplayName("Deve devolver referências inexistentes como nulas na página enriquecida.")
+    void testFindResponsesByAnimalOwnerId_MissingReferences() {
+        repository.insert(createAdoption());
+
+        Page<AdoptionResponseDto> page = repository.findResponsesByAnimalOwnerId("2", PageRequest.of(0, 10));
+
+        assertEquals(1, page.getTotalElements());
+        assertNull(page.getContent().getFirst().animal());
+        assertNull(page.getContent().getFirst().adopter());
+    }
+
+    @Test
+    @DisplayName("Deve devolver uma página vazia quando não houver adoções.")
+    void testFindResponsesByAdopterId_Empty() {
+        Page<AdoptionResponseDto> page = repository.findResponsesByAdopterId("3", PageRequest.of(0, 10));
+
+        assertEquals(0, page.getTotalElements());
+        assertTrue(page.getContent().isEmpty());
+    }
+
     Adoption createAdoption() {
         return Adoption.builder()
                 .status(AdoptionStatus.PENDENTE)
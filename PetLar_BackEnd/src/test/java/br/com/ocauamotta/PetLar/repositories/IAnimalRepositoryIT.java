@@ -1,21 +1,34 @@
 package br.com.ocauamotta.PetLar.repositories;
 
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSummaryDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
 import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
 import br.com.ocauamotta.PetLar.enums.AnimalSex;
 import br.com.ocauamotta.PetLar.enums.AnimalSize;
 import br.com.ocauamotta.PetLar.enums.AnimalType;
 import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.*;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,9 +38,13 @@ class IAnimalRepositoryIT {
     @Autowired
     private IAnimalRepository repository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @AfterEach
     void tearDown() {
         repository.deleteAll();
+        mongoTemplate.dropCollection(User.class);
     }
 
     @Test
@@ -67,10 +84,123 @@ class IAnimalRepositoryIT {
         assertEquals(2, page.getTotalElements());
     }
 
+    @Test
+    @DisplayName("Deve percorrer os animais por cursor sem repetir nem omitir registros.")
+    void testFindByStatusWithScrollPosition() {
+        for (int i = 0; i < 5; i++) {
+            repository.insert(createAnimal("Rex " + i, AnimalType.CACHORRO, AnimalSex.MACHO, AdoptionStatus.DISPONIVEL));
+        }
+        repository.insert(createAnimal("Lua", AnimalType.GATO, AnimalSex.FEMEA, AdoptionStatus.ADOTADO));
+
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+        List<String> visited = new ArrayList<>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Animal> window;
+
+        do {
+            window = repository.findByStatus(AdoptionStatus.DISPONIVEL, position, Limit.of(2), sort);
+            window.forEach(animal -> visited.add(animal.getId()));
+            if (!window.isEmpty()) position = window.positionAt(window.size() - 1);
+        } while (window.hasNext());
+
+        assertEquals(5, visited.size());
+        assertEquals(5, visited.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("Deve buscar em lote apenas os resumos dos animais informados.")
+    void testFindSummariesByIdIn() {
+        Animal rex = repository.insert(createAnimal("Rex", AnimalType.CACHORRO, AnimalSex.MACHO, AdoptionStatus.DISPONIVEL));
+        Animal lua = repository.insert(createAnimal("Lua", AnimalType.GATO, AnimalSex.FEMEA, AdoptionStatus.ADOTADO));
+        repository.insert(createAnimal("Bob", AnimalType.GATO, AnimalSex.MACHO, AdoptionStatus.DISPONIVEL));
+
+        List<AnimalSummaryDto> summaries = repository.findSummariesByIdIn(Set.of(rex.getId(), lua.getId()));
+
+        assertEquals(Set.of("Rex", "Lua"), summaries.stream().map(AnimalSummaryDto::name).collect(Collectors.toSet()));
+    }
+
+    @Test
+    @DisplayName("Deve buscar animais por texto, ordenados pela relevância, com a contagem por característica.")
+    void testSearch() {
+        Animal rex = createAnimal("Rex", AnimalType.CACHORRO, AnimalSex.MACHO, AdoptionStatus.DISPONIVEL);
+        rex.setDescription("Vacinado e castrado");
+        Animal lua = createAnimal("Lua", AnimalType.GATO, AnimalSex.FEMEA, AdoptionStatus.DISPONIVEL);
+        lua.setDescription("Gata vacinada, companheira de Rex");
+        repository.insert(List.of(rex, lua,
+                createAnimal("Bob", AnimalType.GATO, AnimalSex.MACHO, AdoptionStatus.DISPONIVEL),
+                createAnimal("Rex", AnimalType.CACHORRO, AnimalSex.MACHO, AdoptionStatus.ADOTADO)));
+
+        IAnimalRepositoryCustom.SearchResult result = repository.search(
+                "rex", Criteria.where("status").is(AdoptionStatus.DISPONIVEL), PageRequest.of(0, 10));
+
+        assertEquals(2, result.animals().getTotalElements());
+        assertEquals(List.of("Rex", "Lua"), result.animals().getContent().stream().map(Animal::getName).toList());
+        assertEquals(Map.of(AnimalType.CACHORRO, 1L, AnimalType.GATO, 1L), result.facets().type());
+        assertEquals(Map.of(AnimalSize.PEQUENO, 2L), result.facets().size());
+
+        IAnimalRepositoryCustom.SearchResult filtered = repository.search(null,
+                Criteria.where("status").is(AdoptionStatus.DISPONIVEL).and("type").is(AnimalType.GATO), PageRequest.of(0, 1));
+
+        assertEquals(2, filtered.animals().getTotalElements());
+        assertEquals(1, filtered.animals().getContent().size());
+        assertEquals(Map.of(AnimalSex.FEMEA, 1L, AnimalSex.MACHO, 1L), filtered.facets().sex());
+    }
+
+    @Test
+    @DisplayName("Deve desempatar pelo _id a ordenação informada, sem repetir animais entre as páginas.")
+    void testSearch_ShouldBreakTiesOnId() {
+        repository.insert(List.of(
+                createAnimal("Rex", AnimalType.GATO, AnimalSex.MACHO, AdoptionStatus.DISPONIVEL),
+                createAnimal("Lua", AnimalType.GATO, AnimalSex.FEMEA, AdoptionStatus.DISPONIVEL),
+                createAnimal("Bob", AnimalType.GATO, AnimalSex.MACHO, AdoptionStatus.DISPONIVEL)));
+
+        Set<String> ids = new HashSet<>();
+        for (int page = 0; page < 3; page++) {
+            IAnimalRepositoryCustom.SearchResult result = repository.search(null,
+                    Criteria.where("status").is(AdoptionStatus.DISPONIVEL), PageRequest.of(page, 1, Sort.by("type")));
+            ids.add(result.animals().getContent().getFirst().getId());
+        }
+
+        assertEquals(3, ids.size());
+    }
+
+    @Test
+    @DisplayName("Deve buscar os animais dentro do raio, do mais próximo ao mais distante, com a distância e o autor.")
+    void testFindNearby() {
+        User author = mongoTemplate.insert(User.builder().email("autor@teste.com").name("Autor").password("secret").build());
+        Animal rex = createAnimal("Rex", AnimalType.CACHORRO, AnimalSex.MACHO, AdoptionStatus.DISPONIVEL);
+        rex.setLocation(new GeoJsonPoint(-46.6400, -23.5505));
+        Animal lua = createAnimal("Lua", AnimalType.GATO, AnimalSex.FEMEA, AdoptionStatus.DISPONIVEL);
+        lua.setLocation(new GeoJsonPoint(-46.6334, -23.5505));
+        Animal bob = createAnimal("Bob", AnimalType.GATO, AnimalSex.MACHO, AdoptionStatus.ADOTADO);
+        bob.setLocation(new GeoJsonPoint(-46.6333, -23.5505));
+        Animal far = createAnimal("Tom", AnimalType.GATO, AnimalSex.MACHO, AdoptionStatus.DISPONIVEL);
+        far.setLocation(new GeoJsonPoint(-43.1729, -22.9068));
+        List<Animal> animals = List.of(rex, lua, bob, far,
+                createAnimal("Nina", AnimalType.GATO, AnimalSex.FEMEA, AdoptionStatus.DISPONIVEL));
+        animals.forEach(animal -> animal.setAuthorId(author.getId()));
+        repository.insert(animals);
+
+        GeoJsonPoint point = new GeoJsonPoint(-46.6333, -23.5505);
+        Page<AnimalResponseDto> result = repository.findNearby(
+                point, 10, Criteria.where("status").is(AdoptionStatus.DISPONIVEL), PageRequest.of(0, 10));
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of("Lua", "Rex"), result.getContent().stream().map(AnimalResponseDto::name).toList());
+        assertEquals(0.7, result.getContent().get(1).distance(), 0.05);
+        assertEquals(new UserSummaryDto(author.getId(), "Autor"), result.getContent().getFirst().author());
+
+        Page<AnimalResponseDto> page = repository.findNearby(point, 500,
+                Criteria.where("status").is(AdoptionStatus.DISPONIVEL).and("type").is(AnimalType.GATO), PageRequest.of(1, 1));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals("Tom", page.getContent().getFirst().name());
+    }
+
     Animal createAnimal(String name, AnimalType type, AnimalSex sex, AdoptionStatus status) {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return Animal.builder()
                 .name(name)
@@ -1,5 +1,6 @@
 package br.com.ocauamotta.PetLar.repositories;
 
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
 import br.com.ocauamotta.PetLar.models.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,9 +9,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -92,11 +97,27 @@ class IUserRepositoryIT {
         assertFalse(exists);
     }
 
+    @Test
+    @DisplayName("Deve buscar apenas o resumo dos usuários pelos IDs")
+    void shouldFindUserSummariesByIds() {
+        User first = repository.save(createActiveUser("first@teste.com"));
+        User second = repository.save(createActiveUser("second@teste.com"));
+        repository.save(createActiveUser("other@teste.com"));
+
+        List<UserSummaryDto> summaries = repository.findSummariesByIdIn(Set.of(first.getId(), second.getId()));
+        Optional<UserSummaryDto> summary = repository.findSummaryById(first.getId());
+
+        assertEquals(Set.of(first.getId(), second.getId()),
+                summaries.stream().map(UserSummaryDto::id).collect(Collectors.toSet()));
+        assertTrue(summary.isPresent());
+        assertEquals(first.getName(), summary.get().name());
+    }
+
     User createActiveUser(String email) {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15,
                         ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return User.builder()
                 .email(email)
@@ -109,10 +130,10 @@ class IUserRepositoryIT {
     }
 
     User createDeletedUser(String email) {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15,
                         ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return User.builder()
                 .email(email)
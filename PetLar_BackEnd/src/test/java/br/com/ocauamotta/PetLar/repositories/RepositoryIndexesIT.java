@@ -0,0 +1,95 @@
+package br.com.ocauamotta.PetLar.repositories;
+
+import br.com.ocauamotta.PetLar.configs.MongoConfig;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@Import(MongoConfig.class)
+class RepositoryIndexesIT {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    @DisplayName("findByStatus deve utilizar índice ao ordenar por data de cadastro.")
+    void testFindByStatus_ShouldUseIndex() {
+        assertNoCollectionScan("Animals",
+                new Document("status", AdoptionStatus.DISPONIVEL.name()),
+                new Document("createdAt", -1));
+    }
+
+    @Test
+    @DisplayName("findByStatusAndType deve utilizar índice ao ordenar por data de cadastro.")
+    void testFindByStatusAndType_ShouldUseIndex() {
+        assertNoCollectionScan("Animals",
+                new Document("status", AdoptionStatus.DISPONIVEL.name()).append("type", AnimalType.GATO.name()),
+                new Document("createdAt", -1));
+    }
+
+    @Test
+    @DisplayName("A paginação por cursor deve utilizar índice sem ordenação em memória.")
+    void testFindByStatusAndTypeWithScroll_ShouldUseIndex() {
+        assertNoCollectionScan("Animals",
+                new Document("status", AdoptionStatus.DISPONIVEL.name()).append("type", AnimalType.GATO.name()),
+                new Document("createdAt", -1).append("_id", -1));
+    }
+
+    @Test
+    @DisplayName("findByAuthorId deve utilizar índice ao ordenar por data de cadastro.")
+    void testFindByAuthorId_ShouldUseIndex() {
+        assertNoCollectionScan("Animals",
+                new Document("authorId", "1"),
+                new Document("createdAt", -1));
+    }
+
+    @Test
+    @DisplayName("findByAdopterId deve utilizar índice ao ordenar por data de criação.")
+    void testFindByAdopterId_ShouldUseIndex() {
+        assertNoCollectionScan("Adoptions",
+                new Document("adopterId", "1"),
+                new Document("createdAt", -1));
+    }
+
+    @Test
+    @DisplayName("findByAnimalOwnerId deve utilizar índice ao ordenar por data de criação.")
+    void testFindByAnimalOwnerId_ShouldUseIndex() {
+        assertNoCollectionScan("Adoptions",
+                new Document("animalOwnerId", "1"),
+                new Document("createdAt", -1));
+    }
+
+    @Test
+    @DisplayName("A listagem de adoções deve ordenar pelo índice, com desempate pelo _id.")
+    void testFindResponses_ShouldSortByIndex() {
+        assertNoCollectionScan("Adoptions",
+                new Document("adopterId", "1"),
+                new Document("createdAt", -1).append("_id", -1));
+        assertNoCollectionScan("Adoptions",
+                new Document("animalOwnerId", "1"),
+                new Document("createdAt", -1).append("_id", -1));
+    }
+
+    void assertNoCollectionScan(String collection, Document filter, Document sort) {
+        Document plan = mongoTemplate.getCollection(collection)
+                .find(filter)
+                .sort(sort)
+                .explain();
+
+        Document winningPlan = plan.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        String json = winningPlan.toJson();
+
+        assertFalse(json.contains("COLLSCAN"), "Consulta em " + collection + " realizou COLLSCAN: " + json);
+        assertTrue(json.contains("IXSCAN"), "Consulta em " + collection + " não utilizou índice: " + json);
+        assertFalse(json.contains("\"SORT\""), "Ordenação em " + collection + " realizada em memória: " + json);
+    }
+}
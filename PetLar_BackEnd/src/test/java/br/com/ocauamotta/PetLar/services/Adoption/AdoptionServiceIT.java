@@ -7,6 +7,8 @@ import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
 import br.com.ocauamotta.PetLar.enums.AnimalSex;
 import br.com.ocauamotta.PetLar.enums.AnimalSize;
 import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.exceptions.Adoption.AdoptionAlreadyProcessedException;
+import br.com.ocauamotta.PetLar.exceptions.Adoption.AnimalNotAvailableException;
 import br.com.ocauamotta.PetLar.models.Adoption;
 import br.com.ocauamotta.PetLar.models.Animal;
 import br.com.ocauamotta.PetLar.models.User;
@@ -23,9 +25,18 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -174,7 +185,103 @@ class AdoptionServiceIT {
         assertEquals(1, page.getTotalElements());
     }
 
+    @Test
+    @DisplayName("Entre solicitações concorrentes para o mesmo animal, apenas uma deve ser criada.")
+    void testInitAdoption_concurrentRequestsShouldHaveExactlyOneWinner() throws Exception {
+        int threads = 16;
+        List<User> adopters = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            adopters.add(userRepository.save(createUser("adopter" + i + "@teste.com")));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (User candidate : adopters) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        service.initAdoption(new AdoptionRequestDto(animal.getId(), "Quero adotar."), candidate);
+                        winners.incrementAndGet();
+                    } catch (AnimalNotAvailableException ex) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, winners.get());
+        assertEquals(threads - 1, rejected.get());
+        assertEquals(1, adoptionRepository.count());
+
+        Animal updatedAnimal = animalRepository.findById(animal.getId()).orElseThrow();
+        assertEquals(AdoptionStatus.PENDENTE, updatedAnimal.getStatus());
+    }
+
+    @Test
+    @DisplayName("Entre aprovação e cancelamento concorrentes, apenas uma transição deve ocorrer.")
+    void testAcceptAndCancel_concurrentTransitionsShouldHaveExactlyOneWinner() throws Exception {
+        Adoption adoption = createAdoption();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+
+        try {
+            Future<?> accept = executor.submit(() -> {
+                start.await();
+                try {
+                    service.acceptAdoption(adoption.getId(), owner);
+                } catch (AdoptionAlreadyProcessedException ex) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+            Future<?> cancel = executor.submit(() -> {
+                start.await();
+                try {
+                    service.cancelAdoption(adoption.getId(), adopter);
+                } catch (AdoptionAlreadyProcessedException ex) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+
+            start.countDown();
+            accept.get(30, TimeUnit.SECONDS);
+            cancel.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, rejected.get());
+
+        Adoption updatedAdoption = adoptionRepository.findById(adoption.getId()).orElseThrow();
+        Animal updatedAnimal = animalRepository.findById(animal.getId()).orElseThrow();
+        if (updatedAdoption.getStatus() == AdoptionStatus.APROVADO) {
+            assertEquals(AdoptionStatus.ADOTADO, updatedAnimal.getStatus());
+        } else {
+            assertEquals(AdoptionStatus.CANCELADO, updatedAdoption.getStatus());
+            assertEquals(AdoptionStatus.DISPONIVEL, updatedAnimal.getStatus());
+        }
+    }
+
     Adoption createAdoption() {
+        animal.setStatus(AdoptionStatus.PENDENTE);
+        animal = animalRepository.save(animal);
+
         return adoptionRepository.insert(
                 Adoption.builder()
                         .animalId(animal.getId())
@@ -187,9 +294,9 @@ class AdoptionServiceIT {
     }
 
     User createUser(String email) {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return User.builder()
                 .email(email)
@@ -201,9 +308,9 @@ class AdoptionServiceIT {
     }
 
     Animal createAnimal(String authorId) {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return Animal.builder()
                 .name("Rex")
@@ -3,15 +3,21 @@ package br.com.ocauamotta.PetLar.services.Adoption;
 import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionRequestDto;
 import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
 import br.com.ocauamotta.PetLar.dtos.Adoption.EditReasonDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSummaryDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
 import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
 import br.com.ocauamotta.PetLar.enums.AnimalSex;
 import br.com.ocauamotta.PetLar.enums.AnimalSize;
 import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.events.AdoptionStatusChangedEvent;
+import br.com.ocauamotta.PetLar.events.AdoptionUpdatedEvent;
+import br.com.ocauamotta.PetLar.events.AnimalChangedEvent;
 import br.com.ocauamotta.PetLar.exceptions.Adoption.AdoptionAlreadyProcessedException;
 import br.com.ocauamotta.PetLar.exceptions.Adoption.AnimalNotAvailableException;
 import br.com.ocauamotta.PetLar.exceptions.Adoption.UserNotOwnershipException;
 import br.com.ocauamotta.PetLar.exceptions.EntityNotFoundException;
 import br.com.ocauamotta.PetLar.exceptions.User.UserInactiveException;
+import br.com.ocauamotta.PetLar.mappers.DateMapper;
 import br.com.ocauamotta.PetLar.models.Adoption;
 import br.com.ocauamotta.PetLar.models.Animal;
 import br.com.ocauamotta.PetLar.models.User;
@@ -29,20 +35,20 @@ import br.com.ocauamotta.PetLar.exceptions.Adoption.TryAdoptionYourOwnPetExcepti
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -79,6 +85,9 @@ class AdoptionServiceTest {
     @Mock
     private AnimalOwnershipValidation animalOwnershipValidation;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdoptionService service;
 
@@ -91,8 +100,9 @@ class AdoptionServiceTest {
         Animal animal = createAnimal();
 
         when(animalRepository.findById("3")).thenReturn(Optional.of(animal));
+        when(animalRepository.transitionStatus("3", AdoptionStatus.DISPONIVEL, AdoptionStatus.PENDENTE))
+                .thenReturn(Optional.of(createAnimal(AdoptionStatus.PENDENTE)));
         when(adoptionRepository.insert(any(Adoption.class))).thenAnswer(returnsFirstArg());
-        when(animalRepository.save(any(Animal.class))).thenAnswer(returnsFirstArg());
         when(userRepository.findById("2")).thenReturn(Optional.of(donor));
 
         AdoptionResponseDto response = service.initAdoption(dto, adopter);
@@ -106,11 +116,38 @@ class AdoptionServiceTest {
         assertNotNull(response.createdAt());
         assertNotNull(response.updatedAt());
 
-        ArgumentCaptor<Animal> animalCaptor = ArgumentCaptor.forClass(Animal.class);
-        verify(animalRepository).save(animalCaptor.capture());
-        Animal savedEntity = animalCaptor.getValue();
+        verify(animalRepository).transitionStatus("3", AdoptionStatus.DISPONIVEL, AdoptionStatus.PENDENTE);
+        verify(eventPublisher).publishEvent(new AnimalChangedEvent("3"));
+        verify(eventPublisher).publishEvent(any(AdoptionStatusChangedEvent.class));
+        verify(eventPublisher).publishEvent(new AdoptionUpdatedEvent(response));
+        verify(animalRepository, never()).save(any(Animal.class));
+    }
+
+    @Test
+    @DisplayName("initAdoption: deve lançar exceção quando o animal for reservado por outra solicitação concorrente.")
+    void testInitAdoption_AnimalReservedConcurrently() {
+        when(animalRepository.findById("3")).thenReturn(Optional.of(createAnimal()));
+        when(animalRepository.transitionStatus("3", AdoptionStatus.DISPONIVEL, AdoptionStatus.PENDENTE))
+                .thenReturn(Optional.empty());
+
+        assertThrows(AnimalNotAvailableException.class,
+                () -> service.initAdoption(createAdoptionRequestDto(), createUser("2")));
+        verifyNoInteractions(adoptionRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("initAdoption: deve liberar o animal quando a criação da adoção falhar.")
+    void testInitAdoption_ShouldReleaseAnimalWhenInsertFails() {
+        when(animalRepository.findById("3")).thenReturn(Optional.of(createAnimal()));
+        when(animalRepository.transitionStatus("3", AdoptionStatus.DISPONIVEL, AdoptionStatus.PENDENTE))
+                .thenReturn(Optional.of(createAnimal(AdoptionStatus.PENDENTE)));
+        when(adoptionRepository.insert(any(Adoption.class))).thenThrow(new RuntimeException("falha"));
 
-        assertEquals(AdoptionStatus.PENDENTE, savedEntity.getStatus());
+        assertThrows(RuntimeException.class,
+                () -> service.initAdoption(createAdoptionRequestDto(), createUser("2")));
+        verify(animalRepository).transitionStatus("3", AdoptionStatus.PENDENTE, AdoptionStatus.DISPONIVEL);
+        verify(eventPublisher).publishEvent(new AnimalChangedEvent("3"));
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -170,7 +207,7 @@ class AdoptionServiceTest {
         User donor = createUser("1");
         donor.setDeletedAt(ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString());
+                .toInstant());
         User adopter = createUser("2");
         AdoptionRequestDto dto = createAdoptionRequestDto();
         Animal animal = createAnimal();
@@ -191,18 +228,11 @@ class AdoptionServiceTest {
     @DisplayName("getAdoptionsRequestedByMe: deve retornar as solicitações de adoção feitas pelo usuário autenticado.")
     void testGetAdoptionsRequestedByMe_HappyPath() {
         User authenticatedUser = createUser("1");
-        User animalOwner = createUser("2");
-        Animal animal = createAnimal();
-        Adoption adoption = createAdoption();
         PageRequest pageable = PageRequest.of(0, 10);
-        Page<Adoption> adoptionPage = new PageImpl<>(List.of(adoption), pageable, 1);
+        Page<AdoptionResponseDto> adoptionPage = new PageImpl<>(List.of(createProjectedResponse()), pageable, 1);
 
-        when(adoptionRepository.findByAdopterId("1", pageable))
+        when(adoptionRepository.findResponsesByAdopterId("1", pageable))
                 .thenReturn(adoptionPage);
-        when(userRepository.findAllById(Set.of("1", "2")))
-                .thenReturn(List.of(authenticatedUser, animalOwner));
-        when(animalRepository.findAllById(Set.of("3")))
-                .thenReturn(List.of(animal));
 
         Page<AdoptionResponseDto> response = service.getAdoptionsRequestedByMe(pageable, authenticatedUser);
 
@@ -214,10 +244,26 @@ class AdoptionServiceTest {
         assertEquals("3", dto.animal().id());
         assertEquals("2", dto.animalOwner().id());
         assertEquals("1", dto.adopter().id());
+        assertEquals("/public/animals/rex.jpg", dto.animal().imagePath());
+        assertEquals("/public/animals/rex.jpg", dto.animal().thumbnailPath());
+
+        verify(adoptionRepository).findResponsesByAdopterId("1", pageable);
+        verifyNoInteractions(userRepository, animalRepository);
+    }
+
+    @Test
+    @DisplayName("getAdoptionsRequestedByMe: deve lançar EntityNotFoundException quando um usuário relacionado não existir.")
+    void testGetAdoptionsRequestedByMe_UserNotFound() {
+        User authenticatedUser = createUser("1");
+        PageRequest pageable = PageRequest.of(0, 10);
+        AdoptionResponseDto projected = createProjectedResponse();
+        AdoptionResponseDto withoutOwner = new AdoptionResponseDto(projected.id(), projected.status(), projected.animal(),
+                null, projected.adopter(), projected.reason(), projected.createdAt(), projected.updatedAt());
+
+        when(adoptionRepository.findResponsesByAdopterId("1", pageable))
+                .thenReturn(new PageImpl<>(List.of(withoutOwner), pageable, 1));
 
-        verify(adoptionRepository).findByAdopterId("1", pageable);
-        verify(userRepository).findAllById(Set.of("1", "2"));
-        verify(animalRepository).findAllById(Set.of("3"));
+        assertThrows(EntityNotFoundException.class, () -> service.getAdoptionsRequestedByMe(pageable, authenticatedUser));
     }
 
     @Test
@@ -227,9 +273,10 @@ class AdoptionServiceTest {
         Adoption adoption = createAdoption();
 
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(createAdoption()));
-        when(animalRepository.findById("3")).thenReturn(Optional.of(createAnimal()));
-        when(adoptionRepository.save(any(Adoption.class))).thenAnswer(returnsFirstArg());
-        when(animalRepository.save(any(Animal.class))).thenAnswer(returnsFirstArg());
+        when(adoptionRepository.transitionStatus(eq("1"), eq(AdoptionStatus.PENDENTE), eq(AdoptionStatus.CANCELADO), any(Instant.class)))
+                .thenAnswer(invocation -> Optional.of(transitionedAdoption(invocation.getArgument(2), invocation.getArgument(3))));
+        when(animalRepository.transitionStatus("3", AdoptionStatus.PENDENTE, AdoptionStatus.DISPONIVEL))
+                .thenReturn(Optional.of(createAnimal(AdoptionStatus.DISPONIVEL)));
         when(userRepository.findById("2")).thenReturn(Optional.of(authenticatedUser));
 
         AdoptionResponseDto response = service.cancelAdoption("1", authenticatedUser);
@@ -239,11 +286,10 @@ class AdoptionServiceTest {
         assertEquals(AdoptionStatus.CANCELADO, response.status());
         assertNotEquals(adoption.getUpdatedAt(), response.updatedAt());
 
-        ArgumentCaptor<Animal> animalCaptor = ArgumentCaptor.forClass(Animal.class);
-        verify(animalRepository).save(animalCaptor.capture());
-        Animal savedEntity = animalCaptor.getValue();
-
-        assertEquals(AdoptionStatus.DISPONIVEL, savedEntity.getStatus());
+        verify(animalRepository).transitionStatus("3", AdoptionStatus.PENDENTE, AdoptionStatus.DISPONIVEL);
+        verify(eventPublisher).publishEvent(new AnimalChangedEvent("3"));
+        verify(adoptionRepository, never()).save(any(Adoption.class));
+        verify(animalRepository, never()).save(any(Animal.class));
     }
 
     @Test
@@ -262,14 +308,30 @@ class AdoptionServiceTest {
     @DisplayName("cancelAdoption: deve lançar exceção quando o animal da adoção não for encontrado.")
     void testCancelAdoption_AnimalNotFound() {
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(createAdoption()));
+        when(adoptionRepository.transitionStatus(eq("1"), eq(AdoptionStatus.PENDENTE), eq(AdoptionStatus.CANCELADO), any(Instant.class)))
+                .thenAnswer(invocation -> Optional.of(transitionedAdoption(invocation.getArgument(2), invocation.getArgument(3))));
+        when(animalRepository.transitionStatus("3", AdoptionStatus.PENDENTE, AdoptionStatus.DISPONIVEL))
+                .thenReturn(Optional.empty());
         when(animalRepository.findById("3")).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class,
                 () -> service.cancelAdoption("1", createUser("1")));
-        verify(adoptionRepository).findById("1");
         verify(animalRepository).findById("3");
-        verifyNoMoreInteractions(adoptionRepository, animalRepository);
-        verifyNoInteractions(adopterOwnershipValidation, pendingAdoptionValidation, userRepository);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("cancelAdoption: deve lançar exceção quando a adoção for processada por outra requisição concorrente.")
+    void testCancelAdoption_AdoptionProcessedConcurrently() {
+        when(adoptionRepository.findById("1")).thenReturn(Optional.of(createAdoption()));
+        when(adoptionRepository.transitionStatus(eq("1"), eq(AdoptionStatus.PENDENTE), eq(AdoptionStatus.CANCELADO), any(Instant.class)))
+                .thenReturn(Optional.empty());
+
+        assertThrows(AdoptionAlreadyProcessedException.class,
+                () -> service.cancelAdoption("1", createUser("1")));
+        verify(adopterOwnershipValidation).validate(any(), any());
+        verify(pendingAdoptionValidation).validate(any(Adoption.class), isNull());
+        verifyNoInteractions(animalRepository, userRepository);
     }
 
     @Test
@@ -279,17 +341,15 @@ class AdoptionServiceTest {
         Adoption adoption = createAdoption();
 
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(adoption));
-        when(animalRepository.findById("3")).thenReturn(Optional.of(createAnimal()));
         doThrow(UserNotOwnershipException.class)
                 .when(adopterOwnershipValidation).validate(adoption, authenticatedUser);
 
         assertThrows(UserNotOwnershipException.class,
                 () -> service.cancelAdoption("1", authenticatedUser));
         verify(adoptionRepository).findById("1");
-        verify(animalRepository).findById("3");
         verify(adopterOwnershipValidation).validate(adoption, authenticatedUser);
-        verifyNoMoreInteractions(adoptionRepository, animalRepository);
-        verifyNoInteractions(pendingAdoptionValidation, userRepository);
+        verifyNoMoreInteractions(adoptionRepository);
+        verifyNoInteractions(pendingAdoptionValidation, animalRepository, userRepository);
     }
 
     @Test
@@ -299,18 +359,16 @@ class AdoptionServiceTest {
         adoption.setStatus(AdoptionStatus.APROVADO);
 
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(adoption));
-        when(animalRepository.findById("3")).thenReturn(Optional.of(createAnimal()));
         doThrow(AdoptionAlreadyProcessedException.class)
                 .when(pendingAdoptionValidation).validate(eq(adoption), isNull());
 
         assertThrows(AdoptionAlreadyProcessedException.class,
                 () -> service.cancelAdoption("1", createUser("1")));
         verify(adoptionRepository).findById("1");
-        verify(animalRepository).findById("3");
         verify(adopterOwnershipValidation).validate(any(), any());
         verify(pendingAdoptionValidation).validate(eq(adoption), isNull());
-        verifyNoMoreInteractions(adoptionRepository, animalRepository);
-        verifyNoInteractions(userRepository);
+        verifyNoMoreInteractions(adoptionRepository);
+        verifyNoInteractions(animalRepository, userRepository);
     }
 
     @Test
@@ -320,9 +378,10 @@ class AdoptionServiceTest {
         Adoption adoption = createAdoption();
 
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(createAdoption()));
-        when(animalRepository.findById("3")).thenReturn(Optional.of(createAnimal()));
-        when(adoptionRepository.save(any(Adoption.class))).thenAnswer(returnsFirstArg());
-        when(animalRepository.save(any(Animal.class))).thenAnswer(returnsFirstArg());
+        when(adoptionRepository.transitionStatus(eq("1"), eq(AdoptionStatus.PENDENTE), eq(AdoptionStatus.APROVADO), any(Instant.class)))
+                .thenAnswer(invocation -> Optional.of(transitionedAdoption(invocation.getArgument(2), invocation.getArgument(3))));
+        when(animalRepository.transitionStatus("3", AdoptionStatus.PENDENTE, AdoptionStatus.ADOTADO))
+                .thenReturn(Optional.of(createAnimal(AdoptionStatus.ADOTADO)));
         when(userRepository.findById("1")).thenReturn(Optional.of(authenticatedUser));
 
         AdoptionResponseDto response = service.acceptAdoption("1", authenticatedUser);
@@ -332,11 +391,11 @@ class AdoptionServiceTest {
         assertEquals(AdoptionStatus.APROVADO, response.status());
         assertNotEquals(adoption.getUpdatedAt(), response.updatedAt());
 
-        ArgumentCaptor<Animal> animalCaptor = ArgumentCaptor.forClass(Animal.class);
-        verify(animalRepository).save(animalCaptor.capture());
-        Animal savedEntity = animalCaptor.getValue();
-
-        assertEquals(AdoptionStatus.ADOTADO, savedEntity.getStatus());
+        verify(animalRepository).transitionStatus("3", AdoptionStatus.PENDENTE, AdoptionStatus.ADOTADO);
+        verify(eventPublisher).publishEvent(new AnimalChangedEvent("3"));
+        verify(eventPublisher).publishEvent(new AdoptionStatusChangedEvent("1", AdoptionStatus.APROVADO));
+        verify(adoptionRepository, never()).save(any(Adoption.class));
+        verify(animalRepository, never()).save(any(Animal.class));
     }
 
     @Test
@@ -355,14 +414,30 @@ class AdoptionServiceTest {
     @DisplayName("acceptAdoption: deve lançar exceção quando o animal da adoção não for encontrado.")
     void testAcceptAdoption_AnimalNotFound() {
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(createAdoption()));
+        when(adoptionRepository.transitionStatus(eq("1"), eq(AdoptionStatus.PENDENTE), eq(AdoptionStatus.APROVADO), any(Instant.class)))
+                .thenAnswer(invocation -> Optional.of(transitionedAdoption(invocation.getArgument(2), invocation.getArgument(3))));
+        when(animalRepository.transitionStatus("3", AdoptionStatus.PENDENTE, AdoptionStatus.ADOTADO))
+                .thenReturn(Optional.empty());
         when(animalRepository.findById("3")).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class,
                 () -> service.acceptAdoption("1", createUser("2")));
-        verify(adoptionRepository).findById("1");
         verify(animalRepository).findById("3");
-        verifyNoMoreInteractions(adoptionRepository, animalRepository);
-        verifyNoInteractions(animalOwnershipValidation, pendingAdoptionValidation, userRepository);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("acceptAdoption: deve lançar exceção quando a adoção for processada por outra requisição concorrente.")
+    void testAcceptAdoption_AdoptionProcessedConcurrently() {
+        when(adoptionRepository.findById("1")).thenReturn(Optional.of(createAdoption()));
+        when(adoptionRepository.transitionStatus(eq("1"), eq(AdoptionStatus.PENDENTE), eq(AdoptionStatus.APROVADO), any(Instant.class)))
+                .thenReturn(Optional.empty());
+
+        assertThrows(AdoptionAlreadyProcessedException.class,
+                () -> service.acceptAdoption("1", createUser("2")));
+        verify(animalOwnershipValidation).validate(any(), any());
+        verify(pendingAdoptionValidation).validate(any(Adoption.class), isNull());
+        verifyNoInteractions(animalRepository, userRepository);
     }
 
     @Test
@@ -372,17 +447,15 @@ class AdoptionServiceTest {
         Adoption adoption = createAdoption();
 
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(adoption));
-        when(animalRepository.findById("3")).thenReturn(Optional.of(createAnimal()));
         doThrow(UserNotOwnershipException.class)
                 .when(animalOwnershipValidation).validate(adoption, authenticatedUser);
 
         assertThrows(UserNotOwnershipException.class,
                 () -> service.acceptAdoption("1", authenticatedUser));
         verify(adoptionRepository).findById("1");
-        verify(animalRepository).findById("3");
         verify(animalOwnershipValidation).validate(adoption, authenticatedUser);
-        verifyNoMoreInteractions(adoptionRepository, animalRepository);
-        verifyNoInteractions(pendingAdoptionValidation, userRepository);
+        verifyNoMoreInteractions(adoptionRepository);
+        verifyNoInteractions(pendingAdoptionValidation, animalRepository, userRepository);
     }
 
     @Test
@@ -392,18 +465,16 @@ class AdoptionServiceTest {
         adoption.setStatus(AdoptionStatus.RECUSADO);
 
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(adoption));
-        when(animalRepository.findById("3")).thenReturn(Optional.of(createAnimal()));
         doThrow(AdoptionAlreadyProcessedException.class)
                 .when(pendingAdoptionValidation).validate(eq(adoption), isNull());
 
         assertThrows(AdoptionAlreadyProcessedException.class,
                 () -> service.acceptAdoption("1", createUser("2")));
         verify(adoptionRepository).findById("1");
-        verify(animalRepository).findById("3");
         verify(animalOwnershipValidation).validate(any(), any());
         verify(pendingAdoptionValidation).validate(eq(adoption), isNull());
-        verifyNoMoreInteractions(adoptionRepository, animalRepository);
-        verifyNoInteractions(userRepository);
+        verifyNoMoreInteractions(adoptionRepository);
+        verifyNoInteractions(animalRepository, userRepository);
     }
 
     @Test
@@ -413,9 +484,10 @@ class AdoptionServiceTest {
         Adoption adoption = createAdoption();
 
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(createAdoption()));
-        when(animalRepository.findById("3")).thenReturn(Optional.of(createAnimal()));
-        when(adoptionRepository.save(any(Adoption.class))).thenAnswer(returnsFirstArg());
-        when(animalRepository.save(any(Animal.class))).thenAnswer(returnsFirstArg());
+        when(adoptionRepository.transitionStatus(eq("1"), eq(AdoptionStatus.PENDENTE), eq(AdoptionStatus.RECUSADO), any(Instant.class)))
+                .thenAnswer(invocation -> Optional.of(transitionedAdoption(invocation.getArgument(2), invocation.getArgument(3))));
+        when(animalRepository.transitionStatus("3", AdoptionStatus.PENDENTE, AdoptionStatus.DISPONIVEL))
+                .thenReturn(Optional.of(createAnimal(AdoptionStatus.DISPONIVEL)));
         when(userRepository.findById("1")).thenReturn(Optional.of(authenticatedUser));
 
         AdoptionResponseDto response = service.denyAdoption("1", authenticatedUser);
@@ -425,11 +497,10 @@ class AdoptionServiceTest {
         assertEquals(AdoptionStatus.RECUSADO, response.status());
         assertNotEquals(adoption.getUpdatedAt(), response.updatedAt());
 
-        ArgumentCaptor<Animal> animalCaptor = ArgumentCaptor.forClass(Animal.class);
-        verify(animalRepository).save(animalCaptor.capture());
-        Animal savedEntity = animalCaptor.getValue();
-
-        assertEquals(AdoptionStatus.DISPONIVEL, savedEntity.getStatus());
+        verify(animalRepository).transitionStatus("3", AdoptionStatus.PENDENTE, AdoptionStatus.DISPONIVEL);
+        verify(eventPublisher).publishEvent(new AnimalChangedEvent("3"));
+        verify(adoptionRepository, never()).save(any(Adoption.class));
+        verify(animalRepository, never()).save(any(Animal.class));
     }
 
     @Test
@@ -448,14 +519,30 @@ class AdoptionServiceTest {
     @DisplayName("denyAdoption: deve lançar exceção quando o animal da adoção não for encontrado.")
     void testDenyAdoption_AnimalNotFound() {
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(createAdoption()));
+        when(adoptionRepository.transitionStatus(eq("1"), eq(AdoptionStatus.PENDENTE), eq(AdoptionStatus.RECUSADO), any(Instant.class)))
+                .thenAnswer(invocation -> Optional.of(transitionedAdoption(invocation.getArgument(2), invocation.getArgument(3))));
+        when(animalRepository.transitionStatus("3", AdoptionStatus.PENDENTE, AdoptionStatus.DISPONIVEL))
+                .thenReturn(Optional.empty());
         when(animalRepository.findById("3")).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class,
                 () -> service.denyAdoption("1", createUser("2")));
-        verify(adoptionRepository).findById("1");
         verify(animalRepository).findById("3");
-        verifyNoMoreInteractions(adoptionRepository, animalRepository);
-        verifyNoInteractions(animalOwnershipValidation, pendingAdoptionValidation, userRepository);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("denyAdoption: deve lançar exceção quando a adoção for processada por outra requisição concorrente.")
+    void testDenyAdoption_AdoptionProcessedConcurrently() {
+        when(adoptionRepository.findById("1")).thenReturn(Optional.of(createAdoption()));
+        when(adoptionRepository.transitionStatus(eq("1"), eq(AdoptionStatus.PENDENTE), eq(AdoptionStatus.RECUSADO), any(Instant.class)))
+                .thenReturn(Optional.empty());
+
+        assertThrows(AdoptionAlreadyProcessedException.class,
+                () -> service.denyAdoption("1", createUser("2")));
+        verify(animalOwnershipValidation).validate(any(), any());
+        verify(pendingAdoptionValidation).validate(any(Adoption.class), isNull());
+        verifyNoInteractions(animalRepository, userRepository);
     }
 
     @Test
@@ -465,17 +552,15 @@ class AdoptionServiceTest {
         Adoption adoption = createAdoption();
 
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(adoption));
-        when(animalRepository.findById("3")).thenReturn(Optional.of(createAnimal()));
         doThrow(UserNotOwnershipException.class)
                 .when(animalOwnershipValidation).validate(adoption, authenticatedUser);
 
         assertThrows(UserNotOwnershipException.class,
                 () -> service.denyAdoption("1", authenticatedUser));
         verify(adoptionRepository).findById("1");
-        verify(animalRepository).findById("3");
         verify(animalOwnershipValidation).validate(adoption, authenticatedUser);
-        verifyNoMoreInteractions(adoptionRepository, animalRepository);
-        verifyNoInteractions(pendingAdoptionValidation, userRepository);
+        verifyNoMoreInteractions(adoptionRepository);
+        verifyNoInteractions(pendingAdoptionValidation, animalRepository, userRepository);
     }
 
     @Test
@@ -485,18 +570,16 @@ class AdoptionServiceTest {
         adoption.setStatus(AdoptionStatus.APROVADO);
 
         when(adoptionRepository.findById("1")).thenReturn(Optional.of(adoption));
-        when(animalRepository.findById("3")).thenReturn(Optional.of(createAnimal()));
         doThrow(AdoptionAlreadyProcessedException.class)
                 .when(pendingAdoptionValidation).validate(eq(adoption), isNull());
 
         assertThrows(AdoptionAlreadyProcessedException.class,
                 () -> service.denyAdoption("1", createUser("2")));
         verify(adoptionRepository).findById("1");
-        verify(animalRepository).findById("3");
         verify(animalOwnershipValidation).validate(any(), any());
         verify(pendingAdoptionValidation).validate(eq(adoption), isNull());
-        verifyNoMoreInteractions(adoptionRepository, animalRepository);
-        verifyNoInteractions(userRepository);
+        verifyNoMoreInteractions(adoptionRepository);
+        verifyNoInteractions(animalRepository, userRepository);
     }
 
     @Test
@@ -569,18 +652,11 @@ class AdoptionServiceTest {
     @DisplayName("getRequestsForMyAnimals: deve retornar as solicitações de adoção recebidas para os animais do usuário.")
     void testGetRequestsForMyAnimals_HappyPath() {
         User authenticatedUser = createUser("2");
-        User adopter = createUser("1");
-        Animal animal = createAnimal();
-        Adoption adoption = createAdoption();
         PageRequest pageable = PageRequest.of(0, 10);
-        Page<Adoption> adoptionPage = new PageImpl<>(List.of(adoption), pageable, 1);
+        Page<AdoptionResponseDto> adoptionPage = new PageImpl<>(List.of(createProjectedResponse()), pageable, 1);
 
-        when(adoptionRepository.findByAnimalOwnerId("2", pageable))
+        when(adoptionRepository.findResponsesByAnimalOwnerId("2", pageable))
                 .thenReturn(adoptionPage);
-        when(userRepository.findAllById(Set.of("1", "2")))
-                .thenReturn(List.of(authenticatedUser, adopter));
-        when(animalRepository.findAllById(Set.of("3")))
-                .thenReturn(List.of(animal));
 
         Page<AdoptionResponseDto> response = service.getRequestsForMyAnimals(pageable, authenticatedUser);
 
@@ -593,15 +669,14 @@ class AdoptionServiceTest {
         assertEquals("2", dto.animalOwner().id());
         assertEquals("1", dto.adopter().id());
 
-        verify(adoptionRepository).findByAnimalOwnerId("2", pageable);
-        verify(userRepository).findAllById(Set.of("1", "2"));
-        verify(animalRepository).findAllById(Set.of("3"));
+        verify(adoptionRepository).findResponsesByAnimalOwnerId("2", pageable);
+        verifyNoInteractions(userRepository, animalRepository);
     }
 
     Adoption createAdoption() {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return Adoption.builder()
                 .id("1")
@@ -615,6 +690,13 @@ class AdoptionServiceTest {
                 .build();
     }
 
+    Adoption transitionedAdoption(AdoptionStatus status, Instant updatedAt) {
+        Adoption adoption = createAdoption();
+        adoption.setStatus(status);
+        adoption.setUpdatedAt(updatedAt);
+        return adoption;
+    }
+
     AdoptionRequestDto createAdoptionRequestDto() {
         return new AdoptionRequestDto(
                 "3",
@@ -622,10 +704,26 @@ class AdoptionServiceTest {
         );
     }
 
+    AdoptionResponseDto createProjectedResponse() {
+        Adoption adoption = createAdoption();
+
+        return new AdoptionResponseDto(
+                adoption.getId(),
+                adoption.getStatus(),
+                new AnimalSummaryDto("3", "Rex", LocalDate.of(2025, 10, 10), 1200, AnimalType.CACHORRO,
+                        AnimalSex.MACHO, AnimalSize.PEQUENO, "uploads/animals/rex.jpg", null, null, "Animal docil"),
+                new UserSummaryDto("2", "Teste"),
+                new UserSummaryDto("1", "Teste"),
+                adoption.getReason(),
+                DateMapper.toText(adoption.getCreatedAt()),
+                DateMapper.toText(adoption.getUpdatedAt())
+        );
+    }
+
     User createUser(String id) {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return User.builder()
                 .id(id)
@@ -638,9 +736,13 @@ class AdoptionServiceTest {
     }
 
     Animal createAnimal() {
-        String time = ZonedDateTime
+        return createAnimal(AdoptionStatus.DISPONIVEL);
+    }
+
+    Animal createAnimal(AdoptionStatus status) {
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return Animal.builder()
                 .id("3")
@@ -650,7 +752,7 @@ class AdoptionServiceTest {
                 .type(AnimalType.CACHORRO)
                 .sex(AnimalSex.MACHO)
                 .size(AnimalSize.PEQUENO)
-                .status(AdoptionStatus.DISPONIVEL)
+                .status(status)
                 .authorId("2")
                 .description("Animal docil")
                 .createdAt(time)
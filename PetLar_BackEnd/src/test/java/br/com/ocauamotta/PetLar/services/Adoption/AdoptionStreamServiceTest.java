@@ -0,0 +1,197 @@
+package br.com.ocauamotta.PetLar.services.Adoption;
+
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.services.AdoptionStreamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdoptionStreamServiceTest {
+
+    private AdoptionStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AdoptionStreamService();
+        ReflectionTestUtils.setField(service, "timeout", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(service, "heartbeatInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(service, "replaySize", 2);
+        ReflectionTestUtils.setField(service, "replayTtl", Duration.ofMinutes(5));
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve enviar a alteração ao autor do animal e ao adotante, e não a outros usuários.")
+    void testPublish_ShouldNotifyOwnerAndAdopter() throws InterruptedException {
+        CapturingEmitter owner = connect("1", null);
+        CapturingEmitter adopter = connect("2", null);
+        CapturingEmitter other = connect("3", null);
+
+        service.publish(createAdoption("10", AdoptionStatus.APROVADO));
+
+        for (CapturingEmitter emitter : new CapturingEmitter[]{owner, adopter}) {
+            String event = emitter.next();
+            assertTrue(event.contains("event:adoption"));
+            assertTrue(event.contains("id:"));
+            assertTrue(event.contains("APROVADO"));
+        }
+        assertNull(other.events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve reenviar, na ordem, os eventos posteriores ao Last-Event-ID informado na reconexão.")
+    void testRegister_ShouldReplayMissedEvents() throws InterruptedException {
+        CapturingEmitter first = connect("1", null);
+        service.publish(createAdoption("10", AdoptionStatus.PENDENTE));
+        String lastEventId = idOf(first.next());
+        first.complete();
+
+        service.publish(createAdoption("11", AdoptionStatus.APROVADO));
+        service.publish(createAdoption("12", AdoptionStatus.RECUSADO));
+
+        CapturingEmitter reconnected = connect("1", lastEventId);
+
+        assertTrue(reconnected.next().contains("APROVADO"));
+        assertTrue(reconnected.next().contains("RECUSADO"));
+        assertNull(reconnected.events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve enviar o evento resync quando os eventos perdidos não estiverem mais no buffer.")
+    void testRegister_ShouldRequestResyncWhenEventsWereDiscarded() throws InterruptedException {
+        CapturingEmitter first = connect("1", null);
+        service.publish(createAdoption("10", AdoptionStatus.PENDENTE));
+        String lastEventId = idOf(first.next());
+        first.complete();
+
+        for (int i = 0; i < 3; i++) {
+            service.publish(createAdoption("1" + i, AdoptionStatus.PENDENTE));
+        }
+
+        assertTrue(connect("1", lastEventId).next().contains("event:resync"));
+        assertTrue(connect("1", "1").next().contains("event:resync"));
+    }
+
+    @Test
+    @DisplayName("Deve enviar o evento resync quando o registro do usuário tiver expirado.")
+    void testHeartbeat_ShouldDiscardExpiredStreams() throws InterruptedException {
+        ReflectionTestUtils.setField(service, "replayTtl", Duration.ZERO);
+        CapturingEmitter first = connect("1", null);
+        service.publish(createAdoption("10", AdoptionStatus.PENDENTE));
+        String lastEventId = idOf(first.next());
+        first.complete();
+        service.publish(createAdoption("11", AdoptionStatus.PENDENTE));
+
+        Thread.sleep(5);
+        service.heartbeat();
+
+        assertTrue(connect("1", lastEventId).next().contains("event:resync"));
+    }
+
+    @Test
+    @DisplayName("Deve enviar heartbeats às conexões abertas.")
+    void testHeartbeat_ShouldSendComment() throws InterruptedException {
+        CapturingEmitter emitter = connect("1", null);
+
+        service.heartbeat();
+
+        assertTrue(emitter.next().startsWith(":heartbeat"));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o Last-Event-ID não for numérico.")
+    void testSubscribe_ShouldRejectInvalidLastEventId() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.subscribe("1", "abc"));
+
+        assertEquals("Last-Event-ID inválido: abc", ex.getMessage());
+    }
+
+    CapturingEmitter connect(String userId, String lastEventId) throws InterruptedException {
+        CapturingEmitter emitter = new CapturingEmitter();
+        service.register(userId, emitter, lastEventId == null ? null : Long.parseLong(lastEventId));
+        if (lastEventId == null) {
+            assertTrue(emitter.next().startsWith(":connected"));
+        }
+        return emitter;
+    }
+
+    String idOf(String event) {
+        return event.lines()
+                .filter(line -> line.startsWith("id:"))
+                .map(line -> line.substring(3))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    AdoptionResponseDto createAdoption(String id, AdoptionStatus status) {
+        return new AdoptionResponseDto(id, status, null,
+                new UserSummaryDto("1", "Dono"), new UserSummaryDto("2", "Adotante"),
+                "Motivo teste", null, null);
+    }
+
+    /**
+     * Emitter que registra o texto de cada evento enviado, serializando os dados em JSON,
+     * e executa o callback de conclusão ao ser encerrado, como faria o servidor.
+     */
+    static class CapturingEmitter extends SseEmitter {
+
+        private static final MappingJackson2HttpMessageConverter JSON = new MappingJackson2HttpMessageConverter();
+
+        final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private Runnable onCompletion = () -> {};
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            onCompletion = callback;
+        }
+
+        @Override
+        public synchronized void complete() {
+            super.complete();
+            onCompletion.run();
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            String event = builder.build().stream()
+                    .map(part -> part.getData() instanceof String text ? text : toJson(part.getData()))
+                    .collect(Collectors.joining());
+            events.add(event);
+        }
+
+        String next() throws InterruptedException {
+            String event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "Nenhum evento recebido.");
+            return event;
+        }
+
+        private String toJson(Object data) {
+            try {
+                return JSON.getObjectMapper().writeValueAsString(data);
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
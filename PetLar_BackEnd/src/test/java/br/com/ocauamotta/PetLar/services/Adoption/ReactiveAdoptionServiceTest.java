@@ -0,0 +1,135 @@
+package br.com.ocauamotta.PetLar.services.Adoption;
+
+import br.com.ocauamotta.PetLar.dtos.Adoption.AdoptionResponseDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSummaryDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.exceptions.EntityNotFoundException;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.User;
+import br.com.ocauamotta.PetLar.repositories.reactive.IReactiveAdoptionRepository;
+import br.com.ocauamotta.PetLar.repositories.reactive.IReactiveAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.reactive.IReactiveUserRepository;
+import br.com.ocauamotta.PetLar.services.ReactiveAdoptionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAdoptionServiceTest {
+
+    @Mock
+    private IReactiveAdoptionRepository adoptionRepository;
+
+    @Mock
+    private IReactiveAnimalRepository animalRepository;
+
+    @Mock
+    private IReactiveUserRepository userRepository;
+
+    @InjectMocks
+    private ReactiveAdoptionService service;
+
+    @Test
+    @DisplayName("getAdoptionsRequestedByMe: deve retornar as solicitações enriquecidas com usuários e animais.")
+    void testGetAdoptionsRequestedByMe_HappyPath() {
+        User authenticatedUser = createUser("1");
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        when(adoptionRepository.findByAdopterId("1", pageable)).thenReturn(Flux.just(createAdoption()));
+        when(adoptionRepository.countByAdopterId("1")).thenReturn(Mono.just(1L));
+        when(userRepository.findSummariesByIdIn(Set.of("1", "2"))).thenReturn(Flux.just(createSummary("1"), createSummary("2")));
+        when(animalRepository.findSummariesByIdIn(Set.of("3"))).thenReturn(Flux.just(createAnimalSummary()));
+
+        Page<AdoptionResponseDto> response = service.getAdoptionsRequestedByMe(pageable, authenticatedUser).block();
+
+        assertNotNull(response);
+        assertEquals(1, response.getTotalElements());
+
+        AdoptionResponseDto dto = response.getContent().getFirst();
+        assertEquals("1", dto.id());
+        assertEquals("3", dto.animal().id());
+        assertEquals("2", dto.animalOwner().id());
+        assertEquals("1", dto.adopter().id());
+        assertEquals("/public/animals/rex.jpg", dto.animal().imagePath());
+    }
+
+    @Test
+    @DisplayName("getRequestsForMyAnimals: deve consultar as solicitações recebidas pelo autor dos animais.")
+    void testGetRequestsForMyAnimals_HappyPath() {
+        User authenticatedUser = createUser("2");
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        when(adoptionRepository.findByAnimalOwnerId("2", pageable)).thenReturn(Flux.just(createAdoption()));
+        when(adoptionRepository.countByAnimalOwnerId("2")).thenReturn(Mono.just(1L));
+        when(userRepository.findSummariesByIdIn(Set.of("1", "2"))).thenReturn(Flux.just(createSummary("1"), createSummary("2")));
+        when(animalRepository.findSummariesByIdIn(Set.of("3"))).thenReturn(Flux.just(createAnimalSummary()));
+
+        Page<AdoptionResponseDto> response = service.getRequestsForMyAnimals(pageable, authenticatedUser).block();
+
+        assertNotNull(response);
+        assertEquals("2", response.getContent().getFirst().animalOwner().id());
+        verify(adoptionRepository, never()).findByAdopterId(any(), any());
+    }
+
+    @Test
+    @DisplayName("getAdoptionsRequestedByMe: deve lançar EntityNotFoundException quando um usuário relacionado não existir.")
+    void testGetAdoptionsRequestedByMe_UserNotFound() {
+        User authenticatedUser = createUser("1");
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        when(adoptionRepository.findByAdopterId("1", pageable)).thenReturn(Flux.just(createAdoption()));
+        when(adoptionRepository.countByAdopterId("1")).thenReturn(Mono.just(1L));
+        when(userRepository.findSummariesByIdIn(Set.of("1", "2"))).thenReturn(Flux.just(createSummary("1")));
+        when(animalRepository.findSummariesByIdIn(Set.of("3"))).thenReturn(Flux.just(createAnimalSummary()));
+
+        Mono<Page<AdoptionResponseDto>> response = service.getAdoptionsRequestedByMe(pageable, authenticatedUser);
+
+        assertThrows(EntityNotFoundException.class, response::block);
+    }
+
+    Adoption createAdoption() {
+        return Adoption.builder()
+                .id("1")
+                .status(AdoptionStatus.PENDENTE)
+                .animalId("3")
+                .animalOwnerId("2")
+                .adopterId("1")
+                .reason("Gostaria de um amigo novo.")
+                .build();
+    }
+
+    User createUser(String id) {
+        return User.builder()
+                .id(id)
+                .email("user@teste.com")
+                .name("Teste")
+                .build();
+    }
+
+    UserSummaryDto createSummary(String id) {
+        return new UserSummaryDto(id, "Teste");
+    }
+
+    AnimalSummaryDto createAnimalSummary() {
+        return new AnimalSummaryDto("3", "Rex", LocalDate.of(2025, 10, 10), 1200, AnimalType.CACHORRO,
+                AnimalSex.MACHO, AnimalSize.PEQUENO, "uploads/animals/rex.jpg", null, null, "Animal docil");
+    }
+}
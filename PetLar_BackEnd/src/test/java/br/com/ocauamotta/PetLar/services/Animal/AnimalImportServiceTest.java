@@ -0,0 +1,232 @@
+package br.com.ocauamotta.PetLar.services.Animal;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalImportResponseDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.events.AnimalChangedEvent;
+import br.com.ocauamotta.PetLar.events.AnimalsImportedEvent;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
+import br.com.ocauamotta.PetLar.services.AnimalImportService;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.Validation;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnimalImportServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AnimalImportService service;
+
+    private final List<List<Animal>> batches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        ReflectionTestUtils.setField(service, "maxSize", DataSize.ofMegabytes(20));
+        ReflectionTestUtils.setField(service, "objectMapper", JsonMapper.builder().findAndAddModules().build());
+        ReflectionTestUtils.setField(service, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    @DisplayName("Deve importar as linhas válidas de um arquivo NDJSON e rejeitar as inválidas.")
+    void testImportAnimals_ShouldImportValidNdjsonRows() {
+        mockBulkInsert();
+        ImportFile file = createFile("application/x-ndjson", """
+                {"name": "Rex", "birthDate": "2025-10-10", "weight": 1200, "type": "cachorro", "sex": "macho", "size": "medio"}
+                {"name": "Luna", "birthDate": "2025-10-10", "type": "gato", "sex": "femea", "size": "pequeno"}
+
+                {"name": "Bob", "birthDate": "2025-10-10", "weight": 800, "type": "gato", "sex": "macho", "size": "pequeno"}
+                """);
+
+        AnimalImportResponseDto result = importAnimals(file);
+
+        assertEquals(3, result.total());
+        assertEquals(2, result.imported());
+        assertEquals(1, result.rejected());
+        assertEquals(List.of(1L, 2L, 4L), result.rows().stream().map(row -> row.line()).toList());
+        assertNotNull(result.rows().get(0).id());
+        assertEquals("O peso é obrigatório.", result.rows().get(1).errors().get("weight"));
+
+        assertEquals(1, batches.size());
+        Animal animal = batches.getFirst().getFirst();
+        assertEquals("Rex", animal.getName());
+        assertEquals(AnimalType.CACHORRO, animal.getType());
+        assertEquals(AdoptionStatus.DISPONIVEL, animal.getStatus());
+        assertEquals("1", animal.getAuthorId());
+        assertNotNull(animal.getCreatedAt());
+        verify(eventPublisher).publishEvent(new AnimalsImportedEvent(List.of(animal.getId(), batches.getFirst().get(1).getId())));
+        verify(eventPublisher, never()).publishEvent(any(AnimalChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve importar um arquivo CSV em lotes do tamanho configurado.")
+    void testImportAnimals_ShouldInsertCsvInBatches() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        mockBulkInsert();
+        ImportFile file = createFile("text/csv", """
+                name,description,birthDate,weight,type,sex,size
+                Rex,"Dócil, vacinado e ""castrado""\",2025-10-10,1200,cachorro,macho,medio
+                Luna,,2025-10-10,900,gato,femea,pequeno
+                Bob,Calmo,2025-10-10,800,gato,macho,pequeno
+                """);
+
+        AnimalImportResponseDto result = importAnimals(file);
+
+        assertEquals(3, result.imported());
+        assertEquals(List.of(2, 1), batches.stream().map(List::size).toList());
+        assertEquals("Dócil, vacinado e \"castrado\"", batches.getFirst().getFirst().getDescription());
+        assertNull(batches.getFirst().get(1).getDescription());
+        assertEquals(List.of(2L, 3L, 4L), result.rows().stream().map(row -> row.line()).toList());
+    }
+
+    @Test
+    @DisplayName("Deve importar valores CSV entre aspas com quebras de linha, como os gerados pela exportação.")
+    void testImportAnimals_ShouldReadQuotedLineBreaks() {
+        mockBulkInsert();
+        ImportFile file = createFile("text/csv", """
+                name,description,birthDate,weight,type,sex,size
+                Rex,"Dócil.
+
+                Vacinado e ""castrado"".",2025-10-10,1200,cachorro,macho,medio
+                Luna,Calma,2025-10-10,900,gato,femea,pequeno
+                Bob,"Sem fechamento,2025-10-10,800,gato,macho,pequeno
+                """);
+
+        AnimalImportResponseDto result = importAnimals(file);
+
+        assertEquals(3, result.total());
+        assertEquals(2, result.imported());
+        assertEquals("Dócil.\n\nVacinado e \"castrado\".", batches.getFirst().getFirst().getDescription());
+        assertEquals(List.of(2L, 5L, 6L), result.rows().stream().map(row -> row.line()).toList());
+        assertEquals("Valor entre aspas não foi fechado.", result.rows().get(2).errors().get("row"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar linhas com valores ou colunas inválidas sem interromper a importação.")
+    void testImportAnimals_ShouldRejectMalformedRows() {
+        mockBulkInsert();
+        ImportFile file = createFile("text/csv", """
+                name,birthDate,weight,type,sex,size,description
+                Rex,10/10/2025,1200,cachorro,macho,medio,
+                Luna,2025-10-10,900,dragao,femea,pequeno,
+                Bob,2025-10-10
+                Nina,2025-10-10,700,gato,femea,pequeno,Brincalhona
+                """);
+
+        AnimalImportResponseDto result = importAnimals(file);
+
+        assertEquals(4, result.total());
+        assertEquals(1, result.imported());
+        assertEquals("Valor inválido.", result.rows().get(0).errors().get("birthDate"));
+        assertEquals("Tipo inválido: dragao", result.rows().get(1).errors().get("row"));
+        assertEquals("A linha possui 2 colunas, esperado 7.", result.rows().get(2).errors().get("row"));
+        assertNotNull(result.rows().get(3).id());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar apenas os registros recusados pelo banco na gravação em lote.")
+    void testImportAnimals_ShouldRejectFailedBulkWrites() {
+        BulkOperationException exception = mock(BulkOperationException.class);
+        when(exception.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0)));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Animal.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(exception);
+        ImportFile file = createFile("application/x-ndjson; charset=UTF-8", """
+                {"name": "Rex", "birthDate": "2025-10-10", "weight": 1200, "type": "cachorro", "sex": "macho", "size": "medio"}
+                {"name": "Bob", "birthDate": "2025-10-10", "weight": 800, "type": "gato", "sex": "macho", "size": "pequeno"}
+                """);
+
+        AnimalImportResponseDto result = importAnimals(file);
+
+        assertEquals(1, result.imported());
+        assertEquals(1, result.rejected());
+        assertNull(result.rows().get(0).id());
+        assertEquals("Não foi possível gravar o registro.", result.rows().get(0).errors().get("row"));
+        assertNotNull(result.rows().get(1).id());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para arquivos que não são NDJSON nem CSV.")
+    void testImportAnimals_ShouldThrowForUnsupportedFormat() {
+        ImportFile file = createFile("application/vnd.ms-excel", "conteudo");
+
+        assertThrows(IllegalArgumentException.class, () -> importAnimals(file));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para arquivos maiores que o limite ou sem tamanho informado.")
+    void testImportAnimals_ShouldThrowForOversizedFile() {
+        ImportFile file = createFile("text/csv", "name,birthDate\nRex,2025-10-10\n");
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> service.importAnimals(
+                new ByteArrayInputStream(file.content()), file.contentType(), DataSize.ofMegabytes(21).toBytes(), createUser()));
+        assertEquals("Arquivo muito grande. O limite é de 20MB.", ex.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> service.importAnimals(
+                new ByteArrayInputStream(file.content()), file.contentType(), null, createUser()));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    void mockBulkInsert() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Animal.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenAnswer(invocation -> {
+            batches.add(List.copyOf(invocation.<List<Animal>>getArgument(0)));
+            return bulkOperations;
+        });
+    }
+
+    ImportFile createFile(String contentType, String content) {
+        return new ImportFile(contentType, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    AnimalImportResponseDto importAnimals(ImportFile file) {
+        return service.importAnimals(new ByteArrayInputStream(file.content()), file.contentType(),
+                (long) file.content().length, createUser());
+    }
+
+    User createUser() {
+        return User.builder()
+                .id("1")
+                .name("Abrigo")
+                .email("abrigo@teste.com")
+                .build();
+    }
+
+    record ImportFile(String contentType, byte[] content) {
+    }
+}
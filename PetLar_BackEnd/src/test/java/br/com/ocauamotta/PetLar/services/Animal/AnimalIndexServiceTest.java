@@ -0,0 +1,145 @@
+package br.com.ocauamotta.PetLar.services.Animal;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSearchFilterDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepositoryCustom.SearchResult;
+import br.com.ocauamotta.PetLar.services.AnimalIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnimalIndexServiceTest {
+
+    @Mock
+    private IAnimalRepository repository;
+
+    @InjectMocks
+    private AnimalIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.streamByStatus(eq(AdoptionStatus.DISPONIVEL), any(Sort.class))).thenReturn(Stream.of(
+                createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO, AnimalSize.MEDIO, "Dócil e vacinado", 1),
+                createAnimal("2", "Luna", AnimalType.GATO, AnimalSex.FEMEA, AnimalSize.PEQUENO, "Companheira do Rex", 1),
+                createAnimal("3", "Bob", AnimalType.GATO, AnimalSex.MACHO, AnimalSize.PEQUENO, "Brincalhão", 1)));
+        service.rebuild();
+    }
+
+    @Test
+    @DisplayName("Deve filtrar os animais por características, dos mais recentes aos mais antigos, com a contagem por característica.")
+    void testSearch_ShouldFilterByFacets() {
+        SearchResult result = service.search(filter(null, "gato", null, null), PageRequest.of(0, 10));
+
+        assertTrue(service.isReady());
+        assertEquals(List.of("3", "2"), ids(result));
+        assertEquals(2, result.animals().getTotalElements());
+        assertEquals(Map.of(AnimalType.GATO, 2L), result.facets().type());
+        assertEquals(Map.of(AnimalSex.FEMEA, 1L, AnimalSex.MACHO, 1L), result.facets().sex());
+        assertEquals(Map.of(AnimalSize.PEQUENO, 2L), result.facets().size());
+
+        SearchResult page = service.search(filter(null, null, "macho", null), PageRequest.of(1, 1));
+        assertEquals(List.of("1"), ids(page));
+        assertEquals(2, page.animals().getTotalElements());
+        verify(repository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar por palavras do nome e da descrição sem diferenciar acentos, ordenando pela relevância.")
+    void testSearch_ShouldRankByRelevance() {
+        SearchResult result = service.search(filter("REX", null, null, null), PageRequest.of(0, 10));
+
+        assertEquals(List.of("1", "2"), ids(result));
+        assertEquals(List.of("3"), ids(service.search(filter("brincalhao", null, null, null), PageRequest.of(0, 10))));
+        assertTrue(ids(service.search(filter("dragão", null, null, null), PageRequest.of(0, 10))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar os animais pelos intervalos de peso e data de nascimento.")
+    void testSearch_ShouldFilterByRanges() {
+        AnimalSearchFilterDto filter = new AnimalSearchFilterDto(null, null, null, null, null, 1000, 2000,
+                LocalDate.of(2024, 6, 1), LocalDate.of(2025, 6, 1));
+
+        assertEquals(List.of("3"), ids(service.search(filter, PageRequest.of(0, 10))));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o índice com as alterações, ignorando versões anteriores à indexada.")
+    void testRefresh_ShouldApplyChanges() {
+        Animal adopted = createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO, AnimalSize.MEDIO, "Dócil", 2);
+        adopted.setStatus(AdoptionStatus.PENDENTE);
+        when(repository.findAllById(List.of("1"))).thenReturn(List.of(adopted));
+        service.refresh(List.of("1"));
+
+        assertFalse(ids(service.search(filter(null, null, null, null), PageRequest.of(0, 10))).contains("1"));
+
+        when(repository.findAllById(List.of("1"))).thenReturn(List.of(
+                createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO, AnimalSize.MEDIO, "Dócil", 1)));
+        service.refresh(List.of("1"));
+
+        assertFalse(ids(service.search(filter(null, null, null, null), PageRequest.of(0, 10))).contains("1"));
+
+        when(repository.findAllById(List.of("4", "2"))).thenReturn(List.of(
+                createAnimal("4", "Nina", AnimalType.CACHORRO, AnimalSex.FEMEA, AnimalSize.GRANDE, "Nova no abrigo", 0)));
+        service.refresh(List.of("4", "2"));
+
+        SearchResult result = service.search(filter(null, null, null, null), PageRequest.of(0, 10));
+        assertEquals(List.of("4", "3"), ids(result));
+        assertEquals(Map.of(AnimalType.CACHORRO, 1L, AnimalType.GATO, 1L), result.facets().type());
+        assertTrue(ids(service.search(filter("luna", null, null, null), PageRequest.of(0, 10))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para características inválidas.")
+    void testSearch_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> service.search(filter(null, "dragao", null, null), PageRequest.of(0, 10)));
+    }
+
+    AnimalSearchFilterDto filter(String q, String type, String sex, String size) {
+        return new AnimalSearchFilterDto(q, null, type, sex, size, null, null, null, null);
+    }
+
+    List<String> ids(SearchResult result) {
+        return result.animals().getContent().stream().map(Animal::getId).toList();
+    }
+
+    Animal createAnimal(String id, String name, AnimalType type, AnimalSex sex, AnimalSize size, String description, long version) {
+        return Animal.builder()
+                .id(id)
+                .name(name)
+                .birthDate(LocalDate.of(2025 - Integer.parseInt(id) % 3, 1, 1))
+                .weight(Integer.parseInt(id) * 600)
+                .type(type)
+                .sex(sex)
+                .size(size)
+                .status(AdoptionStatus.DISPONIVEL)
+                .authorId("1")
+                .description(description)
+                .version(version)
+                .createdAt(Instant.parse("2025-10-15T15:05:10Z").plusSeconds(Integer.parseInt(id)))
+                .updatedAt(Instant.parse("2025-10-15T15:05:10Z"))
+                .build();
+    }
+}
@@ -0,0 +1,183 @@
+package br.com.ocauamotta.PetLar.services.Animal;
+
+import br.com.ocauamotta.PetLar.configs.CacheConfig;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.events.AnimalChangedEvent;
+import br.com.ocauamotta.PetLar.events.AnimalsImportedEvent;
+import br.com.ocauamotta.PetLar.listeners.AnimalCacheListener;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.IUserRepository;
+import br.com.ocauamotta.PetLar.services.AnimalIndexService;
+import br.com.ocauamotta.PetLar.services.AnimalService;
+import br.com.ocauamotta.PetLar.services.ImageStorageService;
+import br.com.ocauamotta.PetLar.services.ImageVariantService;
+import br.com.ocauamotta.PetLar.validations.Animal.AnimalNotAvailableValidation;
+import br.com.ocauamotta.PetLar.validations.Animal.AnimalOwnerUserValidation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = {CacheConfig.class, AnimalService.class, AnimalCacheListener.class})
+class AnimalServiceCacheTest {
+
+    @Autowired
+    private AnimalService service;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @MockitoBean
+    private IAnimalRepository repository;
+
+    @MockitoBean
+    private IUserRepository userRepository;
+
+    @MockitoBean
+    private AnimalOwnerUserValidation animalOwnerUserValidation;
+
+    @MockitoBean
+    private AnimalNotAvailableValidation animalNotAvailableValidation;
+
+    @MockitoBean
+    private ImageStorageService imageStorageService;
+
+    @MockitoBean
+    private ImageVariantService imageVariantService;
+
+    @MockitoBean
+    private AnimalIndexService indexService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.ANIMALS_CACHE).clear();
+        cacheManager.getCache(CacheConfig.ANIMAL_PAGES_CACHE).clear();
+        when(repository.findById("1")).thenReturn(Optional.of(createAnimal()));
+        when(userRepository.findSummaryById("1")).thenReturn(Optional.of(createAuthor()));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco apenas na primeira busca por um mesmo animal.")
+    void testFindById_ShouldHitDatabaseOnlyOnce() {
+        AnimalResponseDto first = service.findById("1");
+        AnimalResponseDto second = service.findById("1");
+
+        assertSame(first, second);
+        verify(repository, times(1)).findById("1");
+        verify(userRepository, times(1)).findSummaryById("1");
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o animal do banco após um AnimalChangedEvent.")
+    void testFindById_ShouldReloadAfterAnimalChangedEvent() {
+        service.findById("1");
+
+        eventPublisher.publishEvent(new AnimalChangedEvent("1"));
+
+        service.findById("1");
+        verify(repository, times(2)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar a primeira página da listagem para o mesmo filtro.")
+    void testFindAll_ShouldCacheFirstPages() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(repository.findByStatus(AdoptionStatus.DISPONIVEL, pageable))
+                .thenReturn(new PageImpl<>(List.of(createAnimal()), pageable, 1));
+        when(userRepository.findSummariesByIdIn(any())).thenReturn(List.of(createAuthor()));
+
+        Page<AnimalResponseDto> first = service.findAll(pageable, "disponivel", null);
+        Page<AnimalResponseDto> second = service.findAll(pageable, "DISPONIVEL", "");
+
+        assertSame(first, second);
+        verify(repository, times(1)).findByStatus(AdoptionStatus.DISPONIVEL, pageable);
+    }
+
+    @Test
+    @DisplayName("Não deve manter em cache páginas além do limite configurado.")
+    void testFindAll_ShouldNotCacheDeepPages() {
+        PageRequest pageable = PageRequest.of(50, 10);
+        when(repository.findByStatus(AdoptionStatus.DISPONIVEL, pageable))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        service.findAll(pageable, "disponivel", null);
+        service.findAll(pageable, "disponivel", null);
+
+        verify(repository, times(2)).findByStatus(AdoptionStatus.DISPONIVEL, pageable);
+    }
+
+    @Test
+    @DisplayName("Deve descartar as páginas da listagem após um AnimalChangedEvent.")
+    void testFindAll_ShouldReloadAfterAnimalChangedEvent() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(repository.findByStatus(AdoptionStatus.DISPONIVEL, pageable))
+                .thenReturn(new PageImpl<>(List.of(createAnimal()), pageable, 1));
+        when(userRepository.findSummariesByIdIn(any())).thenReturn(List.of(createAuthor()));
+
+        service.findAll(pageable, "disponivel", null);
+
+        eventPublisher.publishEvent(new AnimalChangedEvent("2"));
+
+        service.findAll(pageable, "disponivel", null);
+        verify(repository, times(2)).findByStatus(AdoptionStatus.DISPONIVEL, pageable);
+    }
+
+    @Test
+    @DisplayName("Deve descartar as páginas da listagem a cada lote de animais importado.")
+    void testFindAll_ShouldReloadAfterAnimalsImportedEvent() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(repository.findByStatus(AdoptionStatus.DISPONIVEL, pageable))
+                .thenReturn(new PageImpl<>(List.of(createAnimal()), pageable, 1));
+        when(userRepository.findSummariesByIdIn(any())).thenReturn(List.of(createAuthor()));
+
+        service.findAll(pageable, "disponivel", null);
+
+        eventPublisher.publishEvent(new AnimalsImportedEvent(List.of("2", "3")));
+
+        service.findAll(pageable, "disponivel", null);
+        verify(repository, times(2)).findByStatus(AdoptionStatus.DISPONIVEL, pageable);
+    }
+
+    Animal createAnimal() {
+        return Animal.builder()
+                .id("1")
+                .name("Rex")
+                .birthDate(LocalDate.of(2025, 10, 10))
+                .weight(1200)
+                .type(AnimalType.CACHORRO)
+                .sex(AnimalSex.MACHO)
+                .size(AnimalSize.PEQUENO)
+                .status(AdoptionStatus.DISPONIVEL)
+                .authorId("1")
+                .description("Animal docil")
+                .build();
+    }
+
+    UserSummaryDto createAuthor() {
+        return new UserSummaryDto("1", "Teste");
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -168,14 +169,16 @@ class AnimalServiceIT {
                 type,
                 sex,
                 "pequeno",
-                "Animal docil"
+                "Animal docil",
+                null,
+                null
         );
     }
 
     User createUser() {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return userRepository.insert(
                 User.builder()
@@ -188,9 +191,9 @@ class AnimalServiceIT {
     }
 
     Animal createAnimal(String name, AnimalType type, AnimalSex sex, AdoptionStatus status, User user) {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return Animal.builder()
                 .name(name)
@@ -1,36 +1,55 @@
 package br.com.ocauamotta.PetLar.services.Animal;
 
 import br.com.ocauamotta.PetLar.dtos.Animal.AnimalRequestDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalFacetsDto;
 import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSearchFilterDto;
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSearchResponseDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
 import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
 import br.com.ocauamotta.PetLar.enums.AnimalSex;
 import br.com.ocauamotta.PetLar.enums.AnimalSize;
 import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.events.AnimalChangedEvent;
 import br.com.ocauamotta.PetLar.exceptions.Adoption.AnimalNotAvailableException;
 import br.com.ocauamotta.PetLar.exceptions.Animal.UserWhoIsNotTheOwnerOfTheAnimalException;
 import br.com.ocauamotta.PetLar.exceptions.EntityNotFoundException;
+import br.com.ocauamotta.PetLar.mappers.AnimalMapper;
 import br.com.ocauamotta.PetLar.models.Animal;
 import br.com.ocauamotta.PetLar.models.User;
 import br.com.ocauamotta.PetLar.repositories.IAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepositoryCustom;
 import br.com.ocauamotta.PetLar.repositories.IUserRepository;
+import br.com.ocauamotta.PetLar.services.AnimalIndexService;
 import br.com.ocauamotta.PetLar.services.AnimalService;
+import br.com.ocauamotta.PetLar.services.ImageStorageService;
+import br.com.ocauamotta.PetLar.services.ImageVariantService;
 import br.com.ocauamotta.PetLar.validations.Animal.AnimalNotAvailableValidation;
 import br.com.ocauamotta.PetLar.validations.Animal.AnimalOwnerUserValidation;
+import org.bson.Document;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
+import br.com.ocauamotta.PetLar.dtos.SliceResponseDto;
+import org.springframework.data.domain.*;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -53,6 +72,18 @@ class AnimalServiceTest {
     @Mock
     private AnimalNotAvailableValidation animalNotAvailableValidation;
 
+    @Mock
+    private ImageStorageService imageStorageService;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AnimalIndexService indexService;
+
     @InjectMocks
     private AnimalService service;
 
@@ -72,6 +103,81 @@ class AnimalServiceTest {
         assertNotNull(savedAnimalDto.createdAt());
         assertNotNull(savedAnimalDto.updatedAt());
         verify(repository).insert(any(Animal.class));
+        verify(eventPublisher).publishEvent(any(AnimalChangedEvent.class));
+        verifyNoInteractions(imageVariantService);
+    }
+
+    @Test
+    @DisplayName("Deve salvar a localização do animal como ponto GeoJSON, na ordem longitude e latitude.")
+    void testSave_ShouldStoreLocation() {
+        AnimalRequestDto dto = new AnimalRequestDto("Rex", LocalDate.of(2025, 10, 10), 1200, "Cachorro", "Macho",
+                "pequeno", "Animal docil", -23.5505, -46.6333);
+
+        when(repository.insert(any(Animal.class))).thenAnswer(returnsFirstArg());
+
+        service.save(dto, null, createUser("1"));
+
+        ArgumentCaptor<Animal> captor = ArgumentCaptor.forClass(Animal.class);
+        verify(repository).insert(captor.capture());
+        assertEquals(new GeoJsonPoint(-46.6333, -23.5505), captor.getValue().getLocation());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao salvar um animal com apenas uma das coordenadas.")
+    void testSave_ShouldThrowIllegalArgumentExceptionWhenCoordinateIsMissing() {
+        AnimalRequestDto dto = new AnimalRequestDto("Rex", LocalDate.of(2025, 10, 10), 1200, "Cachorro", "Macho",
+                "pequeno", "Animal docil", -23.5505, null);
+
+        assertThrows(IllegalArgumentException.class, () -> service.save(dto, null, createUser("1")));
+        verify(repository, never()).insert(any(Animal.class));
+    }
+
+    @Test
+    @DisplayName("Deve solicitar a geração das variações da imagem ao salvar um animal com imagem.")
+    void testSave_ShouldGenerateImageVariants() {
+        AnimalRequestDto dto = createAnimalRequestDto("Rex", "Cachorro", "Macho");
+        MockMultipartFile image = new MockMultipartFile("image", "rex.jpg", "image/jpeg", new byte[10]);
+
+        when(imageStorageService.store(image)).thenReturn("uploads/animals/rex.jpg");
+        when(repository.insert(any(Animal.class))).thenAnswer(invocation -> {
+            Animal animal = invocation.getArgument(0);
+            animal.setId("1");
+            return animal;
+        });
+
+        AnimalResponseDto savedAnimalDto = service.save(dto, image, createUser("1"));
+
+        assertEquals("/public/animals/rex.jpg", savedAnimalDto.imagePath());
+        assertEquals("/public/animals/rex.jpg", savedAnimalDto.thumbnailPath());
+        verify(imageVariantService).generate("1", "uploads/animals/rex.jpg");
+    }
+
+    @Test
+    @DisplayName("Deve descartar a imagem e as variações anteriores ao atualizar a imagem de um animal.")
+    void testUpdate_ShouldResetImageVariantsWhenImageChanges() {
+        AnimalRequestDto dto = createAnimalRequestDto("Luna", "Gato", "Femea");
+        MockMultipartFile image = new MockMultipartFile("image", "luna.png", "image/png", new byte[10]);
+        Animal animal = createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO);
+        animal.setImagePath("uploads/animals/rex.jpg");
+        animal.setThumbnailPath("uploads/animals/rex_thumb.jpg");
+        animal.setMediumPath("uploads/animals/rex_medium.jpg");
+
+        when(imageStorageService.store(image)).thenReturn("uploads/animals/luna.png");
+        when(repository.findById("1")).thenReturn(Optional.of(animal));
+        when(repository.updateFields(eq("1"), eq(AdoptionStatus.DISPONIVEL), any(Update.class)))
+                .thenAnswer(applyUpdate(animal));
+
+        service.update("1", dto, image, createUser("1"));
+
+        ArgumentCaptor<Update> captor = ArgumentCaptor.forClass(Update.class);
+        verify(repository).updateFields(eq("1"), eq(AdoptionStatus.DISPONIVEL), captor.capture());
+        Document update = captor.getValue().getUpdateObject();
+        assertEquals("uploads/animals/luna.png", update.get("$set", Document.class).getString("imagePath"));
+        assertEquals(Set.of("thumbnailPath", "mediumPath"), update.get("$unset", Document.class).keySet());
+        verify(imageVariantService).generate("1", "uploads/animals/luna.png");
+        verify(imageStorageService).delete("uploads/animals/rex.jpg");
+        verify(imageStorageService).delete("uploads/animals/rex_thumb.jpg");
+        verify(imageStorageService).delete("uploads/animals/rex_medium.jpg");
     }
 
     @Test
@@ -79,16 +185,41 @@ class AnimalServiceTest {
     void testUpdate_ShouldUpdateAnAnimal() {
         AnimalRequestDto dto = createAnimalRequestDto("Luna", "Gato", "Femea");
 
-        when(repository.findById("1")).thenReturn(Optional.of(createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO)));
-        when(repository.save(any(Animal.class))).thenAnswer(returnsFirstArg());
+        Animal animal = createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO);
+
+        when(repository.findById("1")).thenReturn(Optional.of(animal));
+        when(repository.updateFields(eq("1"), eq(AdoptionStatus.DISPONIVEL), any(Update.class)))
+                .thenAnswer(applyUpdate(animal));
 
         AnimalResponseDto updatedAnimalDto = service.update("1", dto, null, createUser("1"));
 
         assertNotNull(updatedAnimalDto);
         assertEquals("Luna", updatedAnimalDto.name());
         assertEquals(AnimalType.GATO, updatedAnimalDto.type());
+
+        ArgumentCaptor<Update> captor = ArgumentCaptor.forClass(Update.class);
         verify(repository).findById("1");
-        verify(repository).save((any(Animal.class)));
+        verify(repository).updateFields(eq("1"), eq(AdoptionStatus.DISPONIVEL), captor.capture());
+        verify(repository, never()).save(any(Animal.class));
+        Document set = captor.getValue().getUpdateObject().get("$set", Document.class);
+        assertFalse(set.containsKey("status"));
+        assertFalse(set.containsKey("authorId"));
+        assertFalse(set.containsKey("imagePath"));
+        verify(eventPublisher).publishEvent(new AnimalChangedEvent("1"));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o animal deixar de estar disponível durante a atualização.")
+    void testUpdate_ShouldThrowAnimalNotAvailableExceptionWhenStatusChangesConcurrently() {
+        AnimalRequestDto dto = createAnimalRequestDto("Luna", "Gato", "Femea");
+
+        when(repository.findById("1")).thenReturn(Optional.of(createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO)));
+        when(repository.updateFields(eq("1"), eq(AdoptionStatus.DISPONIVEL), any(Update.class)))
+                .thenReturn(Optional.empty());
+
+        assertThrows(AnimalNotAvailableException.class,
+                () -> service.update("1", dto, null, createUser("1")));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -148,6 +279,7 @@ class AnimalServiceTest {
 
         verify(repository).findById("1");
         verify(repository).delete(any(Animal.class));
+        verify(eventPublisher).publishEvent(new AnimalChangedEvent("1"));
     }
 
     @Test
@@ -199,7 +331,7 @@ class AnimalServiceTest {
     @DisplayName("Deve buscar um animal por ID com sucesso.")
     void testFindById_ShouldReturnAnAnimal() {
         when(repository.findById("1")).thenReturn(Optional.of(createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO)));
-        when(userRepository.findById("1")).thenReturn(Optional.of(createUser("1")));
+        when(userRepository.findSummaryById("1")).thenReturn(Optional.of(createAuthor("1")));
 
         AnimalResponseDto foundAnimal = service.findById("1");
 
@@ -225,7 +357,7 @@ class AnimalServiceTest {
         Page<Animal> page = new PageImpl<>(List.of(dogEntity, catEntity));
 
         when(repository.findByStatus(eq(AdoptionStatus.DISPONIVEL), any(Pageable.class))).thenReturn(page);
-        when(userRepository.findAllById(Set.of("1"))).thenReturn(List.of(createUser("1")));
+        when(userRepository.findSummariesByIdIn(Set.of("1"))).thenReturn(List.of(createAuthor("1")));
 
         Page<AnimalResponseDto> result = service.findAll(pageable, "Disponivel", null);
 
@@ -243,7 +375,7 @@ class AnimalServiceTest {
 
         when(repository.findByStatusAndType(eq(AdoptionStatus.DISPONIVEL), eq(AnimalType.GATO), any(Pageable.class)))
                 .thenReturn(page);
-        when(userRepository.findAllById(Set.of("1"))).thenReturn(List.of(createUser("1")));
+        when(userRepository.findSummariesByIdIn(Set.of("1"))).thenReturn(List.of(createAuthor("1")));
 
         Page<AnimalResponseDto> result = service.findAll(pageable, "Disponivel", "Gato");
 
@@ -263,7 +395,7 @@ class AnimalServiceTest {
         Page<Animal> page = new PageImpl<>(List.of(dogEntity, catEntity));
 
         when(repository.findByStatus(eq(AdoptionStatus.ADOTADO), any(Pageable.class))).thenReturn(page);
-        when(userRepository.findAllById(Set.of("1"))).thenReturn(List.of(createUser("1")));
+        when(userRepository.findSummariesByIdIn(Set.of("1"))).thenReturn(List.of(createAuthor("1")));
 
         Page<AnimalResponseDto> result = service.findAll(pageable, "Adotado", null);
 
@@ -282,6 +414,161 @@ class AnimalServiceTest {
         assertThrows(IllegalArgumentException.class, () -> service.findAll(pageable, "available", null));
     }
 
+    @Test
+    @DisplayName("Deve retornar uma janela de animais por cursor com o cursor da próxima janela.")
+    void testScroll_ShouldReturnAWindowWithNextCursor() {
+        Animal dogEntity = createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO);
+        Animal catEntity = createAnimal("2", "Lua", AnimalType.GATO, AnimalSex.FEMEA);
+        Window<Animal> window = Window.from(
+                List.of(dogEntity, catEntity),
+                index -> ScrollPosition.forward(Map.of("_id", String.valueOf(index + 1))),
+                true);
+
+        when(repository.findByStatus(eq(AdoptionStatus.DISPONIVEL), any(ScrollPosition.class), any(Limit.class), any(Sort.class)))
+                .thenReturn(window);
+        when(userRepository.findSummariesByIdIn(Set.of("1"))).thenReturn(List.of(createAuthor("1")));
+
+        SliceResponseDto<AnimalResponseDto> result = service.scroll(null, 2, "Disponivel", null);
+
+        assertEquals(2, result.size());
+        assertTrue(result.hasNext());
+        assertNotNull(result.nextCursor());
+        assertEquals("Rex", result.content().get(0).name());
+        verify(repository).findByStatus(eq(AdoptionStatus.DISPONIVEL), eq(ScrollPosition.keyset()), eq(Limit.of(2)), any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("Deve continuar a navegação a partir do cursor informado.")
+    void testScroll_ShouldContinueFromCursor() {
+        Window<Animal> window = Window.from(
+                List.of(createAnimal("2", "Lua", AnimalType.GATO, AnimalSex.FEMEA)),
+                index -> ScrollPosition.forward(Map.of("_id", "2")),
+                false);
+
+        when(repository.findByStatusAndType(eq(AdoptionStatus.DISPONIVEL), eq(AnimalType.GATO), any(ScrollPosition.class), any(Limit.class), any(Sort.class)))
+                .thenReturn(window);
+        when(userRepository.findSummariesByIdIn(Set.of("1"))).thenReturn(List.of(createAuthor("1")));
+
+        String after = "eyJfaWQiOiAiMSJ9";
+        SliceResponseDto<AnimalResponseDto> result = service.scroll(after, 1, "Disponivel", "Gato");
+
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+        verify(repository).findByStatusAndType(eq(AdoptionStatus.DISPONIVEL), eq(AnimalType.GATO),
+                argThat(position -> "1".equals(((KeysetScrollPosition) position).getKeys().get("_id"))),
+                eq(Limit.of(1)), any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao BUSCAR por cursor inválido.")
+    void testScroll_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> service.scroll("cursor-invalido", 10, "Disponivel", null));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar animais por texto e filtros, retornando a página e a contagem por característica.")
+    void testSearch_ShouldReturnResultsWithFacets() {
+        AnimalFacetsDto facets = new AnimalFacetsDto(
+                Map.of(AnimalType.CACHORRO, 1L), Map.of(AnimalSex.MACHO, 1L), Map.of(AnimalSize.PEQUENO, 1L));
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(repository.search(eq("docil"), any(Criteria.class), eq(pageable))).thenReturn(new IAnimalRepositoryCustom.SearchResult(
+                new PageImpl<>(List.of(createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO)), pageable, 1), facets));
+        when(userRepository.findSummariesByIdIn(Set.of("1"))).thenReturn(List.of(createAuthor("1")));
+
+        AnimalSearchResponseDto result = service.search(new AnimalSearchFilterDto(
+                "docil", null, "cachorro", null, "pequeno", 500, 5000, LocalDate.of(2025, 1, 1), null), pageable);
+
+        assertEquals(1, result.totalElements());
+        assertEquals("Rex", result.content().getFirst().name());
+        assertEquals(facets, result.facets());
+
+        ArgumentCaptor<Criteria> captor = ArgumentCaptor.forClass(Criteria.class);
+        verify(repository).search(eq("docil"), captor.capture(), eq(pageable));
+        Document criteria = captor.getValue().getCriteriaObject();
+        assertEquals(AdoptionStatus.DISPONIVEL, criteria.get("status"));
+        assertEquals(AnimalType.CACHORRO, criteria.get("type"));
+        assertEquals(AnimalSize.PEQUENO, criteria.get("size"));
+        assertFalse(criteria.containsKey("sex"));
+        assertEquals(new Document("$gte", 500).append("$lte", 5000), criteria.get("weight"));
+        assertEquals(new Document("$gte", LocalDate.of(2025, 1, 1)), criteria.get("birthDate"));
+    }
+
+    @Test
+    @DisplayName("Deve responder a busca de animais disponíveis pelo índice em memória quando ele estiver pronto.")
+    void testSearch_ShouldUseIndexWhenReady() {
+        AnimalSearchFilterDto filter = new AnimalSearchFilterDto("rex", null, null, null, null, null, null, null, null);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(indexService.isReady()).thenReturn(true);
+        when(indexService.search(filter, pageable)).thenReturn(new IAnimalRepositoryCustom.SearchResult(
+                new PageImpl<>(List.of(createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO)), pageable, 1),
+                new AnimalFacetsDto(Map.of(AnimalType.CACHORRO, 1L), Map.of(AnimalSex.MACHO, 1L), Map.of(AnimalSize.PEQUENO, 1L))));
+        when(userRepository.findSummariesByIdIn(Set.of("1"))).thenReturn(List.of(createAuthor("1")));
+
+        AnimalSearchResponseDto result = service.search(filter, pageable);
+
+        assertEquals("Rex", result.content().getFirst().name());
+        verifyNoInteractions(repository);
+
+        when(repository.search(eq("rex"), any(Criteria.class), any(Pageable.class))).thenReturn(new IAnimalRepositoryCustom.SearchResult(
+                Page.empty(), new AnimalFacetsDto(Map.of(), Map.of(), Map.of())));
+        service.search(filter, PageRequest.of(0, 10, Sort.by("name")));
+        verify(repository).search(eq("rex"), any(Criteria.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao BUSCAR com filtros inválidos ou intervalos invertidos.")
+    void testSearch_ShouldThrowIllegalArgumentException() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> service.search(new AnimalSearchFilterDto(
+                null, null, null, "indefinido", null, null, null, null, null), pageable));
+        assertThrows(IllegalArgumentException.class, () -> service.search(new AnimalSearchFilterDto(
+                null, null, null, null, null, 5000, 500, null, null), pageable));
+        assertThrows(IllegalArgumentException.class, () -> service.search(new AnimalSearchFilterDto(
+                null, null, null, null, null, null, null, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 1, 1)), pageable));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar os animais próximos ao ponto informado, filtrando por status e tipo.")
+    void testFindNearby_ShouldReturnAnimalsWithDistance() {
+        Pageable pageable = PageRequest.of(0, 10);
+        AnimalResponseDto rex = AnimalMapper.toDTO(createAnimal("1", "Rex", AnimalType.CACHORRO, AnimalSex.MACHO),
+                createAuthor("1"), 2.5);
+
+        when(repository.findNearby(any(GeoJsonPoint.class), eq(5.0), any(Criteria.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(rex), pageable, 1));
+
+        Page<AnimalResponseDto> result = service.findNearby(-23.5505, -46.6333, 5, null, "cachorro", pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(2.5, result.getContent().getFirst().distance());
+
+        ArgumentCaptor<GeoJsonPoint> point = ArgumentCaptor.forClass(GeoJsonPoint.class);
+        ArgumentCaptor<Criteria> captor = ArgumentCaptor.forClass(Criteria.class);
+        verify(repository).findNearby(point.capture(), eq(5.0), captor.capture(), eq(pageable));
+        assertEquals(new GeoJsonPoint(-46.6333, -23.5505), point.getValue());
+        Document criteria = captor.getValue().getCriteriaObject();
+        assertEquals(AdoptionStatus.DISPONIVEL, criteria.get("status"));
+        assertEquals(AnimalType.CACHORRO, criteria.get("type"));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao buscar animais próximos com coordenadas, raio ou filtros inválidos.")
+    void testFindNearby_ShouldThrowIllegalArgumentException() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> service.findNearby(91, 0, 5, null, null, pageable));
+        assertThrows(IllegalArgumentException.class, () -> service.findNearby(0, -181, 5, null, null, pageable));
+        assertThrows(IllegalArgumentException.class, () -> service.findNearby(0, 0, 0, null, null, pageable));
+        assertThrows(IllegalArgumentException.class, () -> service.findNearby(0, 0, 501, null, null, pageable));
+        assertThrows(IllegalArgumentException.class, () -> service.findNearby(0, 0, 5, null, "dragao", pageable));
+        verifyNoInteractions(repository);
+    }
+
     AnimalRequestDto createAnimalRequestDto(String name, String type, String sex) {
         return new AnimalRequestDto(
                 name,
@@ -290,14 +577,36 @@ class AnimalServiceTest {
                 type,
                 sex,
                 "pequeno",
-                "Animal docil"
+                "Animal docil",
+                null,
+                null
         );
     }
 
+    Answer<Optional<Animal>> applyUpdate(Animal animal) {
+        return invocation -> {
+            Update update = invocation.getArgument(2);
+            Document set = update.getUpdateObject().get("$set", Document.class);
+            animal.setName(set.getString("name"));
+            animal.setType((AnimalType) set.get("type"));
+            animal.setSex((AnimalSex) set.get("sex"));
+            if (set.containsKey("imagePath")) {
+                animal.setImagePath(set.getString("imagePath"));
+                animal.setThumbnailPath(null);
+                animal.setMediumPath(null);
+            }
+            return Optional.of(animal);
+        };
+    }
+
+    UserSummaryDto createAuthor(String id) {
+        return new UserSummaryDto(id, "Teste");
+    }
+
     User createUser(String id) {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return User.builder()
                 .id(id)
@@ -310,9 +619,9 @@ class AnimalServiceTest {
     }
 
     Animal createAnimal(String id, String name, AnimalType type, AnimalSex sex) {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return Animal.builder()
                 .id(id)
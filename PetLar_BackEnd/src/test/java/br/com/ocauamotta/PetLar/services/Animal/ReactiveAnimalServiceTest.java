@@ -0,0 +1,146 @@
+package br.com.ocauamotta.PetLar.services.Animal;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalResponseDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.exceptions.EntityNotFoundException;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.repositories.reactive.IReactiveAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.reactive.IReactiveUserRepository;
+import br.com.ocauamotta.PetLar.services.ReactiveAnimalService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAnimalServiceTest {
+
+    @Mock
+    private IReactiveAnimalRepository repository;
+
+    @Mock
+    private IReactiveUserRepository userRepository;
+
+    @InjectMocks
+    private ReactiveAnimalService service;
+
+    @Test
+    @DisplayName("findAll: deve combinar o conteúdo, o total e os autores da página.")
+    void testFindAll_HappyPath() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(repository.findByStatus(AdoptionStatus.DISPONIVEL, pageable)).thenReturn(Flux.just(createAnimal()));
+        when(repository.countByStatus(AdoptionStatus.DISPONIVEL)).thenReturn(Mono.just(11L));
+        when(userRepository.findSummariesByIdIn(Set.of("1"))).thenReturn(Flux.just(createAuthor()));
+
+        Page<AnimalResponseDto> response = service.findAll(pageable, "disponivel", null).block();
+
+        assertNotNull(response);
+        assertEquals(11, response.getTotalElements());
+        assertEquals(2, response.getTotalPages());
+        assertEquals("Rex", response.getContent().getFirst().name());
+        assertEquals("1", response.getContent().getFirst().author().id());
+    }
+
+    @Test
+    @DisplayName("findAll: deve filtrar por tipo quando informado.")
+    void testFindAll_WithType() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(repository.findByStatusAndType(AdoptionStatus.DISPONIVEL, AnimalType.CACHORRO, pageable))
+                .thenReturn(Flux.just(createAnimal()));
+        when(repository.countByStatusAndType(AdoptionStatus.DISPONIVEL, AnimalType.CACHORRO)).thenReturn(Mono.just(1L));
+        when(userRepository.findSummariesByIdIn(Set.of("1"))).thenReturn(Flux.just(createAuthor()));
+
+        Page<AnimalResponseDto> response = service.findAll(pageable, "disponivel", "cachorro").block();
+
+        assertNotNull(response);
+        assertEquals(1, response.getTotalElements());
+        verify(repository, never()).findByStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("findAll: não deve buscar autores quando a página estiver vazia.")
+    void testFindAll_EmptyPage() {
+        PageRequest pageable = PageRequest.of(5, 10);
+        when(repository.findByStatus(AdoptionStatus.DISPONIVEL, pageable)).thenReturn(Flux.empty());
+        when(repository.countByStatus(AdoptionStatus.DISPONIVEL)).thenReturn(Mono.just(0L));
+
+        Page<AnimalResponseDto> response = service.findAll(pageable, "disponivel", null).block();
+
+        assertNotNull(response);
+        assertTrue(response.getContent().isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("findAll: deve lançar EntityNotFoundException quando o autor não existir.")
+    void testFindAll_AuthorNotFound() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(repository.findByStatus(AdoptionStatus.DISPONIVEL, pageable)).thenReturn(Flux.just(createAnimal()));
+        when(repository.countByStatus(AdoptionStatus.DISPONIVEL)).thenReturn(Mono.just(1L));
+        when(userRepository.findSummariesByIdIn(Set.of("1"))).thenReturn(Flux.empty());
+
+        Mono<Page<AnimalResponseDto>> response = service.findAll(pageable, "disponivel", null);
+
+        assertThrows(EntityNotFoundException.class, response::block);
+    }
+
+    @Test
+    @DisplayName("findById: deve retornar o animal com o autor.")
+    void testFindById_HappyPath() {
+        when(repository.findById("1")).thenReturn(Mono.just(createAnimal()));
+        when(userRepository.findSummaryById("1")).thenReturn(Mono.just(createAuthor()));
+
+        AnimalResponseDto response = service.findById("1").block();
+
+        assertNotNull(response);
+        assertEquals("1", response.id());
+        assertEquals("1", response.author().id());
+    }
+
+    @Test
+    @DisplayName("findById: deve lançar EntityNotFoundException quando o animal não existir.")
+    void testFindById_NotFound() {
+        when(repository.findById("99")).thenReturn(Mono.empty());
+
+        EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () -> service.findById("99").block());
+
+        assertEquals("Nenhum registro encontrado com ID - 99", ex.getMessage());
+        verifyNoInteractions(userRepository);
+    }
+
+    Animal createAnimal() {
+        return Animal.builder()
+                .id("1")
+                .name("Rex")
+                .birthDate(LocalDate.of(2025, 10, 10))
+                .weight(1200)
+                .type(AnimalType.CACHORRO)
+                .sex(AnimalSex.MACHO)
+                .size(AnimalSize.PEQUENO)
+                .status(AdoptionStatus.DISPONIVEL)
+                .authorId("1")
+                .description("Animal docil")
+                .build();
+    }
+
+    UserSummaryDto createAuthor() {
+        return new UserSummaryDto("1", "Teste");
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.ocauamotta.PetLar.services.Auth;
+
+import br.com.ocauamotta.PetLar.models.User;
+import br.com.ocauamotta.PetLar.services.AuthService;
+import br.com.ocauamotta.PetLar.services.PrincipalCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheServiceTest {
+
+    @Mock
+    private AuthService authService;
+
+    @InjectMocks
+    private PrincipalCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxSize", 100L);
+        ReflectionTestUtils.setField(service, "ttl", Duration.ofMinutes(5));
+        service.init();
+    }
+
+    @Test
+    @DisplayName("Deve consultar o repositório apenas na primeira autenticação do usuário.")
+    void testGetOrLoad_ShouldLoadOnlyOnce() {
+        when(authService.loadUserByUsername("user@teste.com")).thenReturn(createUser());
+
+        User first = service.getOrLoad("user@teste.com", Instant.now().plusSeconds(3600));
+        User second = service.getOrLoad("USER@teste.com", Instant.now().plusSeconds(3600));
+
+        assertEquals("1", first.getId());
+        assertEquals("1", second.getId());
+        assertNotSame(first, second);
+        verify(authService, times(1)).loadUserByUsername("user@teste.com");
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o usuário após a invalidação do cache.")
+    void testEvict_ShouldReloadUser() {
+        when(authService.loadUserByUsername("user@teste.com")).thenReturn(createUser());
+
+        service.getOrLoad("user@teste.com", Instant.now().plusSeconds(3600));
+        service.evict("user@teste.com");
+        service.getOrLoad("user@teste.com", Instant.now().plusSeconds(3600));
+
+        verify(authService, times(2)).loadUserByUsername("user@teste.com");
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção quando o usuário não for encontrado.")
+    void testGetOrLoad_ShouldThrowUsernameNotFoundException() {
+        when(authService.loadUserByUsername("user@teste.com"))
+                .thenThrow(new UsernameNotFoundException("Usuário não encontrado."));
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> service.getOrLoad("user@teste.com", Instant.now().plusSeconds(3600)));
+    }
+
+    User createUser() {
+        return User.builder()
+                .id("1")
+                .email("user@teste.com")
+                .password("secretPassword")
+                .name("Teste")
+                .build();
+    }
+}
@@ -0,0 +1,200 @@
+package br.com.ocauamotta.PetLar.services.ChangeStream;
+
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.events.AdoptionDocumentChangedEvent;
+import br.com.ocauamotta.PetLar.events.AnimalDocumentChangedEvent;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.services.ChangeStreamService;
+import com.mongodb.client.model.changestream.OperationType;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Executa o barramento de change streams sobre um MongoDB embarcado iniciado como replica set.
+ */
+@DataMongoTest(properties = {
+        "de.flapdoodle.mongodb.embedded.storage.repl-set-name=rs0",
+        "api.events.change-streams.enabled=true",
+        "api.events.change-streams.queue-capacity=2"
+})
+@Import({ChangeStreamService.class, ChangeStreamServiceIT.EventCollector.class})
+class ChangeStreamServiceIT {
+
+    private static final String TOKENS_COLLECTION = "ChangeStreamTokens";
+
+    @Autowired
+    private ChangeStreamService service;
+
+    @Autowired
+    private EventCollector collector;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+        mongoTemplate.dropCollection(Animal.class);
+        mongoTemplate.dropCollection(Adoption.class);
+        mongoTemplate.dropCollection(TOKENS_COLLECTION);
+        collector.animals.clear();
+        collector.adoptions.clear();
+    }
+
+    @Test
+    @DisplayName("Deve entregar as alterações de animais e adoções como eventos tipados, na ordem em que ocorreram.")
+    void testShouldPublishTypedEvents() throws InterruptedException {
+        Animal animal = mongoTemplate.insert(createAnimal("Rex"));
+        mongoTemplate.updateFirst(query(where("id").is(animal.getId())),
+                new Update().set("status", AdoptionStatus.PENDENTE), Animal.class);
+        Adoption adoption = mongoTemplate.insert(Adoption.builder()
+                .animalId(animal.getId())
+                .status(AdoptionStatus.PENDENTE)
+                .build());
+        mongoTemplate.remove(animal);
+
+        AnimalDocumentChangedEvent inserted = next(collector.animals);
+        assertEquals(animal.getId(), inserted.animalId());
+        assertEquals(OperationType.INSERT, inserted.operation());
+        assertEquals("Rex", inserted.animal().getName());
+
+        AnimalDocumentChangedEvent updated = next(collector.animals);
+        assertEquals(OperationType.UPDATE, updated.operation());
+
+        AnimalDocumentChangedEvent deleted = next(collector.animals);
+        assertEquals(OperationType.DELETE, deleted.operation());
+        assertNull(deleted.animal());
+
+        AdoptionDocumentChangedEvent adoptionEvent = next(collector.adoptions);
+        assertEquals(adoption.getId(), adoptionEvent.adoptionId());
+        assertEquals(AdoptionStatus.PENDENTE, adoptionEvent.adoption().getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve retomar a leitura a partir do resume token gravado, entregando as alterações feitas com o barramento parado.")
+    void testShouldResumeFromPersistedToken() throws InterruptedException {
+        Animal rex = mongoTemplate.insert(createAnimal("Rex"));
+        assertEquals(rex.getId(), next(collector.animals).animalId());
+
+        service.stop();
+        Animal luna = mongoTemplate.insert(createAnimal("Luna"));
+        start();
+
+        AnimalDocumentChangedEvent resumed = next(collector.animals);
+        if (resumed.animalId().equals(rex.getId())) {
+            resumed = next(collector.animals);
+        }
+        assertEquals(luna.getId(), resumed.animalId());
+        assertEquals(OperationType.INSERT, resumed.operation());
+    }
+
+    @Test
+    @DisplayName("Deve publicar sem o documento as alterações que não podem ser convertidas, sem interromper a leitura.")
+    void testShouldSkipDocumentsThatCannotBeMapped() throws InterruptedException {
+        ObjectId invalidId = new ObjectId();
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Animal.class))
+                .insertOne(new Document("_id", invalidId).append("name", "Legado").append("type", "DRAGAO"));
+        Animal valid = mongoTemplate.insert(createAnimal("Rex"));
+
+        AnimalDocumentChangedEvent invalid = next(collector.animals);
+        assertEquals(invalidId.toHexString(), invalid.animalId());
+        assertEquals(OperationType.INSERT, invalid.operation());
+        assertNull(invalid.animal());
+
+        AnimalDocumentChangedEvent next = next(collector.animals);
+        assertEquals(valid.getId(), next.animalId());
+        assertEquals("Rex", next.animal().getName());
+    }
+
+    @Test
+    @DisplayName("Deve entregar todas as alterações mesmo quando a fila limitada estiver cheia.")
+    void testShouldApplyBackPressure() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            mongoTemplate.insert(createAnimal("Animal " + i));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("Animal " + i, next(collector.animals).animal().getName());
+        }
+    }
+
+    /**
+     * Inicia o barramento e aguarda que a leitura das duas coleções esteja aberta.
+     */
+    void start() throws InterruptedException {
+        service.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (mongoTemplate.getCollection(TOKENS_COLLECTION).countDocuments() < 2) {
+            if (System.nanoTime() > deadline) fail("O change stream não foi aberto.");
+            Thread.sleep(50);
+        }
+    }
+
+    <E> E next(BlockingQueue<E> events) throws InterruptedException {
+        E event = events.poll(10, TimeUnit.SECONDS);
+        assertNotNull(event, "Nenhum evento recebido.");
+        return event;
+    }
+
+    Animal createAnimal(String name) {
+        return Animal.builder()
+                .name(name)
+                .birthDate(LocalDate.of(2025, 10, 10))
+                .weight(1200)
+                .type(AnimalType.CACHORRO)
+                .sex(AnimalSex.MACHO)
+                .size(AnimalSize.PEQUENO)
+                .status(AdoptionStatus.DISPONIVEL)
+                .authorId("1")
+                .description("Animal docil")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    static class EventCollector {
+
+        final BlockingQueue<AnimalDocumentChangedEvent> animals = new LinkedBlockingQueue<>();
+        final BlockingQueue<AdoptionDocumentChangedEvent> adoptions = new LinkedBlockingQueue<>();
+
+        @EventListener
+        public void onAnimal(AnimalDocumentChangedEvent event) {
+            animals.add(event);
+        }
+
+        @EventListener
+        public void onAdoption(AdoptionDocumentChangedEvent event) {
+            adoptions.add(event);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package br.com.ocauamotta.PetLar.services.Export;
+
+import br.com.ocauamotta.PetLar.dtos.Animal.AnimalSummaryDto;
+import br.com.ocauamotta.PetLar.dtos.User.UserSummaryDto;
+import br.com.ocauamotta.PetLar.enums.AdoptionStatus;
+import br.com.ocauamotta.PetLar.enums.AnimalSex;
+import br.com.ocauamotta.PetLar.enums.AnimalSize;
+import br.com.ocauamotta.PetLar.enums.AnimalType;
+import br.com.ocauamotta.PetLar.enums.FileFormat;
+import br.com.ocauamotta.PetLar.models.Adoption;
+import br.com.ocauamotta.PetLar.models.Animal;
+import br.com.ocauamotta.PetLar.models.User;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepository;
+import br.com.ocauamotta.PetLar.repositories.IUserRepository;
+import br.com.ocauamotta.PetLar.services.ExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IAnimalRepository animalRepository;
+
+    @Mock
+    private IUserRepository userRepository;
+
+    @InjectMocks
+    private ExportService service;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "objectMapper", objectMapper);
+    }
+
+    @Test
+    @DisplayName("Deve exportar os animais em NDJSON, buscando os autores em lote a cada bloco.")
+    void testExportAnimals_ShouldWriteNdjsonInChunks() throws Exception {
+        List<Animal> animals = IntStream.range(0, 501).mapToObj(i -> createAnimal(String.valueOf(i))).toList();
+        when(mongoTemplate.stream(any(Query.class), eq(Animal.class))).thenReturn(animals.stream());
+        when(userRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of(new UserSummaryDto("1", "Abrigo")));
+
+        String content = export(service.exportAnimals(FileFormat.NDJSON, "disponivel", null));
+
+        String[] lines = content.split("\n");
+        assertEquals(501, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("0", first.get("id").asText());
+        assertEquals("Abrigo", first.get("author").get("name").asText());
+        assertEquals("/public/animals/rex.jpg", first.get("imagePath").asText());
+        verify(userRepository, times(2)).findSummariesByIdIn(anyCollection());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(Animal.class));
+        assertEquals("DISPONIVEL", query.getValue().getQueryObject().get("status").toString());
+    }
+
+    @Test
+    @DisplayName("Deve exportar as adoções em CSV com cabeçalho e valores escapados.")
+    void testExportAdoptions_ShouldWriteCsv() throws Exception {
+        Adoption adoption = Adoption.builder()
+                .id("10")
+                .animalId("1")
+                .animalOwnerId("1")
+                .adopterId("2")
+                .status(AdoptionStatus.PENDENTE)
+                .reason("Tenho quintal, \"amplo\" e tempo")
+                .createdAt(Instant.parse("2025-10-15T15:05:10Z"))
+                .updatedAt(Instant.parse("2025-10-15T15:05:10Z"))
+                .build();
+        when(mongoTemplate.stream(any(Query.class), eq(Adoption.class))).thenReturn(Stream.of(adoption));
+        when(animalRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of(new AnimalSummaryDto(
+                "1", "Rex", LocalDate.of(2025, 10, 10), 1200, AnimalType.CACHORRO, AnimalSex.MACHO,
+                AnimalSize.MEDIO, null, null, null, null)));
+        when(userRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of(
+                new UserSummaryDto("1", "Abrigo"), new UserSummaryDto("2", "Adotante")));
+
+        String content = export(service.exportAdoptionsRequestedBy(FileFormat.CSV, createUser()));
+
+        assertEquals("""
+                id,status,animalId,animalName,animalOwnerId,animalOwnerName,adopterId,adopterName,reason,createdAt,updatedAt
+                10,PENDENTE,1,Rex,1,Abrigo,2,Adotante,"Tenho quintal, ""amplo"" e tempo",\
+                2025-10-15T12:05:10-03:00[America/Sao_Paulo],2025-10-15T12:05:10-03:00[America/Sao_Paulo]
+                """, content);
+    }
+
+    @Test
+    @DisplayName("Deve escrever apenas o cabeçalho quando não houver registros.")
+    void testExportAnimals_ShouldWriteOnlyHeaderWhenEmpty() throws Exception {
+        when(mongoTemplate.stream(any(Query.class), eq(Animal.class))).thenReturn(Stream.empty());
+
+        String content = export(service.exportAnimals(FileFormat.CSV, null, null));
+
+        assertTrue(content.startsWith("id,name,birthDate"));
+        assertEquals(1, content.split("\n").length);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para filtros inválidos antes de iniciar a resposta.")
+    void testExportAnimals_ShouldValidateFiltersEagerly() {
+        assertThrows(IllegalArgumentException.class, () -> service.exportAnimals(FileFormat.NDJSON, "invalido", null));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve montar o download com os cabeçalhos do arquivo e o tempo limite das exportações.")
+    void testDownload_ShouldUseExportTimeout() throws Exception {
+        ReflectionTestUtils.setField(service, "timeout", Duration.ofMinutes(30));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        WebAsyncTask<Void> task = service.download(FileFormat.CSV, "animals",
+                out -> out.write("id\n1\n".getBytes(StandardCharsets.UTF_8)), response);
+
+        assertEquals(Duration.ofMinutes(30).toMillis(), task.getTimeout());
+        assertEquals("text/csv", response.getContentType());
+        assertEquals("attachment; filename=\"animals.csv\"", response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+
+        task.getCallable().call();
+
+        assertEquals("id\n1\n", response.getContentAsString());
+        assertTrue(response.isCommitted());
+    }
+
+    String export(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    Animal createAnimal(String id) {
+        return Animal.builder()
+                .id(id)
+                .name("Rex")
+                .birthDate(LocalDate.of(2025, 10, 10))
+                .weight(1200)
+                .type(AnimalType.CACHORRO)
+                .sex(AnimalSex.MACHO)
+                .size(AnimalSize.MEDIO)
+                .status(AdoptionStatus.DISPONIVEL)
+                .authorId("1")
+                .imagePath("uploads/animals/rex.jpg")
+                .createdAt(Instant.parse("2025-10-15T15:05:10Z"))
+                .updatedAt(Instant.parse("2025-10-15T15:05:10Z"))
+                .build();
+    }
+
+    User createUser() {
+        return User.builder()
+                .id("2")
+                .name("Adotante")
+                .email("adotante@teste.com")
+                .build();
+    }
+}
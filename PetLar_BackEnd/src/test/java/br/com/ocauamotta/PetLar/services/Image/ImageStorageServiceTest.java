@@ -0,0 +1,103 @@
+package br.com.ocauamotta.PetLar.services.Image;
+
+import br.com.ocauamotta.PetLar.services.ImageStorageService;
+import br.com.ocauamotta.PetLar.validations.Image.FileIsImageValidation;
+import br.com.ocauamotta.PetLar.validations.Image.ImageSizeValidation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@Import({ImageStorageService.class, FileIsImageValidation.class, ImageSizeValidation.class, SimpleMeterRegistry.class})
+class ImageStorageServiceTest {
+
+    @Autowired
+    private ImageStorageService service;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String storedPath;
+
+    @AfterEach
+    void tearDown() {
+        if (storedPath != null) {
+            service.delete(storedPath);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar a imagem com o conteúdo íntegro e a extensão do formato detectado.")
+    void testStore_ShouldWriteImageWithDetectedExtension() throws Exception {
+        byte[] content = png(500_000);
+        MockMultipartFile image = new MockMultipartFile("image", "foto.txt", "text/plain", content);
+
+        storedPath = service.store(image);
+
+        assertTrue(storedPath.startsWith("uploads/animals/"));
+        assertTrue(storedPath.endsWith(".png"));
+        assertArrayEquals(content, Files.readAllBytes(Paths.get(storedPath)));
+    }
+
+    @Test
+    @DisplayName("Não deve deixar arquivos temporários após a gravação.")
+    void testStore_ShouldNotLeaveTemporaryFiles() throws Exception {
+        storedPath = service.store(new MockMultipartFile("image", "foto.png", "image/png", png(10_000)));
+
+        try (var files = Files.list(Path.of("tmp/uploads"))) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().startsWith("upload-")));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve registrar o tempo de gravação e a quantidade de bytes de cada imagem.")
+    void testStore_ShouldRecordUploadMetrics() {
+        DistributionSummary uploaded = meterRegistry.get("petlar.images.uploaded").summary();
+        long count = uploaded.count();
+        double total = uploaded.totalAmount();
+
+        storedPath = service.store(new MockMultipartFile("image", "foto.png", "image/png", png(20_000)));
+
+        assertEquals(count + 1, uploaded.count());
+        assertEquals(total + 20_000, uploaded.totalAmount());
+        assertTrue(meterRegistry.get("petlar.images.store").timer().count() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o conteúdo do arquivo não for uma imagem.")
+    void testStore_ShouldThrowExceptionWhenContentIsNotAnImage() {
+        MockMultipartFile image = new MockMultipartFile("image", "foto.png", "image/png", new byte[1_000]);
+
+        assertThrows(IllegalArgumentException.class, () -> service.store(image));
+    }
+
+    @Test
+    @DisplayName("Deve retornar nulo quando nenhuma imagem for enviada.")
+    void testStore_ShouldReturnNullWhenImageIsNull() {
+        assertNull(service.store(null));
+    }
+
+    byte[] png(int size) {
+        byte[] content = new byte[size];
+        byte[] header = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(header, 0, content, 0, header.length);
+        for (int i = header.length; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+}
@@ -0,0 +1,204 @@
+package br.com.ocauamotta.PetLar.services.Image;
+
+import br.com.ocauamotta.PetLar.services.ImageStorageService;
+import br.com.ocauamotta.PetLar.validations.Image.FileIsImageValidation;
+import br.com.ocauamotta.PetLar.validations.Image.ImageSizeValidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de carga do upload de imagens: 200 envios paralelos de um arquivo de ~1,9 MB.
+ * <p>
+ * O {@code MockMultipartFile} mantém todo o conteúdo em memória, o que esconderia a diferença
+ * entre as abordagens. Por isso o envio é simulado por um {@code MultipartFile} lido do disco,
+ * como o Tomcat faz com as partes recebidas. A alocação de heap é medida por thread, e o
+ * streaming é executado com imagens de tamanhos diferentes para mostrar que o custo não cresce.
+ */
+@ExtendWith(SpringExtension.class)
+@Import({ImageStorageService.class, FileIsImageValidation.class, ImageSizeValidation.class, SimpleMeterRegistry.class})
+class ImageUploadLoadIT {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageUploadLoadIT.class);
+
+    private static final int UPLOADS = 200;
+    private static final int IMAGE_SIZE = 1_900_000;
+    private static final int SMALL_IMAGE_SIZE = 100_000;
+
+    private static Path source;
+    private static Path smallSource;
+
+    @Autowired
+    private ImageStorageService service;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        source = createJpeg(IMAGE_SIZE);
+        smallSource = createJpeg(SMALL_IMAGE_SIZE);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(smallSource);
+    }
+
+    @Test
+    @DisplayName("O upload em streaming deve alocar memória constante, independente do tamanho da imagem.")
+    void testStore_ParallelUploadsShouldKeepHeapConstant() throws Exception {
+        averageAllocatedBytes(service::store, smallSource);
+
+        long legacy = averageAllocatedBytes(this::legacyStore, source);
+        long streamingSmall = averageAllocatedBytes(service::store, smallSource);
+        long streaming = averageAllocatedBytes(service::store, source);
+
+        log.info("Heap alocado por upload (média de {} envios paralelos): "
+                        + "getBytes={} KB, streaming={} KB (imagem de {} KB: {} KB)",
+                UPLOADS, legacy / 1024, streaming / 1024, SMALL_IMAGE_SIZE / 1024, streamingSmall / 1024);
+
+        assertTrue(legacy >= IMAGE_SIZE, "A abordagem anterior deveria alocar ao menos o tamanho da imagem.");
+        assertTrue(streaming < IMAGE_SIZE / 4, "O streaming alocou " + streaming + " bytes por upload.");
+        assertTrue(streaming - streamingSmall < SMALL_IMAGE_SIZE,
+                "A alocação do streaming cresceu com o tamanho da imagem: " + streamingSmall + " -> " + streaming);
+    }
+
+    /**
+     * Executa os envios em paralelo e retorna a média de bytes alocados por upload.
+     */
+    long averageAllocatedBytes(Function<MultipartFile, String> store, Path source) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ExecutorService executor = Executors.newFixedThreadPool(UPLOADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < UPLOADS; i++) {
+                Callable<Long> upload = () -> {
+                    MultipartFile image = new DiskMultipartFile(source);
+                    start.await();
+
+                    long before = threads.getCurrentThreadAllocatedBytes();
+                    String path = store.apply(image);
+                    long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+                    Files.deleteIfExists(Paths.get(path));
+                    return allocated;
+                };
+                futures.add(executor.submit(upload));
+            }
+
+            start.countDown();
+
+            long total = 0;
+            for (Future<Long> future : futures) {
+                total += future.get(60, TimeUnit.SECONDS);
+            }
+            return total / UPLOADS;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static Path createJpeg(int size) throws IOException {
+        byte[] content = new byte[size];
+        content[0] = (byte) 0xFF;
+        content[1] = (byte) 0xD8;
+        content[2] = (byte) 0xFF;
+        Path path = Files.createTempFile("upload-load", ".jpg");
+        Files.write(path, content);
+        return path;
+    }
+
+    /**
+     * Reprodução da gravação anterior, que carregava a imagem inteira em memória.
+     */
+    String legacyStore(MultipartFile image) {
+        try {
+            Path path = Paths.get("uploads/animals").resolve(UUID.randomUUID() + ".jpg");
+            Files.createDirectories(path.getParent());
+            Files.write(path, image.getBytes());
+            return path.toString();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * {@code MultipartFile} cujo conteúdo é lido do disco sob demanda.
+     */
+    record DiskMultipartFile(Path path) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "image";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "image.jpg";
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException ex) {
+                return 0;
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(path, dest.toPath());
+        }
+    }
+}
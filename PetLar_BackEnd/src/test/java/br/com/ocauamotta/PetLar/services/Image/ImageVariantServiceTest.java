@@ -0,0 +1,108 @@
+package br.com.ocauamotta.PetLar.services.Image;
+
+import br.com.ocauamotta.PetLar.enums.ImageVariant;
+import br.com.ocauamotta.PetLar.events.AnimalChangedEvent;
+import br.com.ocauamotta.PetLar.repositories.IAnimalRepository;
+import br.com.ocauamotta.PetLar.services.ImageStorageService;
+import br.com.ocauamotta.PetLar.services.ImageVariantService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+    @Mock
+    private IAnimalRepository repository;
+
+    @Mock
+    private ImageStorageService imageStorageService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ImageVariantService service;
+
+    private String imagePath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        imagePath = "uploads/animals/" + UUID.randomUUID() + ".png";
+        Files.createDirectories(Paths.get("uploads/animals"));
+        ImageIO.write(new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_ARGB), "png", Paths.get(imagePath).toFile());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(Paths.get(imagePath));
+        for (ImageVariant variant : ImageVariant.values()) {
+            Files.deleteIfExists(Paths.get(ImageVariantService.variantPath(imagePath, variant)));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar as variações redimensionadas em JPEG e registrá-las no animal.")
+    void testGenerate_ShouldWriteVariantsAndUpdateAnimal() throws IOException {
+        String thumbnailPath = ImageVariantService.variantPath(imagePath, ImageVariant.THUMBNAIL);
+        String mediumPath = ImageVariantService.variantPath(imagePath, ImageVariant.MEDIUM);
+
+        when(repository.updateImageVariants("1", imagePath, thumbnailPath, mediumPath)).thenReturn(true);
+
+        service.generate("1", imagePath);
+
+        BufferedImage thumbnail = ImageIO.read(Paths.get(thumbnailPath).toFile());
+        assertEquals(320, thumbnail.getWidth());
+        assertEquals(240, thumbnail.getHeight());
+
+        BufferedImage medium = ImageIO.read(Paths.get(mediumPath).toFile());
+        assertEquals(960, medium.getWidth());
+        assertEquals(720, medium.getHeight());
+
+        assertTrue(thumbnailPath.endsWith("_thumb.jpg"));
+        verify(repository).updateImageVariants("1", imagePath, thumbnailPath, mediumPath);
+        verify(eventPublisher).publishEvent(new AnimalChangedEvent("1"));
+        verifyNoInteractions(imageStorageService);
+    }
+
+    @Test
+    @DisplayName("Deve descartar as variações quando a imagem do animal tiver sido substituída.")
+    void testGenerate_ShouldDiscardVariantsWhenImageChanged() {
+        when(repository.updateImageVariants(eq("1"), eq(imagePath), anyString(), anyString())).thenReturn(false);
+
+        service.generate("1", imagePath);
+
+        verify(imageStorageService).delete(ImageVariantService.variantPath(imagePath, ImageVariant.THUMBNAIL));
+        verify(imageStorageService).delete(ImageVariantService.variantPath(imagePath, ImageVariant.MEDIUM));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Não deve atualizar o animal quando a imagem não puder ser decodificada.")
+    void testGenerate_ShouldIgnoreUnreadableImage() throws IOException {
+        Files.write(Paths.get(imagePath), new byte[100]);
+
+        service.generate("1", imagePath);
+
+        verifyNoInteractions(repository, imageStorageService);
+        assertFalse(Files.exists(Path.of(ImageVariantService.variantPath(imagePath, ImageVariant.THUMBNAIL))));
+    }
+}
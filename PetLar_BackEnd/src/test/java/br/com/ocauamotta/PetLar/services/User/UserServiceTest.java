@@ -1,15 +1,19 @@
 package br.com.ocauamotta.PetLar.services.User;
 
 import br.com.ocauamotta.PetLar.dtos.User.*;
+import br.com.ocauamotta.PetLar.exceptions.EntityNotFoundException;
 import br.com.ocauamotta.PetLar.exceptions.User.DuplicateEmailException;
 import br.com.ocauamotta.PetLar.exceptions.User.SamePasswordException;
+import br.com.ocauamotta.PetLar.mappers.DateMapper;
 import br.com.ocauamotta.PetLar.models.User;
 import br.com.ocauamotta.PetLar.repositories.IUserRepository;
+import br.com.ocauamotta.PetLar.services.PrincipalCacheService;
 import br.com.ocauamotta.PetLar.services.TokenService;
 import br.com.ocauamotta.PetLar.services.UserService;
 import br.com.ocauamotta.PetLar.validations.User.SamePasswordUserValidation;
 import br.com.ocauamotta.PetLar.validations.User.ExistsButDeletedUserValidation;
 import br.com.ocauamotta.PetLar.validations.User.ExistsUserValidation;
+import org.bson.Document;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,14 +21,20 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +49,9 @@ class UserServiceTest {
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private PrincipalCacheService principalCacheService;
+
     @Mock
     private ExistsUserValidation userExistsValidation;
 
@@ -93,16 +106,21 @@ class UserServiceTest {
     @DisplayName("Deve atualizar um usuário sem alterar o email e sem gerar um novo token.")
     void testUpdate_ShouldReturnAnUpdatedUser() {
         User user = createUser();
-        String time = user.getUpdatedAt();
+        String time = DateMapper.toText(user.getUpdatedAt());
         UserUpdateRequestDto dto = new UserUpdateRequestDto("user@teste.com", "Teste da Silva");
 
-        when(repository.save(any(User.class))).thenAnswer(returnsFirstArg());
+        when(repository.updateFields(eq("1"), any(Update.class))).thenAnswer(applyUpdate(user));
 
         UserUpdateResponseDto userUpdateResponseDto = service.update(dto, user);
 
         assertNotNull(userUpdateResponseDto);
         assertNull(userUpdateResponseDto.newToken());
 
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(repository).updateFields(eq("1"), updateCaptor.capture());
+        Document set = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+        assertEquals(Set.of("name", "updatedAt"), set.keySet());
+
         UserResponseDto userResponseDto = userUpdateResponseDto.userResponseDto();
         assertNotNull(userUpdateResponseDto.userResponseDto());
         assertEquals("Teste da Silva", userResponseDto.name());
@@ -114,10 +132,10 @@ class UserServiceTest {
     @DisplayName("Deve atualizar um usuário com email diferente e gerar um novo token.")
     void testUpdate_ShouldReturnAnUpdatedUserWithToken() {
         User user = createUser();
-        String time = user.getUpdatedAt();
+        String time = DateMapper.toText(user.getUpdatedAt());
         UserUpdateRequestDto dto = new UserUpdateRequestDto("novo.email@teste.com", "Teste da Silva");
 
-        when(repository.save(any(User.class))).thenAnswer(returnsFirstArg());
+        when(repository.updateFields(eq("1"), any(Update.class))).thenAnswer(applyUpdate(user));
         when(tokenService.generateToken(any(User.class))).thenReturn("novoToken");
 
         UserUpdateResponseDto userUpdateResponseDto = service.update(dto, user);
@@ -130,6 +148,7 @@ class UserServiceTest {
         assertEquals("Teste da Silva", userResponseDto.name());
         assertEquals("novo.email@teste.com", userResponseDto.email());
         assertNotEquals(time, userResponseDto.updatedAt());
+        verify(principalCacheService).evict("user@teste.com");
     }
 
     @Test
@@ -149,24 +168,24 @@ class UserServiceTest {
     @DisplayName("Deve atualizar a senha com sucesso.")
     void testChangePassword_ShouldUpdatePassword() {
         User user = createUser();
-        String time = user.getUpdatedAt();
+        String time = DateMapper.toText(user.getUpdatedAt());
         UserChangePasswordDto dto = new UserChangePasswordDto("123456789");
 
         when(encoder.encode("123456789")).thenReturn("encryptedPassword");
-        when(repository.save(any(User.class))).thenAnswer(returnsFirstArg());
+        when(repository.updateFields(eq("1"), any(Update.class))).thenAnswer(applyUpdate(user));
 
         UserResponseDto updatedUser = service.changePassword(dto, user);
 
         assertNotNull(updatedUser);
         assertNotEquals(time, updatedUser.updatedAt());
 
-        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(repository).save(userCaptor.capture());
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(repository).updateFields(eq("1"), updateCaptor.capture());
 
-        User savedEntity = userCaptor.getValue();
-
-        assertNotEquals("123456789", savedEntity.getPassword());
-        assertNotEquals("secretPassword", savedEntity.getPassword());
+        Document set = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+        assertEquals(Set.of("password", "updatedAt"), set.keySet());
+        assertEquals("encryptedPassword", set.getString("password"));
+        verify(principalCacheService).evict("user@teste.com");
     }
 
     @Test
@@ -188,20 +207,49 @@ class UserServiceTest {
         User user = createUser();
         assertNull(user.getDeletedAt());
 
+        when(repository.updateFields(eq("1"), any(Update.class))).thenAnswer(applyUpdate(user));
+
         service.delete(user);
 
-        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(repository).save(userCaptor.capture());
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(repository).updateFields(eq("1"), updateCaptor.capture());
 
-        User savedEntity = userCaptor.getValue();
+        Document set = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+        assertEquals(Set.of("deletedAt"), set.keySet());
+        verify(repository, never()).save(any(User.class));
+        verify(principalCacheService).evict("user@teste.com");
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao atualizar um usuário excluído durante a requisição.")
+    void testUpdate_ShouldThrowEntityNotFoundExceptionWhenUserWasDeleted() {
+        User user = createUser();
+        UserUpdateRequestDto dto = new UserUpdateRequestDto("user@teste.com", "Teste da Silva");
+
+        when(repository.updateFields(eq("1"), any(Update.class))).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> service.update(dto, user));
+        verifyNoInteractions(principalCacheService);
+    }
 
-        assertNotNull(savedEntity.getDeletedAt());
+    Answer<Optional<User>> applyUpdate(User user) {
+        return invocation -> {
+            Update update = invocation.getArgument(1);
+            Document set = update.getUpdateObject().get("$set", Document.class);
+            return Optional.of(user.toBuilder()
+                    .email(set.getString("email") != null ? set.getString("email") : user.getEmail())
+                    .name(set.getString("name") != null ? set.getString("name") : user.getName())
+                    .updatedAt(set.get("updatedAt") != null ? set.get("updatedAt", Instant.class) : user.getUpdatedAt())
+                    .deletedAt(set.get("deletedAt", Instant.class))
+                    .password(null)
+                    .build());
+        };
     }
 
     User createUser() {
-        String time = ZonedDateTime
+        Instant time = ZonedDateTime
                 .of(2025, 10, 15, 12, 5, 10, 15, ZoneId.of("America/Sao_Paulo"))
-                .toString();
+                .toInstant();
 
         return User.builder()
                 .id("1")
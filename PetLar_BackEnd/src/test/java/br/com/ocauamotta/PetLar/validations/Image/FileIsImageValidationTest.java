@@ -24,7 +24,7 @@ class FileIsImageValidationTest {
                 "image",
                 "image.jpg",
                 "image/jpeg",
-                new byte[1_000_000]);
+                withHeader(new byte[1_000_000], 0xFF, 0xD8, 0xFF, 0xE0));
 
         assertDoesNotThrow(() -> fileIsImageValidation.validate(image));
     }
@@ -36,8 +36,39 @@ class FileIsImageValidationTest {
                 "file",
                 "document.pdf",
                 "application/pdf",
-                new byte[1_000_000]);
+                withHeader(new byte[1_000_000], '%', 'P', 'D', 'F'));
 
         assertThrows(IllegalArgumentException.class, () -> fileIsImageValidation.validate(image));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o conteúdo não for imagem, mesmo com Content-Type de imagem.")
+    void testValidate_ShouldThrowExceptionWhenContentTypeIsSpoofed() {
+        MockMultipartFile image = new MockMultipartFile(
+                "image",
+                "image.png",
+                "image/png",
+                withHeader(new byte[1_000], '%', 'P', 'D', 'F'));
+
+        assertThrows(IllegalArgumentException.class, () -> fileIsImageValidation.validate(image));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar uma imagem WEBP identificada pela assinatura do conteúdo.")
+    void testValidate_ShouldAcceptWebpByContent() {
+        MockMultipartFile image = new MockMultipartFile(
+                "image",
+                "image",
+                "application/octet-stream",
+                withHeader(new byte[1_000], 'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'));
+
+        assertDoesNotThrow(() -> fileIsImageValidation.validate(image));
+    }
+
+    byte[] withHeader(byte[] content, int... header) {
+        for (int i = 0; i < header.length; i++) {
+            content[i] = (byte) header[i];
+        }
+        return content;
+    }
+}